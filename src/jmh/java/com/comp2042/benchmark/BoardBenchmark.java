@@ -0,0 +1,92 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.controller.HeadlessGameView;
+import com.comp2042.logic.GameController;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+import com.comp2042.view.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks board-level operations: building view data after a move and
+ * a complete hard drop through the game controller.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    private static final long SEED = 2042;
+
+    /**
+     * Board with a brick at the spawn position, reused across invocations.
+     */
+    @State(Scope.Thread)
+    public static class ViewState {
+
+        @Param
+        BoardFill fill;
+
+        SimpleBoard board;
+
+        @Setup
+        public void setUp() {
+            board = new SimpleBoard(BoardFill.ROWS, BoardFill.COLS, new SeededBrickGenerator(SEED, RandomizerMode.SEVEN_BAG));
+            board.loadBoard(fill.createMatrix());
+            board.createNewBrick();
+        }
+    }
+
+    /**
+     * Fresh game on a prefilled board for every hard drop, so each lock
+     * starts from the same fill level.
+     */
+    @State(Scope.Thread)
+    public static class DropState {
+
+        @Param
+        BoardFill fill;
+
+        int[][] matrix;
+        GameController gameController;
+
+        @Setup(Level.Trial)
+        public void createMatrix() {
+            matrix = fill.createMatrix();
+        }
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            SimpleBoard board = new SimpleBoard(BoardFill.ROWS, BoardFill.COLS, new SeededBrickGenerator(SEED, RandomizerMode.SEVEN_BAG));
+            gameController = new GameController(new HeadlessGameView(), board);
+            board.loadBoard(matrix);
+        }
+    }
+
+    @Benchmark
+    public ViewData getViewData(ViewState state) {
+        return state.board.getViewData();
+    }
+
+    @Benchmark
+    public GameController hardDrop(DropState state) {
+        state.gameController.onHardDropEvent();
+        return state.gameController;
+    }
+}
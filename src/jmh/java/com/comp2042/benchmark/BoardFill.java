@@ -0,0 +1,41 @@
+package com.comp2042.benchmark;
+
+/**
+ * Deterministic board fill levels used by the benchmarks.
+ * Filled rows always leave one gap, placed at a different column per row,
+ * so no row is complete and the stack has a realistic ragged surface.
+ */
+public enum BoardFill {
+    EMPTY(0),
+    HALF_FULL(12),
+    NEAR_TOPOUT(20);
+
+    public static final int ROWS = 25;
+    public static final int COLS = 10;
+
+    private final int filledRows;
+
+    BoardFill(int filledRows) {
+        this.filledRows = filledRows;
+    }
+
+    /**
+     * Creates a new board matrix at this fill level.
+     *
+     * @return a ROWS x COLS matrix with the bottom rows filled.
+     */
+    public int[][] createMatrix() {
+        int[][] matrix = new int[ROWS][COLS];
+
+        for (int i = 0; i < filledRows; i++) {
+            int row = ROWS - 1 - i;
+            int gap = (i * 3) % COLS;
+            for (int col = 0; col < COLS; col++) {
+                if (col != gap) {
+                    matrix[row][col] = 1 + (row + col) % 7;
+                }
+            }
+        }
+        return matrix;
+    }
+}
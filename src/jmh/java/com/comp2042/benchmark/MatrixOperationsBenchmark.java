@@ -0,0 +1,77 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.clear.ClearRow;
+import com.comp2042.logic.movement.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the raw matrix operations used on every move and lock.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixOperationsBenchmark {
+
+    private static final int[][] T_BRICK = {
+            {0, 0, 0, 0},
+            {6, 6, 6, 0},
+            {0, 6, 0, 0},
+            {0, 0, 0, 0}
+    };
+
+    @Param
+    private BoardFill fill;
+
+    private int[][] matrix;
+    private int[][] scratch;
+
+    @Setup
+    public void setUp() {
+        matrix = fill.createMatrix();
+        scratch = MatrixOperations.copy(matrix);
+    }
+
+    /**
+     * Sweeps the brick over every column of every row, as ghost and move probes do.
+     */
+    @Benchmark
+    public void intersectSweep(Blackhole blackhole) {
+        for (int y = 0; y < BoardFill.ROWS; y++) {
+            for (int x = -1; x < BoardFill.COLS; x++) {
+                blackhole.consume(MatrixOperations.intersect(matrix, T_BRICK, x, y));
+            }
+        }
+    }
+
+    @Benchmark
+    public int[][] mergeCopy() {
+        return MatrixOperations.merge(matrix, T_BRICK, 3, 0);
+    }
+
+    @Benchmark
+    public int[][] mergeInPlace() {
+        MatrixOperations.mergeInPlace(scratch, T_BRICK, 3, 0);
+        return scratch;
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix, 1);
+    }
+}
@@ -0,0 +1,80 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.controller.HeadlessGameView;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.movement.MoveEvent;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a full headless game from the first spawn to game over,
+ * with random rotations and shifts before every hard drop.
+ * Bricks and moves both come from fixed seeds, so every build plays the same games.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayoutBenchmark {
+
+    private static final int MAX_PIECES = 10_000;
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+
+    private static final long SEED = 2042;
+
+    @Param
+    RandomizerMode mode;
+
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(SEED);
+    }
+
+    @Benchmark
+    public int randomGame() {
+        SimpleBoard board = new SimpleBoard(BoardFill.ROWS, BoardFill.COLS,
+                new SeededBrickGenerator(random.nextLong(), mode));
+        GameController gameController = new GameController(new HeadlessGameView(), board);
+        int pieces = 0;
+
+        while (!gameController.isGameOver() && pieces < MAX_PIECES) {
+            for (int i = random.nextInt(4); i > 0; i--) {
+                gameController.onRotateEvent(ROTATE);
+            }
+            int shift = random.nextInt(11) - 5;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    gameController.onLeftEvent(LEFT);
+                } else {
+                    gameController.onRightEvent(RIGHT);
+                }
+            }
+            gameController.onHardDropEvent();
+            pieces++;
+        }
+        return gameController.getBoard().getScore().getValue();
+    }
+}
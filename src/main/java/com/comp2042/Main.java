@@ -1,7 +1,16 @@
 package com.comp2042;
 
 import com.comp2042.logic.GameController;
+import com.comp2042.logic.input.AutoShift;
+import com.comp2042.logic.replay.RecordingInputListener;
+import com.comp2042.logic.replay.ReplayWriter;
+import com.comp2042.logic.scoring.ScoringStrategy;
+import com.comp2042.logic.scoring.ScoringType;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
 import com.comp2042.view.gui.GuiController;
+import com.comp2042.view.render.RendererType;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -10,6 +19,7 @@ import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Paths;
 
 /**
  * Main application entry point for the Tetris game.
@@ -21,6 +31,17 @@ public class Main extends Application {
     private static final String FXML_LAYOUT = "gameLayout.fxml";
     private static final int WINDOW_WIDTH = 500;
     private static final int WINDOW_HEIGHT = 700;
+    private static final String RENDERER_PARAMETER = "renderer";
+    private static final String RENDERER_PROPERTY = "tetris.renderer";
+    private static final String DAS_PARAMETER = "das";
+    private static final String ARR_PARAMETER = "arr";
+    private static final String SEED_PARAMETER = "seed";
+    private static final String RANDOMIZER_PARAMETER = "randomizer";
+    private static final String PREVIEW_PARAMETER = "preview";
+    private static final String RECORD_PARAMETER = "record";
+    private static final String SCORING_PARAMETER = "scoring";
+
+    private ReplayWriter replayWriter;
 
     /**
      * Starts the JavaFX application and initializes the game.
@@ -41,6 +62,11 @@ public class Main extends Application {
 
         // Get the controller from this single load
         GuiController guiController = fxmlLoader.getController();
+        guiController.setRendererType(resolveRendererType());
+        guiController.setAutoShiftTiming(
+                readIntParameter(DAS_PARAMETER, AutoShift.DEFAULT_DAS_MS),
+                readIntParameter(ARR_PARAMETER, AutoShift.DEFAULT_ARR_MS)
+        );
 
         // Setup stage
         primaryStage.setTitle(WINDOW_TITLE);
@@ -51,7 +77,99 @@ public class Main extends Application {
         primaryStage.centerOnScreen();
 
         // Initialize game controller with the correct GUI controller
-        new GameController(guiController);
+        startGame(guiController);
+    }
+
+    /**
+     * Closes the replay being recorded, if any.
+     *
+     * @throws IOException if the replay cannot be written.
+     */
+    @Override
+    public void stop() throws IOException {
+        if (replayWriter != null) {
+            replayWriter.close();
+        }
+    }
+
+    /**
+     * Creates the game controller. A --seed=... argument makes the brick sequence
+     * reproducible, --randomizer=seven_bag deals bricks from shuffled bags,
+     * --preview=n sets how many upcoming bricks are shown, --record=file additionally
+     * writes every input to a replay file, and --scoring=guideline switches to
+     * guideline scoring.
+     *
+     * @param guiController is the view of the game.
+     * @throws IOException if the replay file cannot be created.
+     */
+    private void startGame(GuiController guiController) throws IOException {
+        String recordPath = getParameters().getNamed().get(RECORD_PARAMETER);
+        ScoringStrategy scoring = ScoringType.fromName(getParameters().getNamed().get(SCORING_PARAMETER)).create();
+        long seed = parseSeed(getParameters().getNamed().get(SEED_PARAMETER));
+        RandomizerMode mode = RandomizerMode.fromName(getParameters().getNamed().get(RANDOMIZER_PARAMETER));
+        int previewDepth = Math.max(1,
+                readIntParameter(PREVIEW_PARAMETER, SeededBrickGenerator.DEFAULT_PREVIEW_DEPTH));
+
+        SimpleBoard board = new SimpleBoard(GameController.BOARD_HEIGHT, GameController.BOARD_WIDTH,
+                new SeededBrickGenerator(seed, mode, previewDepth));
+        GameController gameController = new GameController(guiController, board, scoring);
+        guiController.setEventBus(gameController.getEventBus());
+
+        if (recordPath != null) {
+            replayWriter = new ReplayWriter(Paths.get(recordPath), seed, mode);
+            guiController.setEventListener(new RecordingInputListener(
+                    gameController, replayWriter, guiController.getGameClock()::getTotalTicks));
+        }
+    }
+
+    /**
+     * Parses the seed argument, choosing a fresh seed when it is missing or invalid.
+     *
+     * @param value is the seed argument, may be null.
+     * @return the seed.
+     */
+    private long parseSeed(String value) {
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                // Fall through to a fresh seed
+            }
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Reads the renderer choice from the --renderer=... launch argument,
+     * falling back to the tetris.renderer system property.
+     *
+     * @return the selected renderer type, NODES by default.
+     */
+    private RendererType resolveRendererType() {
+        String name = getParameters().getNamed().get(RENDERER_PARAMETER);
+        if (name == null) {
+            name = System.getProperty(RENDERER_PROPERTY);
+        }
+        return RendererType.fromName(name);
+    }
+
+    /**
+     * Reads a whole-number launch argument such as --das=100.
+     *
+     * @param name is the parameter name.
+     * @param defaultValue is returned when the parameter is missing or not a number.
+     * @return the parameter value.
+     */
+    private int readIntParameter(String name, int defaultValue) {
+        String value = getParameters().getNamed().get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
     }
 
     /**
@@ -0,0 +1,54 @@
+package com.comp2042.controller;
+
+import com.comp2042.logic.clear.LockResult;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.view.ViewData;
+
+import java.util.List;
+
+/**
+ * Receives state updates from the game engine.
+ * The engine only talks to its view through this interface, so it can run
+ * without JavaFX behind a headless implementation.
+ */
+public interface GameView {
+
+    void setEventListener(InputEventListener eventListener);
+
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    void refreshBrick(ViewData brick);
+
+    void refreshGameBackground(int[][] board);
+
+    /**
+     * Receives the upcoming bricks whenever a brick spawns.
+     *
+     * @param preview is the preview queue, next brick first.
+     */
+    void updatePreview(List<Brick> preview);
+
+    /**
+     * Receives what changed when a brick locked. It is sent before the matching
+     * {@link #refreshGameBackground(int[][])}, so a view can repaint only the changed cells.
+     *
+     * @param lockResult describes the lock.
+     */
+    void onBrickLocked(LockResult lockResult);
+
+    /**
+     * Receives the current score. May be called several times per frame; a view is
+     * free to show only the latest value once per frame.
+     *
+     * @param score is the exact accumulated score.
+     */
+    void updateScore(long score);
+
+    void updateLinesDisplay(int lines);
+
+    void onLevelUp(int newLevel);
+
+    void showScoreNotification(int scoreBonus);
+
+    void gameOver();
+}
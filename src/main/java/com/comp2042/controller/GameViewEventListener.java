@@ -0,0 +1,49 @@
+package com.comp2042.controller;
+
+import com.comp2042.event.game.GameEvent;
+import com.comp2042.event.game.GameEventListener;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Forwards game events to the matching {@link GameView} notifications:
+ * lines, level and score pop-ups and the game over screen.
+ */
+public final class GameViewEventListener implements GameEventListener {
+
+    private final GameView gameView;
+
+    /**
+     * Creates a new GameViewEventListener.
+     *
+     * @param gameView is the view that receives the notifications.
+     */
+    public GameViewEventListener(GameView gameView) {
+        this.gameView = Objects.requireNonNull(gameView, "Game view cannot be null");
+    }
+
+    @Override
+    public void onEvents(List<GameEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            GameEvent event = events.get(i);
+            switch (event.getType()) {
+                case LINE_CLEAR:
+                    gameView.updateLinesDisplay(event.getValue());
+                    gameView.showScoreNotification(event.getLockResult().getClearScore());
+                    break;
+                case LEVEL_UP:
+                    gameView.onLevelUp(event.getValue());
+                    break;
+                case GAME_OVER:
+                    gameView.gameOver();
+                    break;
+                case NEW_GAME:
+                    gameView.updateLinesDisplay(0);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
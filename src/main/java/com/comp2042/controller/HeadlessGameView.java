@@ -0,0 +1,58 @@
+package com.comp2042.controller;
+
+import com.comp2042.logic.clear.LockResult;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.view.ViewData;
+
+import java.util.List;
+
+/**
+ * GameView that renders nothing.
+ * Used to run the game engine without a user interface, e.g. for simulations and replays.
+ */
+public class HeadlessGameView implements GameView {
+
+    @Override
+    public void setEventListener(InputEventListener eventListener) {
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+    }
+
+    @Override
+    public void refreshBrick(ViewData brick) {
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board) {
+    }
+
+    @Override
+    public void updatePreview(List<Brick> preview) {
+    }
+
+    @Override
+    public void onBrickLocked(LockResult lockResult) {
+    }
+
+    @Override
+    public void updateScore(long score) {
+    }
+
+    @Override
+    public void updateLinesDisplay(int lines) {
+    }
+
+    @Override
+    public void onLevelUp(int newLevel) {
+    }
+
+    @Override
+    public void showScoreNotification(int scoreBonus) {
+    }
+
+    @Override
+    public void gameOver() {
+    }
+}
@@ -1,5 +1,6 @@
 package com.comp2042.controller;
 
+import com.comp2042.event.EventType;
 import com.comp2042.logic.clear.DownData;
 import com.comp2042.logic.movement.MoveEvent;
 import com.comp2042.view.ViewData;
@@ -14,5 +15,11 @@ public interface InputEventListener {
 
     ViewData onRotateEvent(MoveEvent event);
 
+    ViewData onWallShiftEvent(MoveEvent event);
+
+    boolean canShift(EventType direction);
+
+    void onHardDropEvent();
+
     void createNewGame();
 }
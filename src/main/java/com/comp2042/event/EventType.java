@@ -1,5 +1,5 @@
 package com.comp2042.event;
 
 public enum EventType {
-    DOWN, LEFT, RIGHT, ROTATE
+    DOWN, LEFT, RIGHT, ROTATE, HARD_DROP, LEFT_WALL, RIGHT_WALL
 }
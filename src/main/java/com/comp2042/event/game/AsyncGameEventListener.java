@@ -0,0 +1,108 @@
+package com.comp2042.event.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves event batches off the simulation thread.
+ * Each batch is copied into a bounded queue and delivered to the wrapped listener by a
+ * daemon thread, so slow consumers such as telemetry never stall a tick. When the queue
+ * is full the batch is dropped and counted rather than blocking the simulation.
+ */
+public final class AsyncGameEventListener implements GameEventListener, AutoCloseable {
+
+    /** Private instance compared by identity; List.copyOf of an empty batch returns the shared List.of(). */
+    private static final List<GameEvent> POISON = new ArrayList<>(0);
+
+    private final GameEventListener delegate;
+    private final BlockingQueue<List<GameEvent>> queue;
+    private final AtomicLong droppedBatches = new AtomicLong();
+    private final AtomicLong deliveredBatches = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new AsyncGameEventListener and starts its delivery thread.
+     *
+     * @param delegate is the listener called on the delivery thread.
+     * @param capacity is the number of batches that may wait before new ones are dropped.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public AsyncGameEventListener(GameEventListener delegate, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "Listener cannot be null");
+        this.queue = new ArrayBlockingQueue<>(capacity + 1);
+        this.worker = new Thread(this::deliver, "game-event-listener");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void onEvents(List<GameEvent> events) {
+        if (closed || queue.remainingCapacity() <= 1 || !queue.offer(List.copyOf(events))) {
+            droppedBatches.incrementAndGet();
+        }
+    }
+
+    /**
+     * Stops accepting batches and lets the delivery thread finish the queued ones.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            queue.offer(POISON);
+        }
+    }
+
+    /**
+     * Waits for the delivery thread to finish after {@link #close()}.
+     *
+     * @param timeoutMillis is the longest time to wait.
+     * @return true if the thread finished.
+     * @throws InterruptedException if the calling thread is interrupted.
+     */
+    public boolean awaitTermination(long timeoutMillis) throws InterruptedException {
+        worker.join(timeoutMillis);
+        return !worker.isAlive();
+    }
+
+    /**
+     * Gets the number of batches dropped because the queue was full or the listener closed.
+     *
+     * @return the dropped batch count.
+     */
+    public long getDroppedBatches() {
+        return droppedBatches.get();
+    }
+
+    /**
+     * Gets the number of batches handed to the wrapped listener.
+     *
+     * @return the delivered batch count.
+     */
+    public long getDeliveredBatches() {
+        return deliveredBatches.get();
+    }
+
+    private void deliver() {
+        try {
+            while (true) {
+                List<GameEvent> batch = queue.take();
+                if (batch == POISON) {
+                    return;
+                }
+                delegate.onEvents(batch);
+                deliveredBatches.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
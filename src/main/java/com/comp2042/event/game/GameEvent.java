@@ -0,0 +1,106 @@
+package com.comp2042.event.game;
+
+import com.comp2042.logic.clear.LockResult;
+
+import java.util.Objects;
+
+/**
+ * Immutable notification of something that happened in the game.
+ * Holds only primitives and an optional {@link LockResult}, so publishing one costs a
+ * single small allocation. See {@link GameEventType} for the meaning of each field.
+ */
+public final class GameEvent {
+
+    private final GameEventType type;
+    private final int x;
+    private final int y;
+    private final int value;
+    private final LockResult lockResult;
+
+    private GameEvent(GameEventType type, int x, int y, int value, LockResult lockResult) {
+        this.type = Objects.requireNonNull(type, "Event type cannot be null");
+        this.x = x;
+        this.y = y;
+        this.value = value;
+        this.lockResult = lockResult;
+    }
+
+    /**
+     * Creates an event that only carries a position and a value.
+     *
+     * @param type is the event type.
+     * @param x is the x-coordinate of the brick.
+     * @param y is the y-coordinate of the brick.
+     * @param value is the type specific value.
+     * @return the event.
+     */
+    public static GameEvent of(GameEventType type, int x, int y, int value) {
+        return new GameEvent(type, x, y, value, null);
+    }
+
+    /**
+     * Creates an event that only carries a value.
+     *
+     * @param type is the event type.
+     * @param value is the type specific value.
+     * @return the event.
+     */
+    public static GameEvent of(GameEventType type, int value) {
+        return new GameEvent(type, 0, 0, value, null);
+    }
+
+    /**
+     * Creates a {@link GameEventType#LOCK} event.
+     *
+     * @param x is the x-coordinate the brick locked at.
+     * @param y is the y-coordinate the brick locked at.
+     * @param lockResult is what changed when the brick locked.
+     * @return the event.
+     */
+    public static GameEvent lock(int x, int y, LockResult lockResult) {
+        Objects.requireNonNull(lockResult, "Lock result cannot be null");
+        return new GameEvent(GameEventType.LOCK, x, y, lockResult.getScoreDelta(), lockResult);
+    }
+
+    /**
+     * Creates a {@link GameEventType#LINE_CLEAR} event.
+     *
+     * @param lockResult is the lock that cleared the rows.
+     * @param totalLines is the total number of lines cleared this game.
+     * @return the event.
+     */
+    public static GameEvent lineClear(LockResult lockResult, int totalLines) {
+        Objects.requireNonNull(lockResult, "Lock result cannot be null");
+        return new GameEvent(GameEventType.LINE_CLEAR, 0, 0, totalLines, lockResult);
+    }
+
+    public GameEventType getType() {
+        return type;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the lock that caused this event.
+     *
+     * @return the lock result for LOCK and LINE_CLEAR events, null otherwise.
+     */
+    public LockResult getLockResult() {
+        return lockResult;
+    }
+
+    @Override
+    public String toString() {
+        return type + "(" + x + ", " + y + ", " + value + ")";
+    }
+}
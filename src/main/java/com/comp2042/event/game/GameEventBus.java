@@ -0,0 +1,144 @@
+package com.comp2042.event.game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Collects the events the game publishes and hands them to listeners in batches.
+ * Between {@link #beginBatch()} and the matching {@link #endBatch()} events are only
+ * appended to a list; the whole batch is dispatched once the outermost batch ends, so a
+ * simulation tick pays one list append per event no matter how many listeners exist.
+ * Events published outside a batch are dispatched immediately.
+ * Publishing and batching must happen on the simulation thread; listeners may be
+ * added or removed from any thread.
+ */
+public final class GameEventBus {
+
+    private final List<GameEventListener> listeners = new CopyOnWriteArrayList<>();
+    private List<GameEvent> pending = new ArrayList<>();
+    private List<GameEvent> dispatching = new ArrayList<>();
+    private int batchDepth;
+    private long batchesDispatched;
+
+    /**
+     * Adds a listener that is called on the simulation thread at the end of every batch.
+     *
+     * @param listener is the listener to add.
+     */
+    public void subscribe(GameEventListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+
+    /**
+     * Adds a listener that is called on its own thread, fed through a bounded queue of batches.
+     * Close the returned listener to stop its thread.
+     *
+     * @param listener is the listener to add.
+     * @param capacity is the number of batches that may wait before new ones are dropped.
+     * @return the subscription, used to close it and read its drop count.
+     */
+    public AsyncGameEventListener subscribeAsync(GameEventListener listener, int capacity) {
+        AsyncGameEventListener async = new AsyncGameEventListener(listener, capacity);
+        subscribe(async);
+        return async;
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener is the listener to remove.
+     * @return true if the listener was subscribed.
+     */
+    public boolean unsubscribe(GameEventListener listener) {
+        boolean removed = listeners.remove(listener);
+        if (removed && listener instanceof AsyncGameEventListener) {
+            ((AsyncGameEventListener) listener).close();
+        }
+        return removed;
+    }
+
+    /**
+     * Starts a batch. Batches nest; only the outermost one dispatches.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch, dispatching the pending events if it was the outermost one.
+     *
+     * @throws IllegalStateException if no batch is open.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch is open");
+        }
+        if (--batchDepth == 0) {
+            dispatch();
+        }
+    }
+
+    /**
+     * Publishes an event. It is dispatched with the current batch, or immediately if none is open.
+     *
+     * @param event is the event to publish.
+     */
+    public void publish(GameEvent event) {
+        pending.add(Objects.requireNonNull(event, "Event cannot be null"));
+        if (batchDepth == 0) {
+            dispatch();
+        }
+    }
+
+    /**
+     * Gets the number of events waiting for the current batch to end.
+     *
+     * @return the pending event count.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Gets the number of non-empty batches handed to listeners so far.
+     *
+     * @return the dispatched batch count.
+     */
+    public long getBatchesDispatched() {
+        return batchesDispatched;
+    }
+
+    /**
+     * Hands the pending events to every listener. The pending and dispatching lists are
+     * swapped first, so a listener that publishes starts the next batch instead of
+     * modifying the one being dispatched.
+     */
+    private void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<GameEvent> batch = pending;
+        pending = dispatching;
+        dispatching = batch;
+        batchesDispatched++;
+
+        batchDepth++;
+        try {
+            List<GameEvent> view = Collections.unmodifiableList(batch);
+            for (GameEventListener listener : listeners) {
+                listener.onEvents(view);
+            }
+        } finally {
+            batch.clear();
+            batchDepth--;
+        }
+
+        if (!pending.isEmpty()) {
+            dispatch();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.comp2042.event.game;
+
+import java.util.List;
+
+/**
+ * Receives batches of game events from a {@link GameEventBus}.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Handles the events published since the last dispatch, in publish order.
+     * The list is read-only and only valid for the duration of the call.
+     *
+     * @param events are the events of one batch, never empty.
+     */
+    void onEvents(List<GameEvent> events);
+}
@@ -0,0 +1,32 @@
+package com.comp2042.event.game;
+
+/**
+ * Kinds of {@link GameEvent} published by the game engine.
+ * The comment of each constant describes what the event's x, y and value fields hold.
+ */
+public enum GameEventType {
+
+    /** A new brick entered the board. x and y are its position, value is its colour. */
+    SPAWN,
+
+    /** The falling brick moved. x and y are its new position, value is the number of cells moved. */
+    MOVE,
+
+    /** The falling brick rotated. x and y are its position, value is the new rotation index. */
+    ROTATE,
+
+    /** The falling brick locked. x and y are its position, value is the score gained; carries the lock result. */
+    LOCK,
+
+    /** A lock cleared rows. value is the total lines cleared this game; carries the lock result. */
+    LINE_CLEAR,
+
+    /** The level went up. value is the new level. */
+    LEVEL_UP,
+
+    /** The spawned brick could not be placed. value is the final score. */
+    GAME_OVER,
+
+    /** The board was reset for a new game. */
+    NEW_GAME
+}
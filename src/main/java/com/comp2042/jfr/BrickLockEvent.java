@@ -0,0 +1,29 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a landed brick being merged into the board.
+ */
+@Name("com.comp2042.BrickLock")
+@Label("Brick Lock")
+@Category({"Tetris", "Board"})
+@Description("A landed brick was merged into the board")
+@StackTrace(false)
+public final class BrickLockEvent extends Event {
+
+    @Label("Column")
+    public int x;
+
+    @Label("Row")
+    public int y;
+
+    @Label("Filled Cells")
+    @Description("Filled cells on the board after the merge")
+    public int filledCells;
+}
@@ -0,0 +1,28 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a new brick entering the board, timed over brick
+ * selection and the spawn collision check.
+ */
+@Name("com.comp2042.BrickSpawn")
+@Label("Brick Spawn")
+@Category({"Tetris", "Board"})
+@Description("A new brick was spawned")
+@StackTrace(false)
+public final class BrickSpawnEvent extends Event {
+
+    @Label("Brick Colour")
+    @Description("Colour code of the spawned brick, which identifies its type")
+    public int brick;
+
+    @Label("Game Over")
+    @Description("Whether the brick could not spawn and ended the game")
+    public boolean gameOver;
+}
@@ -0,0 +1,28 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one gravity step of the game clock, timed over the
+ * whole step including any lock, clear and spawn it causes.
+ */
+@Name("com.comp2042.GravityTick")
+@Label("Gravity Tick")
+@Category({"Tetris", "Loop"})
+@Description("The falling brick was moved down by gravity")
+@StackTrace(false)
+public final class GravityTickEvent extends Event {
+
+    @Label("Tick")
+    @Description("Simulation tick the step ran on")
+    public long tick;
+
+    @Label("Frames Per Row")
+    @Description("Gravity interval at the current level, in ticks")
+    public int framesPerRow;
+}
@@ -0,0 +1,25 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the game reaching a new level.
+ */
+@Name("com.comp2042.LevelUp")
+@Label("Level Up")
+@Category({"Tetris", "Board"})
+@Description("The game reached a new level")
+@StackTrace(false)
+public final class LevelUpEvent extends Event {
+
+    @Label("Level")
+    public int level;
+
+    @Label("Total Lines")
+    public int totalLines;
+}
@@ -0,0 +1,28 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the complete-row check after a lock, timed over
+ * row removal and level progress.
+ */
+@Name("com.comp2042.LineClear")
+@Label("Line Clear")
+@Category({"Tetris", "Board"})
+@Description("Complete rows were checked and removed after a lock")
+@StackTrace(false)
+public final class LineClearEvent extends Event {
+
+    @Label("Lines")
+    @Description("Number of rows removed, possibly 0")
+    public int lines;
+
+    @Label("Score")
+    @Description("Points awarded for the removed rows")
+    public int score;
+}
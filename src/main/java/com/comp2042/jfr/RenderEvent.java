@@ -0,0 +1,33 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one render pass of the game view.
+ */
+@Name("com.comp2042.Render")
+@Label("Render Pass")
+@Category({"Tetris", "View"})
+@Description("The board background or the falling brick was redrawn")
+@StackTrace(false)
+public final class RenderEvent extends Event {
+
+    public static final String BRICK = "brick";
+    public static final String BACKGROUND = "background";
+
+    @Label("Pass")
+    @Description("What was redrawn: brick or background")
+    public String pass;
+
+    @Label("Renderer")
+    public String renderer;
+
+    @Label("Cells Touched")
+    @Description("Cells the renderer updated during the pass")
+    public long cellsTouched;
+}
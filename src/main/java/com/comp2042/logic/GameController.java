@@ -1,43 +1,87 @@
 package com.comp2042.logic;
 
+import com.comp2042.controller.GameView;
+import com.comp2042.controller.GameViewEventListener;
 import com.comp2042.controller.InputEventListener;
 import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.game.GameEvent;
+import com.comp2042.event.game.GameEventBus;
+import com.comp2042.event.game.GameEventType;
 import com.comp2042.logic.clear.ClearRow;
 import com.comp2042.logic.clear.DownData;
+import com.comp2042.logic.clear.LockResult;
 import com.comp2042.logic.movement.MoveEvent;
+import com.comp2042.logic.scoring.ClassicScoring;
+import com.comp2042.logic.scoring.ScoringStrategy;
+import com.comp2042.logic.scoring.TSpin;
+import com.comp2042.logic.scoring.TSpinDetector;
 import com.comp2042.model.board.Board;
 import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.score.Score;
 import com.comp2042.view.ViewData;
-import com.comp2042.view.gui.GuiController;
+
+import java.util.Objects;
 
 /**
  * Main game logic controller that acts as a bridge between the game logic (Board)
- * and the user interface (GuiController).
+ * and the user interface (GameView).
  * Handles player input events and coordinates game state updates.
+ * Renders through direct {@link GameView} calls and reports everything else (spawns, moves,
+ * locks, clears, level ups, game over) as {@link GameEvent}s on its {@link GameEventBus}.
+ * Has no JavaFX dependency, so it can run headless with a {@link com.comp2042.controller.HeadlessGameView}.
  */
 public class GameController implements InputEventListener {
 
-    private static final int BOARD_HEIGHT = 25;
-    private static final int BOARD_WIDTH = 10;
+    public static final int BOARD_HEIGHT = 25;
+    public static final int BOARD_WIDTH = 10;
     private static final int SOFT_DROP_POINTS = 1;
     private static final int HARD_DROP_POINTS_PER_ROW = 2;
 
     private Board board;
-    private final GuiController viewGuiController;
+    private final GameView gameView;
+    private final GameEventBus eventBus = new GameEventBus();
+    private final ScoringStrategy scoring;
+    private TSpin lastSpin = TSpin.NONE;
     private int previousLevel;
     private int totalLines;
+    private boolean gameOver;
 
     /**
      * Creates a new GameController and initializes the game.
      *
-     * @param guiController is the GUI controller for view updates.
+     * @param gameView is the view that receives game updates.
+     */
+    public GameController(GameView gameView) {
+        this(gameView, new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH));
+    }
+
+    /**
+     * Creates a new GameController on the given board implementation and initializes the game.
+     *
+     * @param gameView is the view that receives game updates.
+     * @param board is the board the game is played on.
      */
-    public GameController(GuiController guiController) {
-        this.viewGuiController = guiController;
-        this.board = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH);
+    public GameController(GameView gameView, Board board) {
+        this(gameView, board, new ClassicScoring());
+    }
+
+    /**
+     * Creates a new GameController with the given scoring rules and initializes the game.
+     *
+     * @param gameView is the view that receives game updates.
+     * @param board is the board the game is played on.
+     * @param scoring is the rule set that awards points for each lock.
+     */
+    public GameController(GameView gameView, Board board, ScoringStrategy scoring) {
+        this.gameView = gameView;
+        this.board = board;
+        this.scoring = Objects.requireNonNull(scoring, "Scoring strategy cannot be null");
         this.previousLevel = 1;
         this.totalLines = 0;
 
+        eventBus.subscribe(new GameViewEventListener(gameView));
         initializeGame();
     }
 
@@ -46,89 +90,179 @@ public class GameController implements InputEventListener {
      */
     private void initializeGame() {
         board.createNewBrick();
-        viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
+        gameView.setEventListener(this);
+        gameView.initGameView(board.getBoardMatrix(), board.getViewData());
+        publishScore();
+        publishSpawn();
     }
 
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-
-        if (!canMove) {
-            clearRow = handleBrickLanding();
-        } else {
-            handleSoftDrop(event);
+        if (gameOver) {
+            return new DownData(null, board.getViewData());
         }
 
-        return new DownData(clearRow, board.getViewData());
+        eventBus.beginBatch();
+        try {
+            boolean canMove = board.moveBrickDown();
+            LockResult lockResult = null;
+
+            if (!canMove) {
+                lockResult = handleBrickLanding();
+            } else {
+                publishMove(1);
+                handleSoftDrop(event);
+            }
+
+            return new DownData(lockResult, board.getViewData());
+        } finally {
+            eventBus.endBatch();
+        }
     }
 
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
+        if (!gameOver && board.moveBrickLeft()) {
+            publishMove(1);
+        }
         return board.getViewData();
     }
 
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
+        if (!gameOver && board.moveBrickRight()) {
+            publishMove(1);
+        }
         return board.getViewData();
     }
 
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
+        if (!gameOver && board.rotateLeftBrick()) {
+            lastSpin = TSpinDetector.detect(board.getBoardMatrix(),
+                    board.getCurrentBrick().getShape(board.getCurrentRotation()),
+                    board.getCurrentX(), board.getCurrentY());
+            eventBus.publish(GameEvent.of(GameEventType.ROTATE, board.getCurrentX(), board.getCurrentY(),
+                    board.getCurrentRotation()));
+        }
         return board.getViewData();
     }
 
+    @Override
+    public ViewData onWallShiftEvent(MoveEvent event) {
+        if (!gameOver) {
+            int moved = board.moveBrickToWall(event.getEventType() == EventType.LEFT_WALL ? -1 : 1);
+            if (moved > 0) {
+                publishMove(moved);
+            }
+        }
+        return board.getViewData();
+    }
+
+    /**
+     * Checks whether the falling brick can move one column towards the given side,
+     * e.g. to skip a wall shift that would not move it.
+     *
+     * @param direction is LEFT or RIGHT.
+     * @return true if the brick can move at least one column that way.
+     */
+    @Override
+    public boolean canShift(EventType direction) {
+        return !gameOver && board.canMoveBrick(direction == EventType.LEFT ? -1 : 1, 0);
+    }
+
     @Override
     public void createNewGame() {
-        board.newGame();
-        totalLines = 0;
-        previousLevel = 1;
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        viewGuiController.updateLinesDisplay(0);
+        eventBus.beginBatch();
+        try {
+            board.newGame();
+            totalLines = 0;
+            previousLevel = 1;
+            gameOver = false;
+            lastSpin = TSpin.NONE;
+            gameView.refreshGameBackground(board.getBoardMatrix());
+            eventBus.publish(GameEvent.of(GameEventType.NEW_GAME, 0));
+            publishScore();
+            publishSpawn();
+        } finally {
+            eventBus.endBatch();
+        }
     }
 
     /**
      * Handles the hard drop action where the brick instantly falls to the bottom.
      */
+    @Override
     public void onHardDropEvent() {
-        int dropDistance = calculateDropDistance();
+        if (gameOver) {
+            return;
+        }
 
-        board.mergeBrickToBackground();
-        ClearRow clearRow = board.clearRows();
+        eventBus.beginBatch();
+        try {
+            int dropDistance = board.hardDropBrick();
+            if (dropDistance > 0) {
+                publishMove(dropDistance);
+            }
 
-        updateScoreForHardDrop(dropDistance, clearRow);
-        handleRowClearing(clearRow);
+            lockBrick(true, dropDistance);
+            spawnNextBrick();
 
-        if (board.createNewBrick()) {
-            viewGuiController.gameOver();
+            refreshView();
+        } finally {
+            eventBus.endBatch();
         }
-
-        refreshView();
     }
 
     /**
      * Handles brick landing logic including merging, clearing rows, and creating new brick.
      *
-     * @return the ClearRow result after processing.
+     * @return what changed when the brick locked.
      */
-    private ClearRow handleBrickLanding() {
+    private LockResult handleBrickLanding() {
+        LockResult lockResult = lockBrick(false, 0);
+        spawnNextBrick();
+
+        gameView.refreshGameBackground(board.getBoardMatrix());
+
+        return lockResult;
+    }
+
+    /**
+     * Merges the landed brick, clears rows, applies score and level changes, and
+     * tells the view exactly what changed.
+     *
+     * @param hardDrop is true if the brick was hard dropped.
+     * @param dropDistance is the number of rows the brick was hard dropped.
+     * @return what changed when the brick locked.
+     */
+    private LockResult lockBrick(boolean hardDrop, int dropDistance) {
+        long scoreBefore = board.getScore().getTotal();
+        int levelBefore = board.getLevel();
+        int x = board.getCurrentX();
+        int y = board.getCurrentY();
+        BrickShape shape = board.getCurrentBrick().getShape(board.getCurrentRotation());
+
         board.mergeBrickToBackground();
         ClearRow clearRow = board.clearRows();
 
-        handleRowClearing(clearRow);
-
-        if (board.createNewBrick()) {
-            viewGuiController.gameOver();
+        if (hardDrop) {
+            updateScoreForHardDrop(dropDistance);
         }
+        int clearScore = scoreLock(clearRow, levelBefore);
+        handleRowClearing(clearRow, clearScore);
+        publishScore();
 
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        LockResult lockResult = LockResult.of(shape, x, y, clearRow,
+                (int) (board.getScore().getTotal() - scoreBefore), clearScore, levelBefore, board.getLevel());
+        gameView.onBrickLocked(lockResult);
 
-        return clearRow;
+        eventBus.publish(GameEvent.lock(x, y, lockResult));
+        if (lockResult.getLinesCleared() > 0) {
+            eventBus.publish(GameEvent.lineClear(lockResult, totalLines));
+        }
+        checkAndHandleLevelUp();
+        return lockResult;
     }
 
     /**
@@ -139,70 +273,106 @@ public class GameController implements InputEventListener {
     private void handleSoftDrop(MoveEvent event) {
         if (event.getEventSource() == EventSource.USER) {
             board.getScore().add(SOFT_DROP_POINTS);
+            publishScore();
         }
     }
 
     /**
-     * Handles row clearing, score updates, and level progression.
+     * Records the lock in the combo and back-to-back streaks and asks the scoring
+     * rules for its points. Uses the board's filled cell count, so detecting a
+     * perfect clear costs nothing.
      *
-     * @param clearRow represents the row clearing result.
+     * @param clearRow is the row clearing result.
+     * @param level is the level the brick locked at.
+     * @return the points for the lock, not counting drop points.
      */
-    private void handleRowClearing(ClearRow clearRow) {
-        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
-            board.getScore().add(clearRow.getScoreBonus());
-
-            totalLines += clearRow.getLinesRemoved();
-            viewGuiController.updateLinesDisplay(totalLines);
+    private int scoreLock(ClearRow clearRow, int level) {
+        int lines = clearRow.getLinesRemoved();
+        Score score = board.getScore();
+        TSpin spin = lastSpin;
+        lastSpin = TSpin.NONE;
+
+        score.recordLock(lines, scoring.isDifficult(lines, spin));
+        return scoring.scoreLock(clearRow, level, spin, board.getFilledCellCount() == 0, score);
+    }
 
-            checkAndHandleLevelUp();
-        }
+    /**
+     * Handles row clearing and score updates.
+     *
+     * @param clearRow represents the row clearing result.
+     * @param points is the score awarded for the lock.
+     */
+    private void handleRowClearing(ClearRow clearRow, int points) {
+        board.getScore().add(points);
+        totalLines += clearRow.getLinesRemoved();
     }
 
     /**
-     * Checks if the player has leveled up and updates the view accordingly.
+     * Checks if the player has leveled up and publishes the new level.
      */
     private void checkAndHandleLevelUp() {
-        int currentLevel = ((SimpleBoard) board).getLevel();
+        int currentLevel = board.getLevel();
         if (currentLevel != previousLevel) {
-            viewGuiController.onLevelUp(currentLevel);
+            eventBus.publish(GameEvent.of(GameEventType.LEVEL_UP, currentLevel));
             previousLevel = currentLevel;
         }
     }
 
     /**
-     * Calculates how far the brick will drop during a hard drop.
+     * Updates the score for a hard drop action.
      *
-     * @return the number of rows the brick dropped
+     * @param dropDistance is the distance the brick dropped.
      */
-    private int calculateDropDistance() {
-        int dropDistance = 0;
-        while (board.moveBrickDown()) {
-            dropDistance++;
+    private void updateScoreForHardDrop(int dropDistance) {
+        board.getScore().add(dropDistance * HARD_DROP_POINTS_PER_ROW);
+    }
+
+    /**
+     * Spawns the next brick and reports game over if it cannot be placed.
+     */
+    private void spawnNextBrick() {
+        if (board.createNewBrick()) {
+            gameOver = true;
+            eventBus.publish(GameEvent.of(GameEventType.GAME_OVER, board.getScore().getValue()));
+        } else {
+            publishSpawn();
         }
-        return dropDistance;
     }
 
     /**
-     * Updates the score for a hard drop action.
+     * Publishes the spawn of the current brick and shows the bricks queued behind it.
+     */
+    private void publishSpawn() {
+        eventBus.publish(GameEvent.of(GameEventType.SPAWN, board.getCurrentX(), board.getCurrentY(),
+                board.getCurrentBrick().getShape(0).getColor()));
+        gameView.updatePreview(board.getPreview());
+    }
+
+    /**
+     * Publishes a move of the falling brick to its current position. A move after a
+     * rotation means the brick was not spun into place, so any T-spin is forgotten.
      *
-     * @param dropDistance is the distance the brick dropped.
-     * @param clearRow is the row clearing result.
+     * @param cells is the number of cells the brick moved.
      */
-    private void updateScoreForHardDrop(int dropDistance, ClearRow clearRow) {
-        board.getScore().add(dropDistance * HARD_DROP_POINTS_PER_ROW);
+    private void publishMove(int cells) {
+        lastSpin = TSpin.NONE;
+        eventBus.publish(GameEvent.of(GameEventType.MOVE, board.getCurrentX(), board.getCurrentY(), cells));
+    }
 
-        if (clearRow.getLinesRemoved() > 0) {
-            board.getScore().add(clearRow.getScoreBonus());
-            viewGuiController.showScoreNotification(clearRow.getScoreBonus());
-        }
+    /**
+     * Pushes the current score to the view. Called once per change of state rather
+     * than once per point award, so a lock publishes a single update.
+     */
+    private void publishScore() {
+        gameView.updateScore(board.getScore().getTotal());
     }
 
     /**
      * Refreshes all view components.
      */
     private void refreshView() {
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        viewGuiController.refreshBrick(board.getViewData());
+        gameView.refreshGameBackground(board.getBoardMatrix());
+        gameView.refreshBrick(board.getViewData());
     }
 
     /**
@@ -213,4 +383,33 @@ public class GameController implements InputEventListener {
     public Board getBoard() {
         return board;
     }
+
+    /**
+     * Gets the bus the game publishes its events on. Subscribe to it to observe the
+     * game without changing the controller, and open a batch around a simulation tick
+     * to have everything the tick published dispatched together.
+     *
+     * @return the event bus.
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Checks whether the last spawned brick ended the game.
+     *
+     * @return true if the game is over, false otherwise.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the number of lines cleared in the current game.
+     *
+     * @return the total lines cleared.
+     */
+    public int getTotalLines() {
+        return totalLines;
+    }
 }
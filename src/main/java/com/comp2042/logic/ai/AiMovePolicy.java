@@ -0,0 +1,79 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.movement.MoveEvent;
+import com.comp2042.logic.sim.MovePolicy;
+import com.comp2042.model.board.Board;
+import com.comp2042.model.board.BoardHash;
+import com.comp2042.model.board.SimpleBoard;
+
+import java.util.Objects;
+
+/**
+ * Move policy that plays the placement chosen by a {@link PlacementSearch}:
+ * it rotates the brick in place, slides it to the chosen column and hard drops it.
+ */
+public final class AiMovePolicy implements MovePolicy {
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER, 0);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER, 0);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER, 0);
+
+    /** Entries in the evaluation cache of each policy, about 1.3 MB. */
+    public static final int DEFAULT_CACHE_CAPACITY = 1 << 16;
+
+    private final PlacementSearch search;
+
+    /**
+     * Creates a new AiMovePolicy with a parallel, cached two-brick search.
+     *
+     * @param weights are the heuristic weights to play with.
+     */
+    public AiMovePolicy(HeuristicWeights weights) {
+        this(new PlacementSearch(new BoardEvaluator(weights), true, new EvaluationCache(DEFAULT_CACHE_CAPACITY)));
+    }
+
+    /**
+     * Creates a new AiMovePolicy.
+     *
+     * @param search chooses each placement.
+     */
+    public AiMovePolicy(PlacementSearch search) {
+        this.search = Objects.requireNonNull(search, "Search cannot be null");
+    }
+
+    @Override
+    public void playPiece(GameController game) {
+        Board board = game.getBoard();
+        // Read the start position once; every move below refills the board's view snapshots
+        int startX = board.getCurrentX();
+        int startY = board.getCurrentY();
+        int rotation = board.getCurrentRotation();
+        int rotationCount = board.getCurrentBrick().getRotationCount();
+
+        int[][] matrix = board.getBoardMatrix();
+        long hash = board instanceof SimpleBoard simpleBoard ? simpleBoard.getBoardHash() : BoardHash.hash(matrix);
+
+        Placement placement = search.findBest(matrix, hash, board.getCurrentBrick(), rotation,
+                startX, startY, board.getNextBrick());
+
+        if (placement != null) {
+            for (int turns = (placement.getRotation() - rotation + rotationCount) % rotationCount; turns > 0; turns--) {
+                game.onRotateEvent(ROTATE);
+            }
+            for (int x = startX; x > placement.getX(); x--) {
+                game.onLeftEvent(LEFT);
+            }
+            for (int x = startX; x < placement.getX(); x++) {
+                game.onRightEvent(RIGHT);
+            }
+        }
+        game.onHardDropEvent();
+    }
+
+    public PlacementSearch getSearch() {
+        return search;
+    }
+}
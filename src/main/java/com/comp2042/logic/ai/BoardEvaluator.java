@@ -0,0 +1,88 @@
+package com.comp2042.logic.ai;
+
+import java.util.Objects;
+
+/**
+ * Scores a board with a weighted sum of aggregate height, lines cleared, holes and bumpiness.
+ * All features are gathered in a single column scan without allocating, and the
+ * evaluator holds no mutable state, so one instance can be shared between threads.
+ */
+public final class BoardEvaluator {
+
+    private static final int EMPTY_CELL = 0;
+
+    private final HeuristicWeights weights;
+
+    /**
+     * Creates a new BoardEvaluator.
+     *
+     * @param weights are the feature weights.
+     */
+    public BoardEvaluator(HeuristicWeights weights) {
+        this.weights = Objects.requireNonNull(weights, "Weights cannot be null");
+    }
+
+    /**
+     * Scores a board after a placement.
+     *
+     * @param matrix is the board after the placement and any line clears.
+     * @param linesCleared is the number of lines the placement cleared.
+     * @return the board score; higher is better.
+     */
+    public double evaluate(int[][] matrix, int linesCleared) {
+        return evaluateBoard(matrix) + evaluateLines(linesCleared);
+    }
+
+    /**
+     * Scores the line-clear term alone.
+     *
+     * @param linesCleared is the number of lines cleared.
+     * @return the weighted line count.
+     */
+    public double evaluateLines(int linesCleared) {
+        return weights.getLines() * linesCleared;
+    }
+
+    /**
+     * Scores the shape of a board alone, without the line-clear term. The result
+     * depends only on which cells are filled, so it can be cached by board hash.
+     *
+     * @param matrix is the board to score.
+     * @return the weighted height, hole and bumpiness terms.
+     */
+    public double evaluateBoard(int[][] matrix) {
+        int rows = matrix.length;
+        int cols = matrix[0].length;
+        int aggregateHeight = 0;
+        int holes = 0;
+        int bumpiness = 0;
+        int previousHeight = -1;
+
+        for (int col = 0; col < cols; col++) {
+            int height = 0;
+            for (int row = 0; row < rows; row++) {
+                if (matrix[row][col] != EMPTY_CELL) {
+                    if (height == 0) {
+                        height = rows - row;
+                    }
+                } else if (height != 0) {
+                    holes++;
+                }
+            }
+
+            aggregateHeight += height;
+            if (previousHeight >= 0) {
+                bumpiness += Math.abs(height - previousHeight);
+            }
+            previousHeight = height;
+        }
+
+        return weights.getAggregateHeight() * aggregateHeight
+                + weights.getHoles() * holes
+                + weights.getBumpiness() * bumpiness;
+    }
+
+    public HeuristicWeights getWeights() {
+        return weights;
+    }
+}
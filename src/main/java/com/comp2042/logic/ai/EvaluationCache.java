@@ -0,0 +1,170 @@
+package com.comp2042.logic.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size transposition cache of search scores keyed by a board hash.
+ * Entries live in two-way buckets. A lookup that hits refreshes the entry's age, and a
+ * store into a full bucket evicts the entry that was used least recently, so memory is
+ * bounded by the capacity given at construction.
+ * The cache takes no locks. Each slot stores the key XORed with the score bits next to
+ * the score bits, so a slot torn by a concurrent write fails the key check and reads
+ * as a miss instead of returning a wrong score.
+ */
+public final class EvaluationCache {
+
+    private static final int WAYS = 2;
+
+    private final long[] checks;
+    private final long[] values;
+    private final int[] ages;
+    private final int bucketMask;
+    private volatile int age;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new EvaluationCache.
+     *
+     * @param capacity is the maximum number of entries, rounded up to a power of two.
+     * @throws IllegalArgumentException if the capacity is less than 2 or above 2^30.
+     */
+    public EvaluationCache(int capacity) {
+        if (capacity < WAYS || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between " + WAYS + " and 2^30");
+        }
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.checks = new long[size];
+        this.values = new long[size];
+        this.ages = new int[size];
+        this.bucketMask = size / WAYS - 1;
+        this.age = 1;
+    }
+
+    /**
+     * Looks up a score.
+     *
+     * @param key is the hash of the searched position.
+     * @param missing is returned when the key is not cached.
+     * @return the cached score, or {@code missing} if there is none.
+     */
+    public double get(long key, double missing) {
+        long check = nonZero(key);
+        int slot = bucket(check);
+
+        for (int way = 0; way < WAYS; way++, slot++) {
+            long value = values[slot];
+            if ((checks[slot] ^ value) == check) {
+                ages[slot] = age;
+                hits.increment();
+                return Double.longBitsToDouble(value);
+            }
+        }
+        misses.increment();
+        return missing;
+    }
+
+    /**
+     * Stores a score, replacing an existing entry for the same key or evicting the
+     * least recently used entry of its bucket.
+     *
+     * @param key is the hash of the searched position.
+     * @param score is the score to cache.
+     */
+    public void put(long key, double score) {
+        long check = nonZero(key);
+        int first = bucket(check);
+        int target = first;
+
+        for (int slot = first; slot < first + WAYS; slot++) {
+            if ((checks[slot] ^ values[slot]) == check || ages[slot] == 0) {
+                target = slot;
+                break;
+            }
+            if (ages[slot] < ages[target]) {
+                target = slot;
+            }
+        }
+        if (ages[target] != 0 && (checks[target] ^ values[target]) != check) {
+            evictions.increment();
+        }
+
+        long value = Double.doubleToRawLongBits(score);
+        values[target] = value;
+        checks[target] = check ^ value;
+        ages[target] = age;
+    }
+
+    /**
+     * Starts a new search generation. Entries touched in older generations are
+     * evicted before entries touched in the current one.
+     */
+    public void nextGeneration() {
+        age++;
+    }
+
+    /**
+     * Removes every entry and resets the metrics.
+     */
+    public void clear() {
+        Arrays.fill(checks, 0);
+        Arrays.fill(values, 0);
+        Arrays.fill(ages, 0);
+        age = 1;
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    public int getCapacity() {
+        return checks.length;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the fraction of lookups that found a cached score.
+     *
+     * @return the hit rate between 0 and 1, or 0 if nothing was looked up.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("capacity=%d hits=%d misses=%d evictions=%d hitRate=%.1f%%",
+                getCapacity(), getHits(), getMisses(), getEvictions(), getHitRate() * 100);
+    }
+
+    /**
+     * Gets the first slot of the bucket of a key, folding the high half of the key
+     * into the index.
+     */
+    private int bucket(long check) {
+        return ((int) (check ^ (check >>> 32)) & bucketMask) * WAYS;
+    }
+
+    /**
+     * Maps the key 0, which an empty slot would match, to another value.
+     */
+    private static long nonZero(long key) {
+        return key == 0 ? 1 : key;
+    }
+}
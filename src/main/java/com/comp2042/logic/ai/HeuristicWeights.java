@@ -0,0 +1,79 @@
+package com.comp2042.logic.ai;
+
+import java.util.Arrays;
+
+/**
+ * Weights of the board features scored by {@link BoardEvaluator}.
+ * Positive weights reward a feature and negative weights penalise it.
+ */
+public final class HeuristicWeights {
+
+    public static final int FEATURE_COUNT = 4;
+
+    /** Well-known hand-tuned weights that clear lines steadily. */
+    public static final HeuristicWeights DEFAULT = new HeuristicWeights(-0.510066, 0.760666, -0.35663, -0.184483);
+
+    private final double aggregateHeight;
+    private final double lines;
+    private final double holes;
+    private final double bumpiness;
+
+    /**
+     * Creates a new HeuristicWeights.
+     *
+     * @param aggregateHeight is the weight of the summed column heights.
+     * @param lines is the weight of the lines cleared by the placement.
+     * @param holes is the weight of empty cells covered by a filled cell.
+     * @param bumpiness is the weight of the summed height differences of neighbouring columns.
+     */
+    public HeuristicWeights(double aggregateHeight, double lines, double holes, double bumpiness) {
+        this.aggregateHeight = aggregateHeight;
+        this.lines = lines;
+        this.holes = holes;
+        this.bumpiness = bumpiness;
+    }
+
+    /**
+     * Creates weights from a vector in {@link #toArray()} order.
+     *
+     * @param vector is the weight vector.
+     * @return the weights.
+     * @throws IllegalArgumentException if the vector has the wrong length.
+     */
+    public static HeuristicWeights fromArray(double[] vector) {
+        if (vector.length != FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + FEATURE_COUNT + " weights but got " + vector.length);
+        }
+        return new HeuristicWeights(vector[0], vector[1], vector[2], vector[3]);
+    }
+
+    /**
+     * Gets the weights as a vector: aggregate height, lines, holes, bumpiness.
+     *
+     * @return a new weight vector.
+     */
+    public double[] toArray() {
+        return new double[]{aggregateHeight, lines, holes, bumpiness};
+    }
+
+    public double getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    public double getLines() {
+        return lines;
+    }
+
+    public double getHoles() {
+        return holes;
+    }
+
+    public double getBumpiness() {
+        return bumpiness;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,37 @@
+package com.comp2042.logic.ai;
+
+/**
+ * A final resting place of a brick: its rotation index and column offset,
+ * plus the score the search gave it.
+ */
+public final class Placement {
+
+    private final int rotation;
+    private final int x;
+    private final double score;
+
+    /**
+     * Creates a new Placement.
+     *
+     * @param rotation is the rotation index of the brick.
+     * @param x is the x-coordinate of the brick.
+     * @param score is the evaluated score of the placement.
+     */
+    public Placement(int rotation, int x, double score) {
+        this.rotation = rotation;
+        this.x = x;
+        this.score = score;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,284 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.movement.MatrixOperations;
+import com.comp2042.model.board.BoardHash;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickShape;
+
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Finds the best placement for the current brick with a one-brick lookahead.
+ * Every (rotation, column) the brick can reach by rotating in place and then sliding
+ * sideways is dropped onto a scratch copy of the board, cleared with
+ * {@link MatrixOperations#removeCompleteRows(int[][])}, and scored by the best
+ * placement of the next brick on the result. First-level candidates are scored in
+ * parallel; each worker thread reuses its own scratch boards, so the search does not
+ * allocate per candidate.
+ * With an {@link EvaluationCache}, board scores and lookahead results are cached by
+ * {@link BoardHash}, which the search keeps up to date as it drops bricks. Rotations
+ * that produce the same shape and different move orders that reach the same board
+ * are then scored once.
+ */
+public final class PlacementSearch {
+
+    /** Spawn position of new bricks, matching the game boards. */
+    private static final int SPAWN_X = 4;
+    private static final int SPAWN_Y = 0;
+
+    /** Score of a placement after which the next brick cannot spawn. */
+    private static final double TOP_OUT_SCORE = -1e9;
+
+    /** Odd multiplier spreading a brick colour over the bits of a lookahead cache key. */
+    private static final long BRICK_KEY_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final BoardEvaluator evaluator;
+    private final boolean parallel;
+    private final EvaluationCache cache;
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * Creates a new PlacementSearch.
+     *
+     * @param evaluator scores the boards reached by each placement.
+     * @param parallel is true to score first-level candidates on the fork-join pool.
+     */
+    public PlacementSearch(BoardEvaluator evaluator, boolean parallel) {
+        this(evaluator, parallel, null);
+    }
+
+    /**
+     * Creates a new PlacementSearch that caches scores.
+     *
+     * @param evaluator scores the boards reached by each placement.
+     * @param parallel is true to score first-level candidates on the fork-join pool.
+     * @param cache holds scores between and within searches, or null to disable caching.
+     *              It must only be shared between searches with the same evaluator.
+     */
+    public PlacementSearch(BoardEvaluator evaluator, boolean parallel, EvaluationCache cache) {
+        this.evaluator = Objects.requireNonNull(evaluator, "Evaluator cannot be null");
+        this.parallel = parallel;
+        this.cache = cache;
+    }
+
+    /**
+     * Finds the best placement for a brick.
+     *
+     * @param board is the board the brick is falling on; it is not modified.
+     * @param brick is the falling brick.
+     * @param rotation is the brick's current rotation index.
+     * @param x is the brick's current x-coordinate.
+     * @param y is the brick's current y-coordinate.
+     * @param nextBrick is the brick that spawns next, or null to search without lookahead.
+     * @return the best placement, or null if the brick cannot move at all.
+     */
+    public Placement findBest(int[][] board, Brick brick, int rotation, int x, int y, Brick nextBrick) {
+        return findBest(board, cache == null ? 0 : BoardHash.hash(board), brick, rotation, x, y, nextBrick);
+    }
+
+    /**
+     * Finds the best placement for a brick on a board whose hash is already known,
+     * e.g. from {@link com.comp2042.model.board.SimpleBoard#getBoardHash()}.
+     *
+     * @param board is the board the brick is falling on; it is not modified.
+     * @param boardHash is the {@link BoardHash} of the board.
+     * @param brick is the falling brick.
+     * @param rotation is the brick's current rotation index.
+     * @param x is the brick's current x-coordinate.
+     * @param y is the brick's current y-coordinate.
+     * @param nextBrick is the brick that spawns next, or null to search without lookahead.
+     * @return the best placement, or null if the brick cannot move at all.
+     */
+    public Placement findBest(int[][] board, long boardHash, Brick brick, int rotation, int x, int y,
+                              Brick nextBrick) {
+        if (cache != null) {
+            cache.nextGeneration();
+        }
+
+        int maxCandidates = brick.getRotationCount() * board[0].length;
+        int[] rotations = new int[maxCandidates];
+        int[] columns = new int[maxCandidates];
+        int count = enumerate(board, brick, rotation, x, y, rotations, columns);
+        if (count == 0) {
+            return null;
+        }
+
+        double[] scores = new double[count];
+        IntStream candidates = IntStream.range(0, count);
+        if (parallel) {
+            candidates = candidates.parallel();
+        }
+        candidates.forEach(i -> scores[i] = scoreCandidate(board, boardHash, brick, rotations[i], columns[i], y, nextBrick));
+
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        return new Placement(rotations[best], columns[best], scores[best]);
+    }
+
+    /**
+     * Drops one first-level candidate and scores it by the best follow-up placement.
+     */
+    private double scoreCandidate(int[][] board, long boardHash, Brick brick, int rotation, int x, int y,
+                                  Brick nextBrick) {
+        Scratch work = scratch.get();
+        work.ensureSize(board.length, board[0].length);
+
+        int lines = place(board, boardHash, work.first, brick.getShape(rotation), x, y, work);
+        long firstHash = work.placedHash;
+        if (nextBrick == null) {
+            return scoreBoard(work.first, firstHash) + evaluator.evaluateLines(lines);
+        }
+        return scoreLookahead(work, firstHash, nextBrick) + evaluator.evaluateLines(lines);
+    }
+
+    /**
+     * Scores the board in the first scratch slot by the best placement of the next brick,
+     * leaving out the lines cleared on the way to that board.
+     */
+    private double scoreLookahead(Scratch work, long firstHash, Brick nextBrick) {
+        long key = firstHash ^ (nextBrick.getShape(0).getColor() * BRICK_KEY_MULTIPLIER);
+        if (cache != null) {
+            double cached = cache.get(key, Double.NaN);
+            if (!Double.isNaN(cached)) {
+                return cached;
+            }
+        }
+
+        double best;
+        BrickShape spawnShape = nextBrick.getShape(0);
+        if (MatrixOperations.intersect(work.first, spawnShape.getMatrix(), SPAWN_X, SPAWN_Y)) {
+            best = TOP_OUT_SCORE + scoreBoard(work.first, firstHash);
+        } else {
+            int count = enumerate(work.first, nextBrick, 0, SPAWN_X, SPAWN_Y, work.rotations, work.columns);
+            best = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                int nextLines = place(work.first, firstHash, work.second, nextBrick.getShape(work.rotations[i]),
+                        work.columns[i], SPAWN_Y, work);
+                best = Math.max(best, scoreBoard(work.second, work.placedHash) + evaluator.evaluateLines(nextLines));
+            }
+        }
+
+        if (cache != null) {
+            cache.put(key, best);
+        }
+        return best;
+    }
+
+    /**
+     * Scores the shape of a board, through the cache when there is one.
+     */
+    private double scoreBoard(int[][] matrix, long hash) {
+        if (cache == null) {
+            return evaluator.evaluateBoard(matrix);
+        }
+
+        double cached = cache.get(hash, Double.NaN);
+        if (Double.isNaN(cached)) {
+            cached = evaluator.evaluateBoard(matrix);
+            cache.put(hash, cached);
+        }
+        return cached;
+    }
+
+    public EvaluationCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Lists the placements reachable by rotating in place, then sliding sideways.
+     *
+     * @return the number of placements written to the output arrays.
+     */
+    private static int enumerate(int[][] board, Brick brick, int rotation, int x, int y,
+                                 int[] rotations, int[] columns) {
+        int count = 0;
+        int current = rotation;
+
+        for (int turn = 0; turn < brick.getRotationCount(); turn++) {
+            int[][] shape = brick.getShape(current).getMatrix();
+            if (turn > 0 && MatrixOperations.intersect(board, shape, x, y)) {
+                break;
+            }
+
+            int left = x;
+            while (!MatrixOperations.intersect(board, shape, left - 1, y)) {
+                left--;
+            }
+            int right = x;
+            while (!MatrixOperations.intersect(board, shape, right + 1, y)) {
+                right++;
+            }
+
+            for (int col = left; col <= right && count < rotations.length; col++) {
+                rotations[count] = current;
+                columns[count] = col;
+                count++;
+            }
+            current = (current + 1) % brick.getRotationCount();
+        }
+        return count;
+    }
+
+    /**
+     * Copies a board into a scratch board, hard drops a shape onto it and clears full rows.
+     * The hash of the resulting board is left in {@link Scratch#placedHash}: it is updated
+     * with one XOR per dropped cell, and rebuilt only when rows were cleared.
+     *
+     * @return the number of lines cleared.
+     */
+    private int place(int[][] source, long sourceHash, int[][] target, BrickShape shape, int x, int y,
+                      Scratch work) {
+        for (int row = 0; row < source.length; row++) {
+            System.arraycopy(source[row], 0, target[row], 0, source[row].length);
+        }
+
+        int[][] matrix = shape.getMatrix();
+        int landingY = y;
+        while (!MatrixOperations.intersect(target, matrix, x, landingY + 1)) {
+            landingY++;
+        }
+
+        MatrixOperations.mergeInPlace(target, matrix, x, landingY);
+        int lines = MatrixOperations.removeCompleteRows(target);
+
+        if (cache == null) {
+            work.placedHash = 0;
+        } else if (lines == 0) {
+            long hash = sourceHash;
+            for (int cell = 0; cell < shape.getCellCount(); cell++) {
+                hash ^= BoardHash.cellKey(landingY + shape.getCellY(cell), x + shape.getCellX(cell));
+            }
+            work.placedHash = hash;
+        } else {
+            work.placedHash = BoardHash.hash(target);
+        }
+        return lines;
+    }
+
+    /**
+     * Scratch boards and candidate buffers owned by one worker thread.
+     */
+    private static final class Scratch {
+        private static final int MAX_ROTATIONS = 4;
+
+        int[][] first = new int[0][0];
+        int[][] second = new int[0][0];
+        int[] rotations = new int[0];
+        int[] columns = new int[0];
+        long placedHash;
+
+        void ensureSize(int rows, int cols) {
+            if (first.length != rows || first[0].length != cols) {
+                first = new int[rows][cols];
+                second = new int[rows][cols];
+                rotations = new int[MAX_ROTATIONS * cols];
+                columns = new int[MAX_ROTATIONS * cols];
+            }
+        }
+    }
+}
@@ -4,18 +4,42 @@ import com.comp2042.logic.movement.MatrixOperations;
 
 /**
  * Data transfer object that holds the output results after clearing complete rows.
- * Contains the number of lines removed, updated game board after lines cleared, and score bonus.
+ * Contains the number of lines removed, which rows they were, updated game board after lines cleared,
+ * and score bonus.
  */
 public final class ClearRow {
 
     private final int linesRemoved;
     private final int[][] newMatrix;
     private final int scoreBonus;
+    private final long clearedRows;
 
+    /**
+     * Creates a new ClearRow without recording which rows were removed.
+     *
+     * @param linesRemoved is the number of rows removed.
+     * @param newMatrix is the board matrix after the rows were removed.
+     * @param scoreBonus is the score awarded for the removed rows.
+     */
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(linesRemoved, newMatrix, scoreBonus, 0);
+    }
+
+    /**
+     * Creates a new ClearRow.
+     * The matrix is stored by reference, so boards that clear rows in place
+     * can hand over their live matrix without copying it.
+     *
+     * @param linesRemoved is the number of rows removed.
+     * @param newMatrix is the board matrix after the rows were removed.
+     * @param scoreBonus is the score awarded for the removed rows.
+     * @param clearedRows has bit n set if row n, counted before removal, was removed.
+     */
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, long clearedRows) {
         this.linesRemoved = linesRemoved;
         this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
+        this.clearedRows = clearedRows;
     }
 
     public int getLinesRemoved() {
@@ -29,4 +53,13 @@ public final class ClearRow {
     public int getScoreBonus() {
         return scoreBonus;
     }
+
+    /**
+     * Gets the removed rows as a bitmask.
+     *
+     * @return a mask with bit n set if row n, counted before removal, was removed.
+     */
+    public long getClearedRows() {
+        return clearedRows;
+    }
 }
@@ -3,24 +3,29 @@ package com.comp2042.logic.clear;
 import com.comp2042.view.ViewData;
 
 /**
- * Data transfer object containing results when a brick is locked in place.
- * Packages the row clearing results and updated view state.
+ * Data transfer object containing results when a brick is moved down.
+ * Packages the lock result, if the brick locked, and the updated view state.
  */
 public final class DownData {
 
-    private final ClearRow clearRow;
+    private final LockResult lockResult;
     private final ViewData viewData;
 
-    public DownData(ClearRow clearRow, ViewData viewData) {
-        this.clearRow = clearRow;
+    public DownData(LockResult lockResult, ViewData viewData) {
+        this.lockResult = lockResult;
         this.viewData = viewData;
     }
 
-    public ClearRow getClearRow() {
-        return clearRow;
+    /**
+     * Gets what changed when the brick locked.
+     *
+     * @return the lock result, or null if the brick moved down without locking.
+     */
+    public LockResult getLockResult() {
+        return lockResult;
     }
 
     public ViewData getViewData() {
         return viewData;
     }
-}
\ No newline at end of file
+}
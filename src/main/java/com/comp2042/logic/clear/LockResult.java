@@ -0,0 +1,173 @@
+package com.comp2042.logic.clear;
+
+import com.comp2042.model.bricks.BrickShape;
+
+/**
+ * Compact record of what changed when a brick was locked in place: the cells it
+ * filled, the rows it cleared, the score it earned and the level it reached.
+ * Holds only primitives, so listeners can apply the change directly instead of
+ * diffing board snapshots.
+ * Locked cells use board coordinates from before any rows were removed, matching
+ * the cleared row mask.
+ */
+public final class LockResult {
+
+    private static final int MAX_CELLS = Long.SIZE / Short.SIZE;
+    private static final int BITS_PER_CELL = Short.SIZE;
+    private static final int BITS_PER_COORDINATE = Byte.SIZE;
+    private static final int COORDINATE_MASK = 0xFF;
+
+    private final long lockedCells;
+    private final int lockedCellCount;
+    private final int colour;
+    private final long clearedRows;
+    private final int linesCleared;
+    private final int scoreDelta;
+    private final int clearScore;
+    private final int previousLevel;
+    private final int level;
+
+    private LockResult(long lockedCells, int lockedCellCount, int colour, long clearedRows, int linesCleared,
+                       int scoreDelta, int clearScore, int previousLevel, int level) {
+        this.lockedCells = lockedCells;
+        this.lockedCellCount = lockedCellCount;
+        this.colour = colour;
+        this.clearedRows = clearedRows;
+        this.linesCleared = linesCleared;
+        this.scoreDelta = scoreDelta;
+        this.clearScore = clearScore;
+        this.previousLevel = previousLevel;
+        this.level = level;
+    }
+
+    /**
+     * Creates a LockResult for a brick locked at the given position.
+     *
+     * @param shape is the shape of the locked brick.
+     * @param x is the x-coordinate the brick was locked at.
+     * @param y is the y-coordinate the brick was locked at.
+     * @param clearRow is the result of clearing rows after the lock.
+     * @param scoreDelta is the total score awarded for the lock, including drop points.
+     * @param clearScore is the part of the score delta earned by the line clear, spin and perfect clear.
+     * @param previousLevel is the level before the lock.
+     * @param level is the level after the lock.
+     * @return the lock result.
+     * @throws IllegalArgumentException if the shape has too many cells or lies outside 0-255.
+     */
+    public static LockResult of(BrickShape shape, int x, int y, ClearRow clearRow, int scoreDelta,
+                                int clearScore, int previousLevel, int level) {
+        if (shape.getCellCount() > MAX_CELLS) {
+            throw new IllegalArgumentException("A locked brick can have at most " + MAX_CELLS + " cells");
+        }
+
+        long cells = 0;
+        for (int cell = 0; cell < shape.getCellCount(); cell++) {
+            int row = y + shape.getCellY(cell);
+            int col = x + shape.getCellX(cell);
+            if ((row & ~COORDINATE_MASK) != 0 || (col & ~COORDINATE_MASK) != 0) {
+                throw new IllegalArgumentException("Locked cell (" + row + ", " + col + ") is out of range");
+            }
+            long packed = (long) row << BITS_PER_COORDINATE | col;
+            cells |= packed << (cell * BITS_PER_CELL);
+        }
+
+        return new LockResult(cells, shape.getCellCount(), shape.getColor(), clearRow.getClearedRows(),
+                clearRow.getLinesRemoved(), scoreDelta, clearScore, previousLevel, level);
+    }
+
+    public int getLockedCellCount() {
+        return lockedCellCount;
+    }
+
+    /**
+     * Gets the row of a locked cell.
+     *
+     * @param index is the cell index, from 0 to {@link #getLockedCellCount()} - 1.
+     * @return the board row.
+     */
+    public int getLockedRow(int index) {
+        return (int) (lockedCells >>> (index * BITS_PER_CELL + BITS_PER_COORDINATE)) & COORDINATE_MASK;
+    }
+
+    /**
+     * Gets the column of a locked cell.
+     *
+     * @param index is the cell index, from 0 to {@link #getLockedCellCount()} - 1.
+     * @return the board column.
+     */
+    public int getLockedColumn(int index) {
+        return (int) (lockedCells >>> (index * BITS_PER_CELL)) & COORDINATE_MASK;
+    }
+
+    /**
+     * Gets the lowest row the locked brick filled. Cells there are not moved by a
+     * clear when this row lies below every removed row.
+     *
+     * @return the largest locked row index, or -1 if no cells were locked.
+     */
+    public int getLowestLockedRow() {
+        int lowestRow = -1;
+        for (int cell = 0; cell < lockedCellCount; cell++) {
+            lowestRow = Math.max(lowestRow, getLockedRow(cell));
+        }
+        return lowestRow;
+    }
+
+    /**
+     * Gets the colour code written into the locked cells.
+     *
+     * @return the colour code.
+     */
+    public int getColour() {
+        return colour;
+    }
+
+    /**
+     * Gets the removed rows as a bitmask. Boards that do not track row indices
+     * report lines in {@link #getLinesCleared()} with an empty mask.
+     *
+     * @return a mask with bit n set if row n was removed.
+     */
+    public long getClearedRows() {
+        return clearedRows;
+    }
+
+    /**
+     * Gets the lowest removed row, below which the board did not move.
+     *
+     * @return the largest removed row index, or -1 if no rows were removed.
+     */
+    public int getLowestClearedRow() {
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(clearedRows);
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public int getScoreDelta() {
+        return scoreDelta;
+    }
+
+    /**
+     * Gets the points earned by the clear itself, leaving out soft and hard drop points.
+     *
+     * @return the line clear, spin and perfect clear score.
+     */
+    public int getClearScore() {
+        return clearScore;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of levels gained by this lock.
+     *
+     * @return the level change, usually 0 or 1.
+     */
+    public int getLevelChange() {
+        return level - previousLevel;
+    }
+}
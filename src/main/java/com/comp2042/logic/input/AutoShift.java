@@ -0,0 +1,156 @@
+package com.comp2042.logic.input;
+
+import com.comp2042.event.EventType;
+
+/**
+ * Delayed auto shift (DAS) and auto repeat rate (ARR) for sideways movement.
+ * Tracks which direction keys are held and, on each tick, reports how many repeat
+ * shifts came due since the last one. Shift times are kept in nanoseconds rather than
+ * ticks, so repeat spacing does not depend on the frame rate or on OS key repeat.
+ * An ARR of 0 means the brick jumps straight to the wall once DAS has elapsed.
+ */
+public final class AutoShift {
+
+    public static final int DEFAULT_DAS_MS = 167;
+    public static final int DEFAULT_ARR_MS = 33;
+
+    /** Returned by {@link #update(long)} when the brick should slide to the wall. */
+    public static final int TO_WALL = Integer.MAX_VALUE;
+
+    private static final long NANOS_PER_MS = 1_000_000L;
+
+    private long dasNanos;
+    private long arrNanos;
+
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private EventType activeDirection;
+    private long nextShiftNanos;
+
+    /**
+     * Creates a new AutoShift with the default timing.
+     */
+    public AutoShift() {
+        this(DEFAULT_DAS_MS, DEFAULT_ARR_MS);
+    }
+
+    /**
+     * Creates a new AutoShift.
+     *
+     * @param dasMs is the delay before auto repeat starts, in milliseconds.
+     * @param arrMs is the delay between repeats, in milliseconds; 0 slides to the wall.
+     * @throws IllegalArgumentException if either value is negative.
+     */
+    public AutoShift(int dasMs, int arrMs) {
+        setTiming(dasMs, arrMs);
+    }
+
+    /**
+     * Changes the timing. Takes effect from the next key press.
+     *
+     * @param dasMs is the delay before auto repeat starts, in milliseconds.
+     * @param arrMs is the delay between repeats, in milliseconds; 0 slides to the wall.
+     * @throws IllegalArgumentException if either value is negative.
+     */
+    public void setTiming(int dasMs, int arrMs) {
+        if (dasMs < 0 || arrMs < 0) {
+            throw new IllegalArgumentException("DAS and ARR cannot be negative");
+        }
+        this.dasNanos = dasMs * NANOS_PER_MS;
+        this.arrNanos = arrMs * NANOS_PER_MS;
+    }
+
+    /**
+     * Records a direction key press. Repeated presses of a key that is already held
+     * (OS key repeat) are ignored.
+     *
+     * @param direction is LEFT or RIGHT.
+     * @param nowNanos is when the key was pressed.
+     * @return true if this is a new press and the brick should shift once immediately.
+     */
+    public boolean press(EventType direction, long nowNanos) {
+        if (direction == EventType.LEFT) {
+            if (leftHeld) return false;
+            leftHeld = true;
+        } else if (direction == EventType.RIGHT) {
+            if (rightHeld) return false;
+            rightHeld = true;
+        } else {
+            return false;
+        }
+
+        activeDirection = direction;
+        nextShiftNanos = nowNanos + dasNanos;
+        return true;
+    }
+
+    /**
+     * Records a direction key release. If the opposite key is still held it takes
+     * over and waits out a fresh DAS.
+     *
+     * @param direction is LEFT or RIGHT.
+     * @param nowNanos is when the key was released.
+     */
+    public void release(EventType direction, long nowNanos) {
+        if (direction == EventType.LEFT) {
+            leftHeld = false;
+        } else if (direction == EventType.RIGHT) {
+            rightHeld = false;
+        } else {
+            return;
+        }
+
+        if (activeDirection == direction) {
+            activeDirection = null;
+            EventType other = direction == EventType.LEFT ? EventType.RIGHT : EventType.LEFT;
+            if (isHeld(other)) {
+                activeDirection = other;
+                nextShiftNanos = nowNanos + dasNanos;
+            }
+        }
+    }
+
+    /**
+     * Counts the repeat shifts that came due up to the given time.
+     * With an ARR of 0, {@link #TO_WALL} is reported on every update while the key is
+     * held, so a new brick or one whose path has cleared keeps sliding; callers skip
+     * the slide when the brick is already against the wall.
+     *
+     * @param nowNanos is the current time.
+     * @return the number of shifts to apply, {@link #TO_WALL} to slide to the wall, or 0.
+     */
+    public int update(long nowNanos) {
+        if (activeDirection == null || nowNanos < nextShiftNanos) {
+            return 0;
+        }
+        if (arrNanos == 0) {
+            return TO_WALL;
+        }
+
+        long due = 1 + (nowNanos - nextShiftNanos) / arrNanos;
+        nextShiftNanos += due * arrNanos;
+        return (int) Math.min(due, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Gets the direction currently auto shifting.
+     *
+     * @return LEFT, RIGHT, or null if no direction key is held.
+     */
+    public EventType getActiveDirection() {
+        return activeDirection;
+    }
+
+    /**
+     * Forgets all held keys, e.g. when the game is paused.
+     */
+    public void reset() {
+        leftHeld = false;
+        rightHeld = false;
+        activeDirection = null;
+    }
+
+    private boolean isHeld(EventType direction) {
+        return direction == EventType.LEFT ? leftHeld : rightHeld;
+    }
+}
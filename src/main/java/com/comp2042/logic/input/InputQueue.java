@@ -0,0 +1,115 @@
+package com.comp2042.logic.input;
+
+import com.comp2042.logic.movement.MoveEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue of input events between one producer (the key handler)
+ * and one consumer (the simulation tick).
+ * Events are stored in a power-of-two ring; the producer only publishes the tail and
+ * the consumer only publishes the head, so neither side ever blocks or allocates.
+ * When the ring is full new events are dropped and counted.
+ */
+public final class InputQueue {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final MoveEvent[] buffer;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private long droppedEvents;
+
+    /**
+     * Creates a new InputQueue with the default capacity.
+     */
+    public InputQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new InputQueue.
+     *
+     * @param capacity is the maximum number of pending events, rounded up to a power of two.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public InputQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = new MoveEvent[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an event. Must only be called from the producer thread.
+     *
+     * @param event is the event to enqueue.
+     * @return true if the event was queued, false if the queue was full.
+     */
+    public boolean offer(MoveEvent event) {
+        long currentTail = tail.get();
+        if (currentTail - head.get() == buffer.length) {
+            droppedEvents++;
+            return false;
+        }
+        buffer[(int) currentTail & mask] = event;
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Hands every event queued so far to a handler, in arrival order.
+     * Events offered while draining are left for the next drain.
+     * Must only be called from the consumer thread.
+     *
+     * @param handler receives each event.
+     * @return the number of events drained.
+     */
+    public int drain(Consumer<MoveEvent> handler) {
+        long currentHead = head.get();
+        long limit = tail.get();
+        int count = 0;
+
+        while (currentHead < limit) {
+            int index = (int) currentHead & mask;
+            MoveEvent event = buffer[index];
+            buffer[index] = null;
+            currentHead++;
+            head.lazySet(currentHead);
+            handler.accept(event);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Discards all pending events. Must only be called from the consumer thread.
+     */
+    public void clear() {
+        drain(event -> { });
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Gets the number of events rejected because the queue was full.
+     *
+     * @return the dropped event count.
+     */
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+}
@@ -0,0 +1,50 @@
+package com.comp2042.logic.input;
+
+/**
+ * Running statistics of the delay between an input event and its processing.
+ */
+public final class LatencyStats {
+
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records the latency of one processed event.
+     *
+     * @param eventNanos is when the event was created.
+     * @param processedNanos is when its result was handed to the view.
+     */
+    public void record(long eventNanos, long processedNanos) {
+        long latency = Math.max(0, processedNanos - eventNanos);
+        count++;
+        totalNanos += latency;
+        maxNanos = Math.max(maxNanos, latency);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Gets the average latency.
+     *
+     * @return the mean latency in nanoseconds, or 0 if nothing was recorded.
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+}
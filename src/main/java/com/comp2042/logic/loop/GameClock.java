@@ -0,0 +1,233 @@
+package com.comp2042.logic.loop;
+
+import com.comp2042.jfr.GravityTickEvent;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Fixed-timestep simulation clock.
+ * Frame timestamps are fed into an accumulator and converted into a whole number of
+ * ticks at {@link #TICKS_PER_SECOND}, so the game advances at the same rate no matter
+ * how irregular the frames are. Gravity is counted in ticks per row and changes with
+ * the level without restarting the clock.
+ */
+public final class GameClock {
+
+    public static final int TICKS_PER_SECOND = 60;
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+
+    private static final double TICK_MS = 1000.0 / TICKS_PER_SECOND;
+    private static final int BASE_SPEED_MS = 800;
+    private static final int SPEED_DECREASE_PER_LEVEL = 100;
+    private static final int MIN_SPEED_MS = 100;
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final TickListener listener;
+    private final LongSupplier nanoTime;
+
+    private long lastFrameNanos = -1;
+    private long accumulator;
+    private int framesPerRow;
+    private int gravityCounter;
+    private boolean running;
+
+    private long totalTicks;
+    private long lateTicks;
+    private long maxTickNanos;
+    private long windowStartNanos = -1;
+    private long windowTicks;
+    private double ticksPerSecond;
+
+    /**
+     * Creates a new GameClock starting at level 1.
+     *
+     * @param listener is notified of every tick and gravity step.
+     */
+    public GameClock(TickListener listener) {
+        this(listener, System::nanoTime);
+    }
+
+    /**
+     * Creates a new GameClock with a custom time source for measuring tick duration.
+     *
+     * @param listener is notified of every tick and gravity step.
+     * @param nanoTime is the time source used to time tick execution.
+     */
+    GameClock(TickListener listener, LongSupplier nanoTime) {
+        this.listener = Objects.requireNonNull(listener, "Listener cannot be null");
+        this.nanoTime = Objects.requireNonNull(nanoTime, "Time source cannot be null");
+        this.framesPerRow = framesPerRow(1);
+    }
+
+    /**
+     * Calculates the gravity interval for a level.
+     *
+     * @param level is the current level.
+     * @return the number of ticks between gravity steps.
+     */
+    public static int framesPerRow(int level) {
+        int speedMs = Math.max(MIN_SPEED_MS, BASE_SPEED_MS - level * SPEED_DECREASE_PER_LEVEL);
+        return Math.max(1, (int) Math.round(speedMs / TICK_MS));
+    }
+
+    /**
+     * Advances the simulation to a frame timestamp, running every tick that came due.
+     * If the clock fell far behind (e.g. the window was dragged), the backlog is
+     * capped so the game does not fast-forward.
+     *
+     * @param nowNanos is the frame timestamp in nanoseconds.
+     * @return the number of ticks run.
+     */
+    public int advance(long nowNanos) {
+        if (!running) {
+            return 0;
+        }
+        if (lastFrameNanos < 0) {
+            lastFrameNanos = nowNanos;
+            windowStartNanos = nowNanos;
+            return 0;
+        }
+
+        accumulator += Math.max(0, nowNanos - lastFrameNanos);
+        lastFrameNanos = nowNanos;
+
+        accumulator = Math.min(accumulator, MAX_CATCH_UP_TICKS * TICK_NANOS);
+
+        int ticks = 0;
+        while (running && accumulator >= TICK_NANOS) {
+            accumulator -= TICK_NANOS;
+            if (ticks > 0) {
+                lateTicks++;
+            }
+            runTick();
+            ticks++;
+        }
+
+        updateTickRate(nowNanos, ticks);
+        return ticks;
+    }
+
+    /**
+     * Starts or resumes the clock. The next frame only records its timestamp,
+     * so time spent stopped is never replayed. Progress towards the next gravity
+     * step is kept, so pausing and resuming never delays the fall.
+     */
+    public void start() {
+        running = true;
+        lastFrameNanos = -1;
+        accumulator = 0;
+    }
+
+    /**
+     * Clears the progress towards the next gravity step for a new game, so the
+     * first brick falls a full row interval after the clock starts.
+     */
+    public void reset() {
+        accumulator = 0;
+        gravityCounter = 0;
+    }
+
+    /**
+     * Stops the clock; frames passed to {@link #advance(long)} are ignored until restarted.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Sets the level that drives gravity. The progress towards the next gravity
+     * step is kept, so a level change never loses or repeats a step.
+     *
+     * @param level is the new level.
+     */
+    public void setLevel(int level) {
+        framesPerRow = framesPerRow(level);
+    }
+
+    /**
+     * Checks whether the clock is running.
+     *
+     * @return true if frames passed to {@link #advance(long)} run ticks, false if stopped.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the current gravity interval.
+     *
+     * @return the number of ticks between gravity steps at the current level.
+     */
+    public int getFramesPerRow() {
+        return framesPerRow;
+    }
+
+    /**
+     * Gets the number of ticks run since the clock was created.
+     *
+     * @return the total tick count.
+     */
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    /**
+     * Gets the number of ticks that ran to catch up rather than on their own frame.
+     *
+     * @return the late tick count.
+     */
+    public long getLateTicks() {
+        return lateTicks;
+    }
+
+    /**
+     * Gets the longest time a single tick took to run.
+     *
+     * @return the maximum tick duration in nanoseconds.
+     */
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+
+    /**
+     * Gets the tick rate measured over the last full second.
+     *
+     * @return the measured ticks per second, 0 until a second has passed.
+     */
+    public double getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    private void runTick() {
+        long start = nanoTime.getAsLong();
+
+        listener.onTick();
+        if (++gravityCounter >= framesPerRow) {
+            gravityCounter = 0;
+            GravityTickEvent event = new GravityTickEvent();
+            event.begin();
+            listener.onGravity();
+            if (event.shouldCommit()) {
+                event.tick = totalTicks;
+                event.framesPerRow = framesPerRow;
+                event.commit();
+            }
+        }
+        listener.onTickEnd();
+
+        maxTickNanos = Math.max(maxTickNanos, nanoTime.getAsLong() - start);
+        totalTicks++;
+    }
+
+    private void updateTickRate(long nowNanos, int ticks) {
+        windowTicks += ticks;
+        long elapsed = nowNanos - windowStartNanos;
+        if (elapsed >= NANOS_PER_SECOND) {
+            ticksPerSecond = windowTicks * (double) NANOS_PER_SECOND / elapsed;
+            windowTicks = 0;
+            windowStartNanos = nowNanos;
+        }
+    }
+}
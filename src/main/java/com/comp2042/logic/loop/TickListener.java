@@ -0,0 +1,23 @@
+package com.comp2042.logic.loop;
+
+/**
+ * Receives the fixed-rate simulation steps produced by a {@link GameClock}.
+ */
+public interface TickListener {
+
+    /**
+     * Runs one simulation step. Called at a fixed rate regardless of frame rate.
+     */
+    void onTick();
+
+    /**
+     * Moves the falling brick down one row. Called on the tick gravity comes due.
+     */
+    void onGravity();
+
+    /**
+     * Called once the tick, including any gravity step, is complete.
+     */
+    default void onTickEnd() {
+    }
+}
@@ -3,7 +3,7 @@ package com.comp2042.logic.movement;
 import com.comp2042.logic.clear.ClearRow;
 
 import java.util.ArrayDeque;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -94,6 +94,64 @@ public final class MatrixOperations {
         return result;
     }
 
+    /**
+     * Merges a brick directly into the game board at the desired position.
+     * Unlike {@link #merge(int[][], int[][], int, int)}, the board is modified in place
+     * and no new matrix is allocated.
+     *
+     * @param filledFields is the game board to write into.
+     * @param brick which is the brick to merge.
+     * @param x is the x-coordinate where the brick should be placed.
+     * @param y is the y-coordinate where the brick should be placed.
+     */
+    public static void mergeInPlace(int[][] filledFields, int[][] brick, int x, int y) {
+        for (int i = 0; i < brick.length; i++) {
+            for (int j = 0; j < brick[i].length; j++) {
+                if (brick[j][i] != EMPTY_CELL) {
+                    filledFields[y + j][x + i] = brick[j][i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes complete rows directly from the game board.
+     * Surviving rows are shifted down by moving row references with System.arraycopy,
+     * and each removed row array is emptied and reused as a new top row,
+     * so the board is compacted without allocating.
+     *
+     * @param matrix which is the game board matrix to compact in place.
+     * @return the number of rows removed.
+     */
+    public static int removeCompleteRows(int[][] matrix) {
+        int clearedCount = 0;
+        int row = matrix.length - 1;
+
+        while (row >= clearedCount) {
+            if (isRowComplete(matrix[row])) {
+                removeRow(matrix, row);
+                clearedCount++;
+            } else {
+                row--;
+            }
+        }
+        return clearedCount;
+    }
+
+    /**
+     * Removes a single row in place, shifting every row above it down by one.
+     * The removed row array is emptied and placed at the top of the board.
+     *
+     * @param matrix which is the game board matrix.
+     * @param row is the index of the row to remove.
+     */
+    public static void removeRow(int[][] matrix, int row) {
+        int[] removed = matrix[row];
+        System.arraycopy(matrix, 0, matrix, 1, row);
+        Arrays.fill(removed, EMPTY_CELL);
+        matrix[0] = removed;
+    }
+
     /**
      * Checks for complete rows and removes them, returning the result with score.
      *
@@ -105,10 +163,12 @@ public final class MatrixOperations {
         int[][] updatedMatrix = new int[matrix.length][matrix[0].length];
         Deque<int[]> remainingRows = new ArrayDeque<>();
         int clearedCount = 0;
+        long clearedRows = 0;
 
         for (int i = 0; i < matrix.length; i++) {
             if (isRowComplete(matrix[i])) {
                 clearedCount++;
+                clearedRows |= 1L << i;
             } else {
                 remainingRows.add(copyRow(matrix[i]));
             }
@@ -124,7 +184,7 @@ public final class MatrixOperations {
         }
 
         int scoreBonus = calculateScore(clearedCount, level);
-        return new ClearRow(clearedCount, updatedMatrix, scoreBonus);
+        return new ClearRow(clearedCount, updatedMatrix, scoreBonus, clearedRows);
     }
 
     /**
@@ -162,7 +222,7 @@ public final class MatrixOperations {
      * @param level is the current game level.
      * @return the calculated score bonus.
      */
-    private static int calculateScore(int linesCleared, int level) {
+    public static int calculateScore(int linesCleared, int level) {
         int baseScore;
         switch (linesCleared) {
             case 1: baseScore = SINGLE_LINE_SCORE; break;
@@ -5,24 +5,46 @@ import com.comp2042.event.EventType;
 
 /**
  * Represents a movement event in the game.
- * Contains the type of movement and the source that triggered it.
+ * Contains the type of movement, the source that triggered it and when it was created,
+ * so input latency can be measured once the event is processed.
  */
 public final class MoveEvent {
     private final EventType eventType;
     private final EventSource eventSource;
+    private final long timestampNanos;
 
     /**
-     * Creates a new MoveEvent.
+     * Creates a new MoveEvent stamped with the current time.
      *
      * @param eventType defines the type of movement event
      * @param eventSource is the source that triggered the event
      */
     public MoveEvent(EventType eventType, EventSource eventSource) {
+        this(eventType, eventSource, System.nanoTime());
+    }
+
+    /**
+     * Creates a new MoveEvent with an explicit timestamp.
+     *
+     * @param eventType defines the type of movement event
+     * @param eventSource is the source that triggered the event
+     * @param timestampNanos is when the event was created, from {@link System#nanoTime()}
+     */
+    public MoveEvent(EventType eventType, EventSource eventSource, long timestampNanos) {
         this.eventType = eventType;
         this.eventSource = eventSource;
+        this.timestampNanos = timestampNanos;
+    }
+
+    public EventType getEventType() {
+        return eventType;
     }
 
     public EventSource getEventSource() {
         return eventSource;
     }
-}
\ No newline at end of file
+
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+}
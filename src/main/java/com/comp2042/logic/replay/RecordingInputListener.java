@@ -0,0 +1,99 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.controller.InputEventListener;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.logic.clear.DownData;
+import com.comp2042.logic.movement.MoveEvent;
+import com.comp2042.view.ViewData;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Input listener decorator that records every event to a replay before passing
+ * it on, so the game can later be played back exactly.
+ */
+public final class RecordingInputListener implements InputEventListener {
+
+    private final InputEventListener delegate;
+    private final ReplayWriter writer;
+    private final LongSupplier tickSource;
+
+    /**
+     * Creates a new RecordingInputListener.
+     *
+     * @param delegate is the listener that applies the events to the game.
+     * @param writer is the replay being recorded.
+     * @param tickSource supplies the current simulation tick.
+     */
+    public RecordingInputListener(InputEventListener delegate, ReplayWriter writer, LongSupplier tickSource) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate cannot be null");
+        this.writer = Objects.requireNonNull(writer, "Writer cannot be null");
+        this.tickSource = Objects.requireNonNull(tickSource, "Tick source cannot be null");
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        record(event);
+        return delegate.onDownEvent(event);
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        record(event);
+        return delegate.onLeftEvent(event);
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        record(event);
+        return delegate.onRightEvent(event);
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        record(event);
+        return delegate.onRotateEvent(event);
+    }
+
+    @Override
+    public ViewData onWallShiftEvent(MoveEvent event) {
+        record(event);
+        return delegate.onWallShiftEvent(event);
+    }
+
+    /**
+     * Only queries the game, so nothing is recorded.
+     */
+    @Override
+    public boolean canShift(EventType direction) {
+        return delegate.canShift(direction);
+    }
+
+    @Override
+    public void onHardDropEvent() {
+        record(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+        delegate.onHardDropEvent();
+    }
+
+    @Override
+    public void createNewGame() {
+        try {
+            writer.writeNewGame(tickSource.getAsLong());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record new game", e);
+        }
+        delegate.createNewGame();
+    }
+
+    private void record(MoveEvent event) {
+        try {
+            writer.write(tickSource.getAsLong(), event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record replay event", e);
+        }
+    }
+}
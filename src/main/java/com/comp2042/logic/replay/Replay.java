@@ -0,0 +1,167 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.model.bricks.RandomizerMode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A replay loaded into memory: the brick generator settings plus every recorded
+ * record as parallel arrays of ticks and event codes.
+ */
+public final class Replay {
+
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+
+    private final long seed;
+    private final RandomizerMode mode;
+    private final long[] ticks;
+    private final byte[] codes;
+    private final int size;
+
+    private Replay(long seed, RandomizerMode mode, long[] ticks, byte[] codes, int size) {
+        this.seed = seed;
+        this.mode = mode;
+        this.ticks = ticks;
+        this.codes = codes;
+        this.size = size;
+    }
+
+    /**
+     * Reads a replay file.
+     *
+     * @param path is the replay file.
+     * @return the loaded replay.
+     * @throws IOException if the file cannot be read or is not a valid replay.
+     */
+    public static Replay read(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the whole file is buffered
+            }
+        }
+        buffer.flip();
+
+        if (buffer.remaining() < ReplayFormat.HEADER_SIZE || buffer.getInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not a replay file: " + path);
+        }
+        byte version = buffer.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        long seed = buffer.getLong();
+        int modeOrdinal = buffer.get();
+        if (modeOrdinal < 0 || modeOrdinal >= RandomizerMode.values().length) {
+            throw new IOException("Unknown randomizer mode " + modeOrdinal);
+        }
+
+        int capacity = Math.max(16, buffer.remaining() / 2);
+        long[] ticks = new long[capacity];
+        byte[] codes = new byte[capacity];
+        int size = 0;
+        long tick = 0;
+
+        while (buffer.hasRemaining()) {
+            tick += getVarLong(buffer);
+            if (!buffer.hasRemaining()) {
+                throw new IOException("Truncated replay record");
+            }
+            if (size == ticks.length) {
+                ticks = Arrays.copyOf(ticks, size * 2);
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            byte code = buffer.get();
+            if ((code & 0xFF) != ReplayFormat.NEW_GAME
+                    && (ReplayFormat.decodeType(code & 0xFF) >= TYPES.length
+                    || ReplayFormat.decodeSource(code & 0xFF) >= SOURCES.length)) {
+                throw new IOException("Unknown replay event code " + (code & 0xFF));
+            }
+            ticks[size] = tick;
+            codes[size] = code;
+            size++;
+        }
+
+        return new Replay(seed, RandomizerMode.values()[modeOrdinal], ticks, codes, size);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public RandomizerMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the number of records, including new game markers.
+     *
+     * @return the record count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the tick a record was applied on.
+     *
+     * @param index is the record index.
+     * @return the tick.
+     */
+    public long getTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Checks whether a record marks the start of a new game.
+     *
+     * @param index is the record index.
+     * @return true for a new game marker.
+     */
+    public boolean isNewGame(int index) {
+        return (codes[index] & 0xFF) == ReplayFormat.NEW_GAME;
+    }
+
+    /**
+     * Gets the event type of a record.
+     *
+     * @param index is the record index; must not be a new game marker.
+     * @return the event type.
+     */
+    public EventType getEventType(int index) {
+        return TYPES[ReplayFormat.decodeType(codes[index] & 0xFF)];
+    }
+
+    /**
+     * Gets the event source of a record.
+     *
+     * @param index is the record index; must not be a new game marker.
+     * @return the event source.
+     */
+    public EventSource getEventSource(int index) {
+        return SOURCES[ReplayFormat.decodeSource(codes[index] & 0xFF)];
+    }
+
+    private static long getVarLong(ByteBuffer buffer) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new IOException("Truncated replay record");
+            }
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed replay varint");
+    }
+}
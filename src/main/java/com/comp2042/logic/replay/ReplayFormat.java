@@ -0,0 +1,32 @@
+package com.comp2042.logic.replay;
+
+/**
+ * Layout of the binary replay file.
+ * The header is the magic number, format version, generator seed and randomizer mode.
+ * Each record is the tick delta since the previous record as an unsigned varint,
+ * followed by one byte holding the event type and source.
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x5452504C;
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Long.BYTES + Byte.BYTES;
+    static final int MAX_RECORD_SIZE = 10 + 1;
+
+    /** Event byte marking that a new game was started from this point. */
+    static final int NEW_GAME = 0xFF;
+
+    private static final int SOURCE_BITS = 1;
+
+    static int encodeEvent(int typeOrdinal, int sourceOrdinal) {
+        return typeOrdinal << SOURCE_BITS | sourceOrdinal;
+    }
+
+    static int decodeType(int code) {
+        return code >>> SOURCE_BITS;
+    }
+
+    static int decodeSource(int code) {
+        return code & ((1 << SOURCE_BITS) - 1);
+    }
+}
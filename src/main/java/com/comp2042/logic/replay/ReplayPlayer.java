@@ -0,0 +1,66 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.controller.HeadlessGameView;
+import com.comp2042.controller.InputEventListener;
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.movement.MoveEvent;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+
+/**
+ * Plays a replay back headlessly, as fast as the engine can run.
+ */
+public final class ReplayPlayer {
+
+    /**
+     * Rebuilds the recorded game on a fresh headless controller and feeds it every event.
+     *
+     * @param replay is the replay to play.
+     * @return the game controller in its final state.
+     */
+    public static GameController play(Replay replay) {
+        SimpleBoard board = new SimpleBoard(GameController.BOARD_HEIGHT, GameController.BOARD_WIDTH,
+                new SeededBrickGenerator(replay.getSeed(), replay.getMode()));
+        GameController gameController = new GameController(new HeadlessGameView(), board);
+        play(replay, gameController);
+        return gameController;
+    }
+
+    /**
+     * Feeds every event of a replay to a listener in recorded order.
+     *
+     * @param replay is the replay to play.
+     * @param listener receives the events.
+     */
+    public static void play(Replay replay, InputEventListener listener) {
+        for (int i = 0; i < replay.size(); i++) {
+            if (replay.isNewGame(i)) {
+                listener.createNewGame();
+                continue;
+            }
+
+            MoveEvent event = new MoveEvent(replay.getEventType(i), replay.getEventSource(i), 0);
+            switch (event.getEventType()) {
+                case DOWN:
+                    listener.onDownEvent(event);
+                    break;
+                case LEFT:
+                    listener.onLeftEvent(event);
+                    break;
+                case RIGHT:
+                    listener.onRightEvent(event);
+                    break;
+                case ROTATE:
+                    listener.onRotateEvent(event);
+                    break;
+                case HARD_DROP:
+                    listener.onHardDropEvent();
+                    break;
+                case LEFT_WALL:
+                case RIGHT_WALL:
+                    listener.onWallShiftEvent(event);
+                    break;
+            }
+        }
+    }
+}
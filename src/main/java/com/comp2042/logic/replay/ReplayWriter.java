@@ -0,0 +1,114 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.logic.movement.MoveEvent;
+import com.comp2042.model.bricks.RandomizerMode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a replay file through a buffered file channel.
+ * Records are staged in a direct buffer and written out whenever it fills, so
+ * recording costs a few bytes of buffer work per event.
+ */
+public final class ReplayWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long lastTick;
+    private long recordCount;
+
+    /**
+     * Creates the replay file and writes its header.
+     *
+     * @param path is the file to create or overwrite.
+     * @param seed is the seed of the game's brick generator.
+     * @param mode is the randomizer mode of the game's brick generator.
+     * @throws IOException if the file cannot be written.
+     */
+    public ReplayWriter(Path path, long seed, RandomizerMode mode) throws IOException {
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        buffer.putInt(ReplayFormat.MAGIC);
+        buffer.put(ReplayFormat.VERSION);
+        buffer.putLong(seed);
+        buffer.put((byte) mode.ordinal());
+    }
+
+    /**
+     * Appends an input event.
+     *
+     * @param tick is the simulation tick the event was applied on; must not go backwards.
+     * @param event is the event.
+     * @throws IOException if the buffer cannot be flushed.
+     */
+    public void write(long tick, MoveEvent event) throws IOException {
+        writeRecord(tick, ReplayFormat.encodeEvent(event.getEventType().ordinal(), event.getEventSource().ordinal()));
+    }
+
+    /**
+     * Appends a marker that a new game was started.
+     *
+     * @param tick is the simulation tick the game restarted on.
+     * @throws IOException if the buffer cannot be flushed.
+     */
+    public void writeNewGame(long tick) throws IOException {
+        writeRecord(tick, ReplayFormat.NEW_GAME);
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Writes all buffered records to the file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeRecord(long tick, int code) throws IOException {
+        if (tick < lastTick) {
+            throw new IllegalArgumentException("Replay ticks must not go backwards");
+        }
+        if (buffer.remaining() < ReplayFormat.MAX_RECORD_SIZE) {
+            flush();
+        }
+
+        putVarLong(tick - lastTick);
+        buffer.put((byte) code);
+        lastTick = tick;
+        recordCount++;
+    }
+
+    private void putVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+}
@@ -1,11 +1,13 @@
 package com.comp2042.logic.rotation;
 
 import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickShape;
 
 /**
  * Manages the rotation state and logic for a Tetromino brick.
  * Handles cycling through different rotational states of a brick
  * and provides access to the current shape matrix.
+ * Shapes are read from the brick's shared rotation table and are never copied.
  */
 public class BrickRotator {
 
@@ -25,17 +27,64 @@ public class BrickRotator {
      * @return a NextShapeInfo object containing the next shape matrix and rotation index.
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = (currentShape + 1) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextRotation();
+        return new NextShapeInfo(brick.getShape(nextShape).getMatrix(), nextShape);
+    }
+
+    /**
+     * Returns the rotation index that follows the current one.
+     *
+     * @return the next rotation index.
+     */
+    public int getNextRotation() {
+        return (currentShape + 1) % brick.getRotationCount();
     }
 
     /**
      * Returns the current shape matrix for the brick's current rotation.
+     * The matrix is shared with the brick's rotation table and must not be modified.
      *
      * @return a 2D array representing the current shape
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return brick.getShape(currentShape).getMatrix();
+    }
+
+    /**
+     * Returns the precomputed shape data for the brick's current rotation.
+     *
+     * @return the read-only current shape.
+     */
+    public BrickShape getCurrentBrickShape() {
+        return brick.getShape(currentShape);
+    }
+
+    /**
+     * Returns the precomputed shape data for a rotation of the current brick.
+     *
+     * @param rotation is the rotation index.
+     * @return the read-only shape for that rotation.
+     */
+    public BrickShape getShape(int rotation) {
+        return brick.getShape(rotation);
+    }
+
+    /**
+     * Returns the brick managed by this rotator.
+     *
+     * @return the current brick.
+     */
+    public Brick getBrick() {
+        return brick;
+    }
+
+    /**
+     * Returns the current rotation index.
+     *
+     * @return the rotation index.
+     */
+    public int getCurrentRotation() {
+        return currentShape;
     }
 
     /**
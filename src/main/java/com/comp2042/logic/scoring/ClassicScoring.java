@@ -0,0 +1,23 @@
+package com.comp2042.logic.scoring;
+
+import com.comp2042.logic.clear.ClearRow;
+import com.comp2042.model.score.Score;
+
+/**
+ * The original scoring: a fixed table for one to four lines multiplied by the level,
+ * as calculated by the board. T-spins, combos and perfect clears earn nothing extra.
+ */
+public final class ClassicScoring implements ScoringStrategy {
+
+    private static final int TETRIS_LINES = 4;
+
+    @Override
+    public boolean isDifficult(int linesCleared, TSpin tSpin) {
+        return linesCleared == TETRIS_LINES;
+    }
+
+    @Override
+    public int scoreLock(ClearRow clearRow, int level, TSpin tSpin, boolean perfectClear, Score score) {
+        return clearRow.getScoreBonus();
+    }
+}
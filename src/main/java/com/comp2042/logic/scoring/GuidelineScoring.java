@@ -0,0 +1,56 @@
+package com.comp2042.logic.scoring;
+
+import com.comp2042.logic.clear.ClearRow;
+import com.comp2042.model.score.Score;
+
+/**
+ * Scoring in the style of the modern Tetris guideline.
+ * Line clears and T-spins award points from fixed tables multiplied by the level;
+ * difficult clears (Tetrises and line-clearing T-spins) made back-to-back earn half
+ * as much again, every lock of a combo after the first adds 50 points per combo step,
+ * and clearing the whole board adds a perfect clear bonus.
+ */
+public final class GuidelineScoring implements ScoringStrategy {
+
+    private static final int TETRIS_LINES = 4;
+    private static final int COMBO_POINTS = 50;
+    private static final int BACK_TO_BACK_TETRIS_PERFECT_CLEAR = 3200;
+
+    /** Points by lines cleared for a plain clear. */
+    private static final int[] LINE_POINTS = {0, 100, 300, 500, 800};
+
+    /** Points by lines cleared for a T-spin mini. */
+    private static final int[] MINI_POINTS = {100, 200, 400, 400, 400};
+
+    /** Points by lines cleared for a full T-spin. */
+    private static final int[] T_SPIN_POINTS = {400, 800, 1200, 1600, 1600};
+
+    /** Perfect clear bonus by lines cleared. */
+    private static final int[] PERFECT_CLEAR_POINTS = {0, 800, 1200, 1800, 2000};
+
+    @Override
+    public boolean isDifficult(int linesCleared, TSpin tSpin) {
+        return linesCleared == TETRIS_LINES || (linesCleared > 0 && tSpin != TSpin.NONE);
+    }
+
+    @Override
+    public int scoreLock(ClearRow clearRow, int level, TSpin tSpin, boolean perfectClear, Score score) {
+        int lines = Math.min(clearRow.getLinesRemoved(), TETRIS_LINES);
+        int[] table = tSpin == TSpin.FULL ? T_SPIN_POINTS : tSpin == TSpin.MINI ? MINI_POINTS : LINE_POINTS;
+
+        long points = table[lines];
+        if (lines > 0 && score.isBackToBack()) {
+            points += points / 2;
+        }
+        if (score.getCombo() > 0) {
+            points += (long) COMBO_POINTS * score.getCombo();
+        }
+        if (perfectClear && lines > 0) {
+            points += lines == TETRIS_LINES && score.isBackToBack()
+                    ? BACK_TO_BACK_TETRIS_PERFECT_CLEAR
+                    : PERFECT_CLEAR_POINTS[lines];
+        }
+
+        return (int) Math.min(Integer.MAX_VALUE, points * level);
+    }
+}
@@ -0,0 +1,34 @@
+package com.comp2042.logic.scoring;
+
+import com.comp2042.logic.clear.ClearRow;
+import com.comp2042.model.score.Score;
+
+/**
+ * Rule set that turns a lock into line points.
+ * Called once per lock with everything already known about it, so an implementation
+ * only does table lookups and never inspects the board.
+ */
+public interface ScoringStrategy {
+
+    /**
+     * Checks whether a lock counts towards a back-to-back streak. The result is
+     * recorded in the {@link Score} before {@link #scoreLock} is called.
+     *
+     * @param linesCleared is the number of lines the lock cleared.
+     * @param tSpin is the kind of T-spin the lock was.
+     * @return true if the lock is a difficult clear.
+     */
+    boolean isDifficult(int linesCleared, TSpin tSpin);
+
+    /**
+     * Calculates the points for a lock, not counting drop points.
+     *
+     * @param clearRow is the row clearing result of the lock.
+     * @param level is the level the lock was made at.
+     * @param tSpin is the kind of T-spin the lock was.
+     * @param perfectClear is true if the lock left the board empty.
+     * @param score is the score, with the lock already recorded in its combo and back-to-back streaks.
+     * @return the points to add.
+     */
+    int scoreLock(ClearRow clearRow, int level, TSpin tSpin, boolean perfectClear, Score score);
+}
@@ -0,0 +1,41 @@
+package com.comp2042.logic.scoring;
+
+import java.util.Locale;
+
+/**
+ * Available scoring rule sets, selectable at startup.
+ */
+public enum ScoringType {
+
+    /** Fixed line table times level, see {@link ClassicScoring}. */
+    CLASSIC,
+
+    /** T-spins, combos, back-to-back and perfect clears, see {@link GuidelineScoring}. */
+    GUIDELINE;
+
+    /**
+     * Creates a new instance of this rule set.
+     *
+     * @return the scoring strategy.
+     */
+    public ScoringStrategy create() {
+        return this == GUIDELINE ? new GuidelineScoring() : new ClassicScoring();
+    }
+
+    /**
+     * Parses a scoring name, falling back to CLASSIC for unknown or missing names.
+     *
+     * @param name is the scoring name, case-insensitive; may be null.
+     * @return the matching scoring type.
+     */
+    public static ScoringType fromName(String name) {
+        if (name != null) {
+            for (ScoringType type : values()) {
+                if (type.name().equals(name.trim().toUpperCase(Locale.ROOT))) {
+                    return type;
+                }
+            }
+        }
+        return CLASSIC;
+    }
+}
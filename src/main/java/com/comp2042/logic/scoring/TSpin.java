@@ -0,0 +1,16 @@
+package com.comp2042.logic.scoring;
+
+/**
+ * Kinds of T-spin a lock can be, as decided by {@link TSpinDetector}.
+ */
+public enum TSpin {
+
+    /** Not a T-spin. */
+    NONE,
+
+    /** Three corners blocked, but only one of the two in front of the T's stem. */
+    MINI,
+
+    /** Three corners blocked, including both in front of the T's stem. */
+    FULL
+}
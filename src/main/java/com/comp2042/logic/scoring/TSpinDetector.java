@@ -0,0 +1,81 @@
+package com.comp2042.logic.scoring;
+
+import com.comp2042.model.bricks.BrickShape;
+
+/**
+ * Detects T-spins with the three-corner rule.
+ * Checked once after every successful rotation, so it only looks at the four
+ * diagonal neighbours of the T's centre and never scans the board.
+ */
+public final class TSpinDetector {
+
+    private static final int CENTRE = 1;
+    private static final int T_CELLS = 4;
+    private static final int EMPTY_CELL = 0;
+    private static final int[][] NEIGHBOURS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    private TSpinDetector() {
+    }
+
+    /**
+     * Decides whether a just rotated brick is in a T-spin position.
+     * The side walls and the floor count as blocked; the space above the board is open.
+     *
+     * @param board is the board matrix, indexed [row][column].
+     * @param shape is the shape of the rotated brick.
+     * @param x is the x-coordinate of the brick.
+     * @param y is the y-coordinate of the brick.
+     * @return the kind of T-spin, NONE if the brick is not a T or fewer than three corners are blocked.
+     */
+    public static TSpin detect(int[][] board, BrickShape shape, int x, int y) {
+        int[][] matrix = shape.getMatrix();
+        if (shape.getCellCount() != T_CELLS || matrix.length <= CENTRE + 1
+                || matrix[CENTRE][CENTRE] == EMPTY_CELL) {
+            return TSpin.NONE;
+        }
+
+        // A T's centre has exactly three filled neighbours; the stem points away from the empty one
+        int stemRow = 0;
+        int stemCol = 0;
+        int neighbours = 0;
+        for (int[] step : NEIGHBOURS) {
+            if (matrix[CENTRE + step[0]][CENTRE + step[1]] != EMPTY_CELL) {
+                neighbours++;
+            } else {
+                stemRow = -step[0];
+                stemCol = -step[1];
+            }
+        }
+        if (neighbours != T_CELLS - 1) {
+            return TSpin.NONE;
+        }
+
+        int centreRow = y + CENTRE;
+        int centreCol = x + CENTRE;
+        int front = 0;
+        int back = 0;
+        for (int rowStep = -1; rowStep <= 1; rowStep += 2) {
+            for (int colStep = -1; colStep <= 1; colStep += 2) {
+                if (isBlocked(board, centreRow + rowStep, centreCol + colStep)) {
+                    if (rowStep == stemRow || colStep == stemCol) {
+                        front++;
+                    } else {
+                        back++;
+                    }
+                }
+            }
+        }
+
+        if (front + back < 3) {
+            return TSpin.NONE;
+        }
+        return front == 2 ? TSpin.FULL : TSpin.MINI;
+    }
+
+    private static boolean isBlocked(int[][] board, int row, int col) {
+        if (row >= board.length || col < 0 || col >= board[0].length) {
+            return true;
+        }
+        return row >= 0 && board[row][col] != EMPTY_CELL;
+    }
+}
@@ -0,0 +1,57 @@
+package com.comp2042.logic.sim;
+
+/**
+ * Outcome of one simulated game.
+ */
+public final class GameResult {
+
+    private final long seed;
+    private final int score;
+    private final int lines;
+    private final int level;
+    private final int pieces;
+    private final long durationNanos;
+
+    /**
+     * Creates a new GameResult.
+     *
+     * @param seed is the seed the game was played with.
+     * @param score is the final score.
+     * @param lines is the number of lines cleared.
+     * @param level is the level reached.
+     * @param pieces is the number of bricks placed.
+     * @param durationNanos is how long the game took to simulate.
+     */
+    public GameResult(long seed, int score, int lines, int level, int pieces, long durationNanos) {
+        this.seed = seed;
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+        this.pieces = pieces;
+        this.durationNanos = durationNanos;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getPieces() {
+        return pieces;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+}
@@ -0,0 +1,18 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.logic.GameController;
+
+/**
+ * Decides how a simulated player places each brick.
+ * Implementations may keep state, so each game gets its own instance.
+ */
+public interface MovePolicy {
+
+    /**
+     * Moves and rotates the current brick through the game's input methods and
+     * locks it, normally with a hard drop.
+     *
+     * @param game is the game being played.
+     */
+    void playPiece(GameController game);
+}
@@ -0,0 +1,48 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.movement.MoveEvent;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays random rotations and shifts before every hard drop.
+ */
+public final class RandomMovePolicy implements MovePolicy {
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER, 0);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER, 0);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER, 0);
+    private static final int MAX_ROTATIONS = 4;
+    private static final int MAX_SHIFT = 5;
+
+    private final SplittableRandom random;
+
+    /**
+     * Creates a new RandomMovePolicy.
+     *
+     * @param seed is the seed of the move sequence.
+     */
+    public RandomMovePolicy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void playPiece(GameController game) {
+        for (int i = random.nextInt(MAX_ROTATIONS); i > 0; i--) {
+            game.onRotateEvent(ROTATE);
+        }
+
+        int shift = random.nextInt(2 * MAX_SHIFT + 1) - MAX_SHIFT;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                game.onLeftEvent(LEFT);
+            } else {
+                game.onRightEvent(RIGHT);
+            }
+        }
+        game.onHardDropEvent();
+    }
+}
@@ -0,0 +1,164 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.controller.HeadlessGameView;
+import com.comp2042.logic.GameController;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+/**
+ * Plays many independent headless games in parallel on a fork-join pool.
+ * Game i is seeded from the base seed and its index, so a run is reproducible
+ * regardless of how many threads play it. Games share no mutable state, so
+ * throughput scales with the number of cores.
+ */
+public final class SimulationRunner {
+
+    public static final int DEFAULT_MAX_PIECES = 10_000;
+
+    private static final int GAMES_PER_TASK = 4;
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long baseSeed;
+    private final RandomizerMode mode;
+    private final LongFunction<MovePolicy> policyFactory;
+    private final int maxPieces;
+
+    /**
+     * Creates a new SimulationRunner.
+     *
+     * @param baseSeed is the seed every game seed is derived from.
+     * @param mode is the randomizer mode of each game's brick generator.
+     * @param policyFactory creates the move policy of a game from the game's seed.
+     * @param maxPieces is the number of bricks after which a game is stopped.
+     * @throws IllegalArgumentException if maxPieces is not positive.
+     */
+    public SimulationRunner(long baseSeed, RandomizerMode mode, LongFunction<MovePolicy> policyFactory, int maxPieces) {
+        if (maxPieces <= 0) {
+            throw new IllegalArgumentException("Max pieces must be positive");
+        }
+        this.baseSeed = baseSeed;
+        this.mode = Objects.requireNonNull(mode, "Randomizer mode cannot be null");
+        this.policyFactory = Objects.requireNonNull(policyFactory, "Policy factory cannot be null");
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Plays games on the common fork-join pool.
+     *
+     * @param games is the number of games to play.
+     * @return the aggregated statistics.
+     */
+    public SimulationStats run(int games) {
+        return run(games, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays games on the given pool.
+     *
+     * @param games is the number of games to play.
+     * @param pool is the pool to play them on.
+     * @return the aggregated statistics.
+     */
+    public SimulationStats run(int games, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        SimulationStats stats = pool.invoke(new GameRangeTask(0, games));
+        stats.setWallNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    /**
+     * Plays a single game to game over or the piece limit.
+     *
+     * @param index is the game index within the run.
+     * @return the result of the game.
+     */
+    public GameResult playGame(int index) {
+        long seed = gameSeed(index);
+        long start = System.nanoTime();
+
+        SimpleBoard board = new SimpleBoard(GameController.BOARD_HEIGHT, GameController.BOARD_WIDTH,
+                new SeededBrickGenerator(seed, mode));
+        GameController game = new GameController(new HeadlessGameView(), board);
+        MovePolicy policy = policyFactory.apply(seed);
+
+        int pieces = 0;
+        while (!game.isGameOver() && pieces < maxPieces) {
+            policy.playPiece(game);
+            pieces++;
+        }
+
+        return new GameResult(seed, board.getScore().getValue(), game.getTotalLines(), board.getLevel(),
+                pieces, System.nanoTime() - start);
+    }
+
+    /**
+     * Derives the seed of a game from the base seed and its index.
+     *
+     * @param index is the game index.
+     * @return the game seed.
+     */
+    public long gameSeed(int index) {
+        long z = baseSeed + (index + 1) * SEED_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Command line entry point: games [seed] [threads].
+     *
+     * @param args command line arguments.
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 2042;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        SimulationRunner runner = new SimulationRunner(seed, RandomizerMode.SEVEN_BAG,
+                RandomMovePolicy::new, DEFAULT_MAX_PIECES);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            System.out.println(runner.run(games, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Splits a range of game indices in half until it is small enough to play directly.
+     */
+    @SuppressWarnings("serial")
+    private final class GameRangeTask extends RecursiveTask<SimulationStats> {
+
+        private final int from;
+        private final int to;
+
+        GameRangeTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                SimulationStats stats = new SimulationStats();
+                for (int i = from; i < to; i++) {
+                    stats.add(playGame(i));
+                }
+                return stats;
+            }
+
+            int mid = (from + to) >>> 1;
+            GameRangeTask left = new GameRangeTask(from, mid);
+            left.fork();
+            SimulationStats right = new GameRangeTask(mid, to).compute();
+            return right.merge(left.join());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.comp2042.logic.sim;
+
+/**
+ * Aggregated results of many simulated games.
+ * Each worker fills its own instance and the instances are merged at the end,
+ * so collecting statistics needs no shared state.
+ */
+public final class SimulationStats {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private int games;
+    private long totalScore;
+    private int maxScore;
+    private long totalLines;
+    private long totalLevel;
+    private int maxLevel;
+    private long totalPieces;
+    private long totalGameNanos;
+    private long wallNanos;
+
+    /**
+     * Adds one game to the totals.
+     *
+     * @param result is the finished game.
+     */
+    public void add(GameResult result) {
+        games++;
+        totalScore += result.getScore();
+        maxScore = Math.max(maxScore, result.getScore());
+        totalLines += result.getLines();
+        totalLevel += result.getLevel();
+        maxLevel = Math.max(maxLevel, result.getLevel());
+        totalPieces += result.getPieces();
+        totalGameNanos += result.getDurationNanos();
+    }
+
+    /**
+     * Adds the totals of another worker to this one.
+     *
+     * @param other is the other worker's statistics.
+     * @return this instance.
+     */
+    public SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        totalScore += other.totalScore;
+        maxScore = Math.max(maxScore, other.maxScore);
+        totalLines += other.totalLines;
+        totalLevel += other.totalLevel;
+        maxLevel = Math.max(maxLevel, other.maxLevel);
+        totalPieces += other.totalPieces;
+        totalGameNanos += other.totalGameNanos;
+        return this;
+    }
+
+    void setWallNanos(long wallNanos) {
+        this.wallNanos = wallNanos;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    public int getMaxScore() {
+        return maxScore;
+    }
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    public double getMeanScore() {
+        return games == 0 ? 0 : (double) totalScore / games;
+    }
+
+    public double getMeanLines() {
+        return games == 0 ? 0 : (double) totalLines / games;
+    }
+
+    public double getMeanLevel() {
+        return games == 0 ? 0 : (double) totalLevel / games;
+    }
+
+    /**
+     * Gets the overall throughput across all workers.
+     *
+     * @return bricks placed per wall-clock second, or 0 if no time was measured.
+     */
+    public double getPiecesPerSecond() {
+        return wallNanos == 0 ? 0 : totalPieces * NANOS_PER_SECOND / wallNanos;
+    }
+
+    /**
+     * Gets the throughput of a single game thread.
+     *
+     * @return bricks placed per second of game simulation time.
+     */
+    public double getPiecesPerSecondPerThread() {
+        return totalGameNanos == 0 ? 0 : totalPieces * NANOS_PER_SECOND / totalGameNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "games=%d meanScore=%.1f maxScore=%d meanLines=%.2f meanLevel=%.2f maxLevel=%d "
+                        + "pieces=%d piecesPerSecond=%.0f piecesPerSecondPerThread=%.0f",
+                games, getMeanScore(), maxScore, getMeanLines(), getMeanLevel(), maxLevel,
+                totalPieces, getPiecesPerSecond(), getPiecesPerSecondPerThread());
+    }
+}
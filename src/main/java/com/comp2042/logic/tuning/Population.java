@@ -0,0 +1,218 @@
+package com.comp2042.logic.tuning;
+
+import com.comp2042.logic.ai.HeuristicWeights;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * One generation of weight vectors being tuned, with the fitness of each vector.
+ * A fitness of NaN marks a vector that has not been evaluated yet. Populations are
+ * saved as small text files so a long tuning run can be resumed after a restart.
+ */
+public final class Population {
+
+    private static final String HEADER = "# weight tuner checkpoint";
+    private static final String GENERATION_PREFIX = "generation=";
+
+    private final int generation;
+    private final HeuristicWeights[] weights;
+    private final double[] fitness;
+
+    /**
+     * Creates a new Population.
+     *
+     * @param generation is the generation number, starting at 0.
+     * @param weights are the weight vectors.
+     * @param fitness is the fitness of each vector, NaN if not evaluated.
+     * @throws IllegalArgumentException if the arrays differ in length or are empty.
+     */
+    public Population(int generation, HeuristicWeights[] weights, double[] fitness) {
+        Objects.requireNonNull(weights, "Weights cannot be null");
+        Objects.requireNonNull(fitness, "Fitness cannot be null");
+        if (weights.length == 0 || weights.length != fitness.length) {
+            throw new IllegalArgumentException("Population needs one fitness value per weight vector");
+        }
+        this.generation = generation;
+        this.weights = weights.clone();
+        this.fitness = fitness.clone();
+    }
+
+    /**
+     * Creates a first generation of random unit-length weight vectors.
+     *
+     * @param size is the number of vectors.
+     * @param seed is the seed of the random vectors.
+     * @return the unevaluated population.
+     * @throws IllegalArgumentException if size is not positive.
+     */
+    public static Population random(int size, long seed) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Population size must be positive");
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        HeuristicWeights[] weights = new HeuristicWeights[size];
+        for (int i = 0; i < size; i++) {
+            double[] vector = new double[HeuristicWeights.FEATURE_COUNT];
+            for (int feature = 0; feature < vector.length; feature++) {
+                vector[feature] = random.nextDouble(-1, 1);
+            }
+            weights[i] = normalize(vector);
+        }
+
+        double[] fitness = new double[size];
+        Arrays.fill(fitness, Double.NaN);
+        return new Population(0, weights, fitness);
+    }
+
+    /**
+     * Scales a weight vector to unit length. Only the direction of a weight vector
+     * changes which placement wins, so keeping vectors on the unit sphere stops
+     * crossover and mutation from drifting in scale.
+     *
+     * @param vector is the vector in {@link HeuristicWeights#toArray()} order; it is modified.
+     * @return the normalized weights, or the unchanged vector if it has zero length.
+     */
+    static HeuristicWeights normalize(double[] vector) {
+        double length = 0;
+        for (double value : vector) {
+            length += value * value;
+        }
+        length = Math.sqrt(length);
+        if (length > 0) {
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] /= length;
+            }
+        }
+        return HeuristicWeights.fromArray(vector);
+    }
+
+    /**
+     * Reads a population saved by {@link #save(Path)}.
+     *
+     * @param path is the checkpoint file.
+     * @return the loaded population.
+     * @throws IOException if the file cannot be read or is not a valid checkpoint.
+     */
+    public static Population load(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        if (lines.size() < 3 || !lines.get(0).equals(HEADER) || !lines.get(1).startsWith(GENERATION_PREFIX)) {
+            throw new IOException("Not a tuner checkpoint: " + path);
+        }
+
+        try {
+            int generation = Integer.parseInt(lines.get(1).substring(GENERATION_PREFIX.length()));
+            int size = lines.size() - 2;
+            HeuristicWeights[] weights = new HeuristicWeights[size];
+            double[] fitness = new double[size];
+
+            for (int i = 0; i < size; i++) {
+                String[] fields = lines.get(i + 2).trim().split("\\s+");
+                if (fields.length != HeuristicWeights.FEATURE_COUNT + 1) {
+                    throw new IOException("Bad checkpoint line " + (i + 3) + " in " + path);
+                }
+                fitness[i] = Double.parseDouble(fields[0]);
+                double[] vector = new double[HeuristicWeights.FEATURE_COUNT];
+                for (int feature = 0; feature < vector.length; feature++) {
+                    vector[feature] = Double.parseDouble(fields[feature + 1]);
+                }
+                weights[i] = HeuristicWeights.fromArray(vector);
+            }
+            return new Population(generation, weights, fitness);
+        } catch (NumberFormatException e) {
+            throw new IOException("Bad number in checkpoint " + path, e);
+        }
+    }
+
+    /**
+     * Saves the population. The file is written next to the target and then moved
+     * over it, so an interrupted save never leaves a half-written checkpoint.
+     *
+     * @param path is the checkpoint file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        Path absolute = path.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            writer.write(GENERATION_PREFIX + generation);
+            writer.newLine();
+            for (int i = 0; i < weights.length; i++) {
+                StringBuilder line = new StringBuilder().append(fitness[i]);
+                for (double value : weights[i].toArray()) {
+                    line.append(' ').append(value);
+                }
+                writer.write(line.toString());
+                writer.newLine();
+            }
+        }
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Gets the index of the fittest evaluated vector.
+     *
+     * @return the index, or -1 if no vector has been evaluated.
+     */
+    public int getBestIndex() {
+        int best = -1;
+        for (int i = 0; i < fitness.length; i++) {
+            if (!Double.isNaN(fitness[i]) && (best < 0 || fitness[i] > fitness[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Checks whether every vector has a fitness.
+     *
+     * @return true if no vector is waiting to be evaluated.
+     */
+    public boolean isEvaluated() {
+        for (double value : fitness) {
+            if (Double.isNaN(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    public HeuristicWeights getWeights(int index) {
+        return weights[index];
+    }
+
+    public double getFitness(int index) {
+        return fitness[index];
+    }
+
+    /**
+     * Creates a copy of this population with new fitness values.
+     *
+     * @param values is the fitness of each vector.
+     * @return the updated population.
+     */
+    Population withFitness(double[] values) {
+        return new Population(generation, weights, values);
+    }
+}
@@ -0,0 +1,333 @@
+package com.comp2042.logic.tuning;
+
+import com.comp2042.logic.ai.AiMovePolicy;
+import com.comp2042.logic.ai.BoardEvaluator;
+import com.comp2042.logic.ai.EvaluationCache;
+import com.comp2042.logic.ai.HeuristicWeights;
+import com.comp2042.logic.ai.PlacementSearch;
+import com.comp2042.logic.sim.GameResult;
+import com.comp2042.logic.sim.SimulationRunner;
+import com.comp2042.logic.sim.SimulationStats;
+import com.comp2042.model.bricks.RandomizerMode;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evolves heuristic weight vectors for the placement-search bot with a genetic algorithm.
+ * Each vector plays the same seeded headless games, so fitness values within a run are
+ * directly comparable and survivors never need to be replayed. Every game of every
+ * unevaluated vector is one job on a fork-join pool. The population is checkpointed
+ * after each step, so an interrupted run resumes where it stopped.
+ * <p>
+ * Each generation, a share of the population is replaced by offspring. A parent pair is
+ * the two fittest of a random tournament; the child is their fitness-weighted average,
+ * occasionally mutated in one weight, and scaled back to unit length.
+ */
+public final class WeightTuner {
+
+    public static final int DEFAULT_POPULATION = 100;
+    public static final int DEFAULT_GAMES = 20;
+    public static final int DEFAULT_MAX_PIECES = 500;
+
+    private static final double TOURNAMENT_SHARE = 0.1;
+    private static final double OFFSPRING_SHARE = 0.3;
+    private static final double MUTATION_CHANCE = 0.05;
+    private static final double MUTATION_STEP = 0.2;
+    private static final int CACHE_CAPACITY = 1 << 14;
+    private static final int JOBS_PER_TASK = 2;
+    private static final long GENERATION_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final long seed;
+    private final int gamesPerVector;
+    private final int maxPieces;
+    private final ForkJoinPool pool;
+
+    private long gamesPlayed;
+    private long evaluationNanos;
+
+    /**
+     * Creates a new WeightTuner.
+     *
+     * @param seed seeds the games and the evolution.
+     * @param gamesPerVector is the number of games each weight vector plays.
+     * @param maxPieces is the number of bricks after which a game is stopped.
+     * @param pool runs the games.
+     * @throws IllegalArgumentException if gamesPerVector or maxPieces is not positive.
+     */
+    public WeightTuner(long seed, int gamesPerVector, int maxPieces, ForkJoinPool pool) {
+        if (gamesPerVector <= 0 || maxPieces <= 0) {
+            throw new IllegalArgumentException("Games and max pieces must be positive");
+        }
+        this.seed = seed;
+        this.gamesPerVector = gamesPerVector;
+        this.maxPieces = maxPieces;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Plays the games of every unevaluated vector. Fitness is the mean number of lines
+     * cleared per game.
+     *
+     * @param population is the population to evaluate.
+     * @return the population with every fitness filled in.
+     */
+    public Population evaluate(Population population) {
+        int[] pending = new int[population.size()];
+        int pendingCount = 0;
+        for (int i = 0; i < population.size(); i++) {
+            if (Double.isNaN(population.getFitness(i))) {
+                pending[pendingCount++] = i;
+            }
+        }
+        if (pendingCount == 0) {
+            return population;
+        }
+
+        SimulationRunner[] runners = new SimulationRunner[pendingCount];
+        for (int i = 0; i < pendingCount; i++) {
+            BoardEvaluator evaluator = new BoardEvaluator(population.getWeights(pending[i]));
+            runners[i] = new SimulationRunner(seed, RandomizerMode.SEVEN_BAG,
+                    gameSeed -> new AiMovePolicy(
+                            new PlacementSearch(evaluator, false, new EvaluationCache(CACHE_CAPACITY))),
+                    maxPieces);
+        }
+
+        GameResult[] results = new GameResult[pendingCount * gamesPerVector];
+        long start = System.nanoTime();
+        pool.invoke(new GameJobTask(runners, results, 0, results.length));
+        evaluationNanos += System.nanoTime() - start;
+        gamesPlayed += results.length;
+
+        double[] fitness = new double[population.size()];
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = population.getFitness(i);
+        }
+        for (int i = 0; i < pendingCount; i++) {
+            SimulationStats stats = new SimulationStats();
+            for (int game = 0; game < gamesPerVector; game++) {
+                stats.add(results[i * gamesPerVector + game]);
+            }
+            fitness[pending[i]] = stats.getMeanLines();
+        }
+        return population.withFitness(fitness);
+    }
+
+    /**
+     * Breeds the next generation, replacing the least fit vectors with offspring.
+     *
+     * @param population is a fully evaluated population.
+     * @return the next generation, whose offspring are unevaluated.
+     * @throws IllegalStateException if the population has not been evaluated.
+     */
+    public Population breed(Population population) {
+        if (!population.isEvaluated()) {
+            throw new IllegalStateException("Population must be evaluated before breeding");
+        }
+
+        int size = population.size();
+        SplittableRandom random = new SplittableRandom(seed + (population.getGeneration() + 1) * GENERATION_GAMMA);
+        int tournamentSize = Math.max(2, (int) Math.round(size * TOURNAMENT_SHARE));
+        int offspringCount = Math.max(1, (int) Math.round(size * OFFSPRING_SHARE));
+
+        HeuristicWeights[] offspring = new HeuristicWeights[offspringCount];
+        for (int child = 0; child < offspringCount; child++) {
+            int[] parents = tournament(population, tournamentSize, random);
+            offspring[child] = crossover(population, parents[0], parents[1], random);
+        }
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(population.getFitness(a), population.getFitness(b)));
+
+        HeuristicWeights[] weights = new HeuristicWeights[size];
+        double[] fitness = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = population.getWeights(i);
+            fitness[i] = population.getFitness(i);
+        }
+        for (int child = 0; child < offspringCount && child < size; child++) {
+            int replaced = order[child];
+            weights[replaced] = offspring[child];
+            fitness[replaced] = Double.NaN;
+        }
+        return new Population(population.getGeneration() + 1, weights, fitness);
+    }
+
+    /**
+     * Runs the tuner, evaluating and breeding until the given generation has been evaluated.
+     *
+     * @param population is the population to start or resume from.
+     * @param generations is the generation number to stop after.
+     * @param checkpoint is the file the population is saved to after each step, or null.
+     * @param out receives one progress line per generation.
+     * @return the last evaluated population.
+     * @throws IOException if the checkpoint cannot be written.
+     */
+    public Population run(Population population, int generations, Path checkpoint, PrintStream out)
+            throws IOException {
+        Population current = population;
+        while (true) {
+            current = evaluate(current);
+            save(current, checkpoint);
+            out.println(report(current));
+            if (current.getGeneration() >= generations) {
+                return current;
+            }
+
+            current = breed(current);
+            save(current, checkpoint);
+        }
+    }
+
+    /**
+     * Gets the number of games played since this tuner was created.
+     *
+     * @return the game count.
+     */
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Gets the evaluation throughput.
+     *
+     * @return games played per second of evaluation wall time, or 0 if none were played.
+     */
+    public double getGamesPerSecond() {
+        return evaluationNanos == 0 ? 0 : gamesPlayed * NANOS_PER_SECOND / evaluationNanos;
+    }
+
+    /**
+     * Command line entry point: checkpoint [generations] [population] [games] [maxPieces] [seed] [threads].
+     * Resumes from the checkpoint if it exists.
+     *
+     * @param args command line arguments.
+     * @throws IOException if the checkpoint cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path checkpoint = Paths.get(args.length > 0 ? args[0] : "weights.checkpoint");
+        int generations = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        int size = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_POPULATION;
+        int games = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_GAMES;
+        int maxPieces = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_MAX_PIECES;
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : 2042;
+        int threads = args.length > 6 ? Integer.parseInt(args[6]) : Runtime.getRuntime().availableProcessors();
+
+        Population population = Files.exists(checkpoint)
+                ? Population.load(checkpoint)
+                : Population.random(size, seed);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            WeightTuner tuner = new WeightTuner(seed, games, maxPieces, pool);
+            Population result = tuner.run(population, generations, checkpoint, System.out);
+            System.out.println("best " + result.getWeights(result.getBestIndex()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Picks a random tournament and returns its two fittest members, fittest first.
+     */
+    private static int[] tournament(Population population, int tournamentSize, SplittableRandom random) {
+        int first = -1;
+        int second = -1;
+        for (int i = 0; i < tournamentSize; i++) {
+            int candidate = random.nextInt(population.size());
+            if (candidate == first || candidate == second) {
+                continue;
+            }
+            if (first < 0 || population.getFitness(candidate) > population.getFitness(first)) {
+                second = first;
+                first = candidate;
+            } else if (second < 0 || population.getFitness(candidate) > population.getFitness(second)) {
+                second = candidate;
+            }
+        }
+        return new int[]{first, second < 0 ? first : second};
+    }
+
+    /**
+     * Averages two parents weighted by fitness, maybe mutates one weight, and normalizes.
+     */
+    private static HeuristicWeights crossover(Population population, int first, int second, SplittableRandom random) {
+        double firstFitness = population.getFitness(first);
+        double secondFitness = population.getFitness(second);
+        double total = firstFitness + secondFitness;
+        double firstShare = total > 0 ? firstFitness / total : 0.5;
+
+        double[] a = population.getWeights(first).toArray();
+        double[] b = population.getWeights(second).toArray();
+        double[] child = new double[a.length];
+        for (int i = 0; i < child.length; i++) {
+            child[i] = a[i] * firstShare + b[i] * (1 - firstShare);
+        }
+
+        if (random.nextDouble() < MUTATION_CHANCE) {
+            child[random.nextInt(child.length)] += random.nextDouble(-MUTATION_STEP, MUTATION_STEP);
+        }
+        return Population.normalize(child);
+    }
+
+    private void save(Population population, Path checkpoint) throws IOException {
+        if (checkpoint != null) {
+            population.save(checkpoint);
+        }
+    }
+
+    private String report(Population population) {
+        int best = population.getBestIndex();
+        double total = 0;
+        for (int i = 0; i < population.size(); i++) {
+            total += population.getFitness(i);
+        }
+        return String.format("generation %d: best %.1f lines, mean %.1f lines, %.1f games/s, best weights %s",
+                population.getGeneration(), population.getFitness(best), total / population.size(),
+                getGamesPerSecond(), population.getWeights(best));
+    }
+
+    /**
+     * Splits a range of (vector, game) jobs in half until it is small enough to play directly.
+     */
+    @SuppressWarnings("serial")
+    private final class GameJobTask extends RecursiveAction {
+
+        private final SimulationRunner[] runners;
+        private final GameResult[] results;
+        private final int from;
+        private final int to;
+
+        GameJobTask(SimulationRunner[] runners, GameResult[] results, int from, int to) {
+            this.runners = runners;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= JOBS_PER_TASK) {
+                for (int job = from; job < to; job++) {
+                    results[job] = runners[job / gamesPerVector].playGame(job % gamesPerVector);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new GameJobTask(runners, results, from, mid), new GameJobTask(runners, results, mid, to));
+        }
+    }
+}
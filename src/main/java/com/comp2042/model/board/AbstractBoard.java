@@ -0,0 +1,441 @@
+package com.comp2042.model.board;
+
+import com.comp2042.jfr.BrickLockEvent;
+import com.comp2042.jfr.BrickSpawnEvent;
+import com.comp2042.jfr.LevelUpEvent;
+import com.comp2042.jfr.LineClearEvent;
+import com.comp2042.logic.clear.ClearRow;
+import com.comp2042.logic.movement.MatrixOperations;
+import com.comp2042.logic.rotation.BrickRotator;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.score.Score;
+import com.comp2042.view.ViewData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Game state shared by every board implementation: the falling and next brick, their
+ * position, level progress, the score and the reused view snapshots.
+ * Subclasses only decide how the cells are stored, i.e. collision, merge, row removal
+ * and reset. Spawn, lock, line clear and level-up emit Flight Recorder events, which
+ * cost almost nothing unless a recording enables them.
+ */
+abstract class AbstractBoard implements Board {
+
+    private static final int DEFAULT_SPAWN_X = 4;
+    private static final int DEFAULT_SPAWN_Y = 0;
+    private static final int LINES_PER_LEVEL = 3;
+    private static final int DANGER_ZONE_ROWS = 2;
+    private static final int[][] EMPTY_PREVIEW = new int[4][4];
+
+    private final int width;
+    private final int height;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final Score score;
+
+    private int currentX;
+    private int currentY;
+    private Brick currentBrick;
+    private Brick nextBrick;
+    private final ViewData[] viewBuffers = new ViewData[2];
+    private int viewBufferIndex;
+
+    private int level;
+    private int linesUntilNextLevel;
+    private int totalLinesCleared;
+
+    /**
+     * Creates the shared game state for a board of the given dimensions.
+     *
+     * @param rows is the number of rows in the board.
+     * @param cols is the number of columns in the board.
+     * @param brickGenerator is the source of new bricks.
+     */
+    AbstractBoard(int rows, int cols, BrickGenerator brickGenerator) {
+        this.width = cols;
+        this.height = rows;
+        this.brickGenerator = Objects.requireNonNull(brickGenerator, "Brick generator cannot be null");
+        this.brickRotator = new BrickRotator();
+        this.score = new Score();
+        this.level = 1;
+        this.linesUntilNextLevel = LINES_PER_LEVEL;
+        this.totalLinesCleared = 0;
+    }
+
+    /**
+     * Checks a brick shape placed at the given position against the walls, floor and filled cells.
+     *
+     * @param shape is the brick shape to test.
+     * @param x is the x-coordinate of the brick.
+     * @param y is the y-coordinate of the brick.
+     * @return true if the brick overlaps a filled cell or leaves the board, false otherwise.
+     */
+    abstract boolean intersects(BrickShape shape, int x, int y);
+
+    /**
+     * Writes the cells of a landed brick into the board storage.
+     *
+     * @param shape is the brick shape to merge.
+     * @param x is the x-coordinate of the brick.
+     * @param y is the y-coordinate of the brick.
+     */
+    abstract void mergeCells(BrickShape shape, int x, int y);
+
+    /**
+     * Removes complete rows from the board storage, dropping the rows above them.
+     *
+     * @return a mask with bit n set if row n, counted before removal, was removed.
+     */
+    abstract long removeCompleteRows();
+
+    /**
+     * Empties the board storage for a new game.
+     */
+    abstract void clearCells();
+
+    /**
+     * Checks whether a row has no filled cells.
+     *
+     * @param row is the row index, 0 being the top row.
+     * @return true if the row is empty, false otherwise.
+     */
+    abstract boolean isRowEmpty(int row);
+
+    @Override
+    public boolean moveBrickDown() {
+        return attemptMove(currentX, currentY + 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return attemptMove(currentX - 1, currentY);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return attemptMove(currentX + 1, currentY);
+    }
+
+    @Override
+    public int moveBrickToWall(int direction) {
+        int startX = currentX;
+        while (attemptMove(currentX + Integer.signum(direction), currentY)) {
+            // Slide one column at a time until blocked
+        }
+        return Math.abs(currentX - startX);
+    }
+
+    @Override
+    public boolean canMoveBrick(int dx, int dy) {
+        return !intersects(brickRotator.getCurrentBrickShape(), currentX + dx, currentY + dy);
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextRotation = brickRotator.getNextRotation();
+
+        if (!intersects(brickRotator.getShape(nextRotation), currentX, currentY)) {
+            brickRotator.setCurrentShape(nextRotation);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int hardDropBrick() {
+        int startY = currentY;
+        currentY = calculateGhostPosition();
+        return currentY - startY;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        BrickSpawnEvent event = new BrickSpawnEvent();
+        event.begin();
+
+        initializeBricks();
+        brickRotator.setBrick(currentBrick);
+        currentX = DEFAULT_SPAWN_X;
+        currentY = DEFAULT_SPAWN_Y;
+        boolean gameOver = checkGameOver();
+
+        if (event.shouldCommit()) {
+            event.brick = brickRotator.getCurrentBrickShape().getColor();
+            event.gameOver = gameOver;
+            event.commit();
+        }
+        return gameOver;
+    }
+
+    /**
+     * Fills the next of two reused snapshots. The snapshot shares the precomputed
+     * brick matrices, so no arrays are copied or allocated per call.
+     */
+    @Override
+    public ViewData getViewData() {
+        int ghostY = calculateGhostPosition();
+        int[][] nextPieceData = getNextPieceMatrix();
+        int[][] brickData = brickRotator.getCurrentShape();
+
+        viewBufferIndex ^= 1;
+        ViewData view = viewBuffers[viewBufferIndex];
+        if (view == null) {
+            view = new ViewData(brickData, currentX, currentY, nextPieceData, ghostY);
+            viewBuffers[viewBufferIndex] = view;
+            return view;
+        }
+        return view.update(brickData, currentX, currentY, nextPieceData, ghostY);
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        BrickLockEvent event = new BrickLockEvent();
+        event.begin();
+
+        mergeCells(brickRotator.getCurrentBrickShape(), currentX, currentY);
+
+        if (event.shouldCommit()) {
+            event.x = currentX;
+            event.y = currentY;
+            event.filledCells = getFilledCellCount();
+            event.commit();
+        }
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        LineClearEvent event = new LineClearEvent();
+        event.begin();
+
+        long clearedRows = removeCompleteRows();
+        int linesRemoved = Long.bitCount(clearedRows);
+        int scoreBonus = MatrixOperations.calculateScore(linesRemoved, level);
+
+        if (linesRemoved > 0) {
+            updateLevelProgress(linesRemoved);
+        }
+
+        if (event.shouldCommit()) {
+            event.lines = linesRemoved;
+            event.score = scoreBonus;
+            event.commit();
+        }
+
+        return new ClearRow(linesRemoved, getBoardMatrix(), scoreBonus, clearedRows);
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        clearCells();
+        score.reset();
+        level = 1;
+        linesUntilNextLevel = LINES_PER_LEVEL;
+        totalLinesCleared = 0;
+        currentBrick = null;
+        nextBrick = null;
+        createNewBrick();
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getBrick();
+    }
+
+    @Override
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentRotation();
+    }
+
+    @Override
+    public int getCurrentX() {
+        return currentX;
+    }
+
+    @Override
+    public int getCurrentY() {
+        return currentY;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return nextBrick;
+    }
+
+    /**
+     * Combines the already drawn next brick with the generator's queue, which
+     * starts one brick further ahead.
+     */
+    @Override
+    public List<Brick> getPreview() {
+        List<Brick> queued = brickGenerator.getPreview();
+        List<Brick> preview = new ArrayList<>(queued.size());
+        if (nextBrick != null) {
+            preview.add(nextBrick);
+        }
+        for (int i = 0; preview.size() < queued.size(); i++) {
+            preview.add(queued.get(i));
+        }
+        return preview;
+    }
+
+    @Override
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of columns in the board.
+     *
+     * @return the board width.
+     */
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the number of rows in the board.
+     *
+     * @return the board height.
+     */
+    int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the shape of the falling brick in its current rotation.
+     *
+     * @return the current brick shape.
+     */
+    BrickShape getCurrentShape() {
+        return brickRotator.getCurrentBrickShape();
+    }
+
+    /**
+     * Places the falling brick without a collision check, for subclasses that have
+     * already verified the target position.
+     *
+     * @param x is the new x-coordinate.
+     * @param y is the new y-coordinate.
+     */
+    void setPosition(int x, int y) {
+        currentX = x;
+        currentY = y;
+    }
+
+    /**
+     * Calculates where the ghost piece (preview) should be positioned by testing
+     * each row below the brick for a collision.
+     *
+     * @return the Y coordinate where the current brick would land.
+     */
+    int calculateGhostPosition() {
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+
+        int ghostY = currentY;
+        while (ghostY < height && !intersects(shape, currentX, ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
+
+    /**
+     * Attempts to move the current brick to a new position.
+     *
+     * @param x is the target x-coordinate.
+     * @param y is the target y-coordinate.
+     * @return true if the move was successful, false if blocked.
+     */
+    private boolean attemptMove(int x, int y) {
+        if (!intersects(brickRotator.getCurrentBrickShape(), x, y)) {
+            currentX = x;
+            currentY = y;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Initializes the current and next bricks.
+     * On first call, generates both bricks. Subsequently, shifts next to current.
+     */
+    private void initializeBricks() {
+        if (currentBrick == null && nextBrick == null) {
+            currentBrick = brickGenerator.getBrick();
+            nextBrick = brickGenerator.getBrick();
+        } else {
+            currentBrick = nextBrick;
+            nextBrick = brickGenerator.getBrick();
+        }
+    }
+
+    /**
+     * Checks if the game is over due to new brick collision or danger zone breach.
+     *
+     * @return true if game over, false otherwise.
+     */
+    private boolean checkGameOver() {
+        if (intersects(brickRotator.getCurrentBrickShape(), currentX, currentY)) {
+            return true;
+        }
+
+        return getFilledCellCount() != 0 && isDangerZoneBreached();
+    }
+
+    /**
+     * Checks if any blocks exist in the danger zone (top rows).
+     *
+     * @return true if danger zone is breached, false otherwise.
+     */
+    private boolean isDangerZoneBreached() {
+        for (int row = 0; row < DANGER_ZONE_ROWS; row++) {
+            if (!isRowEmpty(row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the matrix for the next piece to display.
+     *
+     * @return the next piece matrix or empty array if none exists.
+     */
+    private int[][] getNextPieceMatrix() {
+        if (nextBrick != null) {
+            return nextBrick.getShape(0).getMatrix();
+        }
+        return EMPTY_PREVIEW;
+    }
+
+    /**
+     * Updates level progress based on lines cleared.
+     *
+     * @param linesCleared is the number of lines just cleared.
+     */
+    private void updateLevelProgress(int linesCleared) {
+        totalLinesCleared += linesCleared;
+        linesUntilNextLevel -= linesCleared;
+
+        if (linesUntilNextLevel <= 0) {
+            level++;
+            linesUntilNextLevel += LINES_PER_LEVEL;
+
+            LevelUpEvent event = new LevelUpEvent();
+            if (event.shouldCommit()) {
+                event.level = level;
+                event.totalLines = totalLinesCleared;
+                event.commit();
+            }
+        }
+    }
+}
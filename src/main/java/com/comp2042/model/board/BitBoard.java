@@ -0,0 +1,175 @@
+package com.comp2042.model.board;
+
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+
+import java.util.Arrays;
+
+/**
+ * Bitboard implementation of the Tetris game board.
+ * Packs each row into an int bitmask surrounded by permanently set wall bits, so
+ * collision, merge and full-row detection become a few shifts and ANDs per brick row.
+ * A parallel colour matrix is kept only for rendering.
+ */
+public class BitBoard extends AbstractBoard {
+
+    private static final int EMPTY_CELL = 0;
+    private static final int MAX_BRICK_SIZE = 4;
+    private static final int WALL_PADDING = MAX_BRICK_SIZE;
+    private static final int MAX_WIDTH = Integer.SIZE - WALL_PADDING - MAX_BRICK_SIZE;
+    private static final int FULL_ROW = ~0;
+
+    private final int emptyRow;
+    private final int[] rowBits;
+    private final int[][] colourMatrix;
+    private int filledCellCount;
+
+    /**
+     * Creates a new BitBoard with the predefined dimensions, dealing uniformly random
+     * bricks from a fresh seed.
+     *
+     * @param rows is the number of rows in the board.
+     * @param cols is the number of columns in the board.
+     * @throws IllegalArgumentException if the board is too wide to pack into an int row.
+     */
+    public BitBoard(int rows, int cols) {
+        this(rows, cols, new SeededBrickGenerator(System.nanoTime(), RandomizerMode.UNIFORM));
+    }
+
+    /**
+     * Creates a new BitBoard that takes its bricks from the given generator.
+     *
+     * @param rows is the number of rows in the board.
+     * @param cols is the number of columns in the board.
+     * @param brickGenerator is the source of new bricks, e.g. a seeded generator for reproducible games.
+     * @throws IllegalArgumentException if the board is too wide to pack into an int row.
+     */
+    public BitBoard(int rows, int cols, BrickGenerator brickGenerator) {
+        super(rows, cols, brickGenerator);
+        if (cols > MAX_WIDTH) {
+            throw new IllegalArgumentException("Board width cannot exceed " + MAX_WIDTH + " columns");
+        }
+
+        this.emptyRow = ~(((1 << cols) - 1) << WALL_PADDING);
+        this.rowBits = new int[rows];
+        this.colourMatrix = new int[rows][cols];
+
+        Arrays.fill(rowBits, emptyRow);
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return colourMatrix;
+    }
+
+    @Override
+    public void loadBoard(int[][] matrix) {
+        int height = getHeight();
+        int width = getWidth();
+        if (matrix.length != height || matrix[0].length != width) {
+            throw new IllegalArgumentException("Matrix must be " + height + "x" + width);
+        }
+
+        filledCellCount = 0;
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(matrix[row], 0, colourMatrix[row], 0, width);
+            rowBits[row] = emptyRow;
+            for (int col = 0; col < width; col++) {
+                if (matrix[row][col] != EMPTY_CELL) {
+                    rowBits[row] |= 1 << (col + WALL_PADDING);
+                    filledCellCount++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getFilledCellCount() {
+        return filledCellCount;
+    }
+
+    /**
+     * Checks the row bitmasks of a brick shape against the board and walls.
+     */
+    @Override
+    boolean intersects(BrickShape shape, int x, int y) {
+        int shift = x + WALL_PADDING;
+
+        for (int j = shape.getMinY(); j <= shape.getMaxY(); j++) {
+            int bits = shape.getRowBits(j);
+            if (bits == 0) {
+                continue;
+            }
+
+            int row = y + j;
+            if (row < 0 || row >= getHeight() || shift < 0 || x > getWidth()) {
+                return true;
+            }
+            if (((bits << shift) & rowBits[row]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    void mergeCells(BrickShape shape, int x, int y) {
+        int colour = shape.getColor();
+
+        for (int cell = 0; cell < shape.getCellCount(); cell++) {
+            int row = y + shape.getCellY(cell);
+            int col = x + shape.getCellX(cell);
+            rowBits[row] |= 1 << (col + WALL_PADDING);
+            colourMatrix[row][col] = colour;
+        }
+        filledCellCount += shape.getCellCount();
+    }
+
+    /**
+     * Compacts the surviving rows downwards in a single bottom-up pass.
+     */
+    @Override
+    long removeCompleteRows() {
+        int width = getWidth();
+        int clearedCount = 0;
+        long clearedRows = 0;
+        int writeRow = getHeight() - 1;
+
+        for (int readRow = getHeight() - 1; readRow >= 0; readRow--) {
+            if (rowBits[readRow] == FULL_ROW) {
+                clearedCount++;
+                clearedRows |= 1L << readRow;
+                continue;
+            }
+            if (writeRow != readRow) {
+                rowBits[writeRow] = rowBits[readRow];
+                System.arraycopy(colourMatrix[readRow], 0, colourMatrix[writeRow], 0, width);
+            }
+            writeRow--;
+        }
+
+        for (int row = writeRow; row >= 0; row--) {
+            rowBits[row] = emptyRow;
+            Arrays.fill(colourMatrix[row], EMPTY_CELL);
+        }
+
+        filledCellCount -= clearedCount * width;
+        return clearedRows;
+    }
+
+    @Override
+    void clearCells() {
+        Arrays.fill(rowBits, emptyRow);
+        for (int[] row : colourMatrix) {
+            Arrays.fill(row, EMPTY_CELL);
+        }
+        filledCellCount = 0;
+    }
+
+    @Override
+    boolean isRowEmpty(int row) {
+        return rowBits[row] == emptyRow;
+    }
+}
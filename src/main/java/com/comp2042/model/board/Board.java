@@ -1,9 +1,12 @@
 package com.comp2042.model.board;
 
 import com.comp2042.logic.clear.ClearRow;
+import com.comp2042.model.bricks.Brick;
 import com.comp2042.model.score.Score;
 import com.comp2042.view.ViewData;
 
+import java.util.List;
+
 /**
  * Represents the game board for Tetris.
  * Manages brick movement, collision detection, row clearing, and game state.
@@ -31,6 +34,23 @@ public interface Board {
      */
     boolean moveBrickRight();
 
+    /**
+     * Slides the current brick sideways as far as it can go in one step.
+     *
+     * @param direction is -1 to slide left or 1 to slide right.
+     * @return the number of columns the brick moved.
+     */
+    int moveBrickToWall(int direction);
+
+    /**
+     * Checks whether the current brick could move by the given offset, without moving it.
+     *
+     * @param dx is the column offset.
+     * @param dy is the row offset.
+     * @return true if the brick fits at the offset position, false if blocked.
+     */
+    boolean canMoveBrick(int dx, int dy);
+
     /**
      * Rotates the current brick counter-clockwise.
      *
@@ -38,6 +58,13 @@ public interface Board {
      */
     boolean rotateLeftBrick();
 
+    /**
+     * Drops the current brick straight down to the row where it would land.
+     *
+     * @return the number of rows the brick dropped.
+     */
+    int hardDropBrick();
+
     /**
      * Creates a new brick at the top of the board.
      *
@@ -47,13 +74,29 @@ public interface Board {
 
     /**
      * Gets the current state of the game board as a 2D matrix.
+     * The returned array is the board's live storage, shared to avoid a copy per
+     * frame, and must be treated as read-only: implementations keep row fill counts,
+     * column heights, the filled cell count and the board hash in step with merges and
+     * clears, and a write through this array would silently desynchronise them. Use
+     * {@link #loadBoard(int[][])} to set up a position instead.
      *
-     * @return a 2D array representing the board state.
+     * @return a read-only 2D array representing the board state, indexed [row][column].
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Replaces the board contents with a copy of the given matrix and rebuilds any
+     * derived state. Used to set up test, benchmark and puzzle positions.
+     *
+     * @param matrix is the board state to load; must match the board dimensions.
+     * @throws IllegalArgumentException if the matrix dimensions do not match the board.
+     */
+    void loadBoard(int[][] matrix);
+
     /**
      * Gets the view data for rendering the current and next brick.
+     * Boards alternate between two reused snapshots, so the returned snapshot stays
+     * valid until the call after next; use {@link ViewData#copy()} to keep it longer.
      *
      * @return the current view data.
      */
@@ -78,6 +121,63 @@ public interface Board {
      */
     Score getScore();
 
+    /**
+     * Gets the falling brick.
+     *
+     * @return the current brick.
+     */
+    Brick getCurrentBrick();
+
+    /**
+     * Gets the rotation index of the falling brick.
+     *
+     * @return the current rotation index.
+     */
+    int getCurrentRotation();
+
+    /**
+     * Gets the column of the falling brick's shape matrix origin.
+     *
+     * @return the current x-coordinate.
+     */
+    int getCurrentX();
+
+    /**
+     * Gets the row of the falling brick's shape matrix origin.
+     *
+     * @return the current y-coordinate.
+     */
+    int getCurrentY();
+
+    /**
+     * Gets the number of filled cells on the board, kept up to date by merge and clear.
+     *
+     * @return the filled cell count; 0 means the board is empty.
+     */
+    int getFilledCellCount();
+
+    /**
+     * Gets the brick that spawns after the current one.
+     *
+     * @return the next brick.
+     */
+    Brick getNextBrick();
+
+    /**
+     * Gets the upcoming bricks, the next brick first, as many as the brick generator
+     * keeps in its preview.
+     *
+     * @return a new list of the upcoming bricks.
+     */
+    List<Brick> getPreview();
+
+    /**
+     * Gets the current game level.
+     *
+     * @return the current level.
+     */
+    int getLevel();
+
     /**
      * Resets the board for a new game.
      */
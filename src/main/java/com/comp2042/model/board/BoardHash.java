@@ -0,0 +1,100 @@
+package com.comp2042.model.board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist-style hashing of board occupancy.
+ * Each cell (row, col) has a fixed random key, and a board hashes to the XOR of the
+ * keys of its filled cells, so filling or emptying a cell updates the hash with a
+ * single XOR. The key of a cell is its column key rotated left by the row index.
+ * Because rotation distributes over XOR, the cells of one row can be folded into a
+ * row pattern that is independent of the row, and moving a whole row only rotates
+ * its pattern. Colours are ignored; two boards with the same filled cells hash equally.
+ */
+public final class BoardHash {
+
+    /** Widest board that can be hashed; one key per column, wider than any {@link BitBoard}. */
+    public static final int MAX_COLUMNS = 32;
+
+    private static final long KEY_SEED = 0x5A0B2F1D3C4E6A79L;
+    private static final int EMPTY_CELL = 0;
+    private static final long[] COLUMN_KEYS = new long[MAX_COLUMNS];
+
+    static {
+        SplittableRandom random = new SplittableRandom(KEY_SEED);
+        for (int col = 0; col < MAX_COLUMNS; col++) {
+            COLUMN_KEYS[col] = random.nextLong();
+        }
+    }
+
+    private BoardHash() {
+    }
+
+    /**
+     * Rejects boards too wide to hash, which would otherwise run out of column keys.
+     *
+     * @param cols is the number of columns in the board.
+     * @throws IllegalArgumentException if the board is wider than {@link #MAX_COLUMNS}.
+     */
+    public static void checkWidth(int cols) {
+        if (cols > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Board width cannot exceed " + MAX_COLUMNS + " columns for hashing");
+        }
+    }
+
+    /**
+     * Gets the key of a column, used to build row patterns.
+     *
+     * @param col is the column index.
+     * @return the column key.
+     */
+    public static long columnKey(int col) {
+        return COLUMN_KEYS[col];
+    }
+
+    /**
+     * Gets the key of a single cell.
+     *
+     * @param row is the row index.
+     * @param col is the column index.
+     * @return the cell key.
+     */
+    public static long cellKey(int row, int col) {
+        return Long.rotateLeft(COLUMN_KEYS[col], row);
+    }
+
+    /**
+     * Gets the hash contribution of a whole row.
+     *
+     * @param row is the row index.
+     * @param pattern is the XOR of the column keys of the row's filled cells.
+     * @return the XOR of the cell keys of the row's filled cells.
+     */
+    public static long rowKey(int row, long pattern) {
+        return Long.rotateLeft(pattern, row);
+    }
+
+    /**
+     * Hashes a board from scratch.
+     *
+     * @param matrix is the board matrix, indexed [row][column].
+     * @return the board hash; 0 for an empty board.
+     * @throws IllegalArgumentException if the board is wider than {@link #MAX_COLUMNS}.
+     */
+    public static long hash(int[][] matrix) {
+        if (matrix.length > 0) {
+            checkWidth(matrix[0].length);
+        }
+        long hash = 0;
+        for (int row = 0; row < matrix.length; row++) {
+            long pattern = 0;
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] != EMPTY_CELL) {
+                    pattern ^= COLUMN_KEYS[col];
+                }
+            }
+            hash ^= rowKey(row, pattern);
+        }
+        return hash;
+    }
+}
@@ -1,107 +1,91 @@
 package com.comp2042.model.board;
 
-import com.comp2042.logic.clear.ClearRow;
 import com.comp2042.logic.movement.MatrixOperations;
-import com.comp2042.logic.rotation.BrickRotator;
-import com.comp2042.logic.rotation.NextShapeInfo;
-import com.comp2042.model.bricks.Brick;
 import com.comp2042.model.bricks.BrickGenerator;
-import com.comp2042.model.bricks.RandomBrickGenerator;
-import com.comp2042.model.score.Score;
-import com.comp2042.view.ViewData;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
 
-import java.awt.Point;
+import java.util.Arrays;
 
 /**
  * Implementation of the Tetris game board.
  * Manages the game grid, brick movements, collisions, and game state.
+ * Per-row fill counts, per-column heights, the total filled-cell count and a
+ * {@link BoardHash} of the occupancy are maintained incrementally by merge and clear,
+ * so surface queries and hashing never rescan the grid.
  */
-public class SimpleBoard implements Board {
+public class SimpleBoard extends AbstractBoard {
 
-    private static final int DEFAULT_SPAWN_X = 4;
-    private static final int DEFAULT_SPAWN_Y = 0;
-    private static final int LINES_PER_LEVEL = 3;
-    private static final int DANGER_ZONE_ROWS = 2;
     private static final int EMPTY_CELL = 0;
 
-    private final int width;
-    private final int height;
-    private final BrickGenerator brickGenerator;
-    private final BrickRotator brickRotator;
-    private final Score score;
-
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
-    private Brick currentBrick;
-    private Brick nextBrick;
-
-    private int level;
-    private int linesUntilNextLevel;
-    private int totalLinesCleared;
+    private final int[][] currentGameMatrix;
+    private final int[] rowFillCounts;
+    private final int[] columnHeights;
+    private final long[] rowPatterns;
+    private int filledCellCount;
+    private long boardHash;
+    private int lastMergeTopRow;
+    private int lastMergeBottomRow;
 
     /**
-     * Creates a new SimpleBoard with the predefined dimensions.
+     * Creates a new SimpleBoard with the predefined dimensions, dealing uniformly random
+     * bricks from a fresh seed.
      *
      * @param rows is the number of rows in the board.
      * @param cols is the number of columns in the board.
      */
     public SimpleBoard(int rows, int cols) {
-        this.width = cols;
-        this.height = rows;
-        this.currentGameMatrix = new int[rows][cols];
-        this.brickGenerator = new RandomBrickGenerator();
-        this.brickRotator = new BrickRotator();
-        this.score = new Score();
-        this.level = 1;
-        this.linesUntilNextLevel = LINES_PER_LEVEL;
-        this.totalLinesCleared = 0;
-    }
-
-    @Override
-    public boolean moveBrickDown() {
-        Point newPosition = new Point(currentOffset);
-        newPosition.translate(0, 1);
-        return attemptMove(newPosition);
+        this(rows, cols, new SeededBrickGenerator(System.nanoTime(), RandomizerMode.UNIFORM));
     }
 
-    @Override
-    public boolean moveBrickLeft() {
-        Point newPosition = new Point(currentOffset);
-        newPosition.translate(-1, 0);
-        return attemptMove(newPosition);
-    }
-
-    @Override
-    public boolean moveBrickRight() {
-        Point newPosition = new Point(currentOffset);
-        newPosition.translate(1, 0);
-        return attemptMove(newPosition);
+    /**
+     * Creates a new SimpleBoard that takes its bricks from the given generator.
+     *
+     * @param rows is the number of rows in the board.
+     * @param cols is the number of columns in the board.
+     * @param brickGenerator is the source of new bricks, e.g. a seeded generator for reproducible games.
+     * @throws IllegalArgumentException if the board is too wide for {@link BoardHash}.
+     */
+    public SimpleBoard(int rows, int cols, BrickGenerator brickGenerator) {
+        super(rows, cols, brickGenerator);
+        BoardHash.checkWidth(cols);
+        this.currentGameMatrix = new int[rows][cols];
+        this.rowFillCounts = new int[rows];
+        this.columnHeights = new int[cols];
+        this.rowPatterns = new long[rows];
+        this.lastMergeTopRow = rows;
+        this.lastMergeBottomRow = -1;
     }
 
+    /**
+     * Slides the current brick to the wall or the first blocking cell.
+     * Columns whose stack lies entirely below the brick are skipped using the column
+     * heights; only columns that reach the brick's rows fall back to a full collision check.
+     *
+     * @param direction is -1 to slide left or 1 to slide right.
+     * @return the number of columns the brick moved.
+     */
     @Override
-    public boolean rotateLeftBrick() {
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean hasCollision = MatrixOperations.intersect(
-                currentGameMatrix,
-                nextShape.getShape(),
-                (int) currentOffset.getX(),
-                (int) currentOffset.getY()
-        );
-
-        if (!hasCollision) {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
+    public int moveBrickToWall(int direction) {
+        int step = Integer.signum(direction);
+        int startX = getCurrentX();
+        int y = getCurrentY();
+        BrickShape shape = getCurrentShape();
+        int wallX = step < 0 ? -shape.getMinX() : getWidth() - 1 - shape.getMaxX();
+
+        int x = startX;
+        while (step != 0 && x != wallX) {
+            int nextX = x + step;
+            if (!isAboveSurface(shape, nextX, y)
+                    && MatrixOperations.intersect(currentGameMatrix, shape.getMatrix(), nextX, y)) {
+                break;
+            }
+            x = nextX;
         }
-        return false;
-    }
-
-    @Override
-    public boolean createNewBrick() {
-        initializeBricks();
-        brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(DEFAULT_SPAWN_X, DEFAULT_SPAWN_Y);
 
-        return checkGameOver();
+        setPosition(x, y);
+        return Math.abs(x - startX);
     }
 
     @Override
@@ -110,207 +94,218 @@ public class SimpleBoard implements Board {
     }
 
     @Override
-    public ViewData getViewData() {
-        int ghostY = calculateGhostPosition();
-        int[][] nextPieceData = getNextPieceMatrix();
-
-        return new ViewData(
-                brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(),
-                (int) currentOffset.getY(),
-                nextPieceData,
-                ghostY
-        );
-    }
-
-    @Override
-    public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(
-                currentGameMatrix,
-                brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(),
-                (int) currentOffset.getY()
-        );
+    void mergeCells(BrickShape shape, int x, int y) {
+        MatrixOperations.mergeInPlace(currentGameMatrix, shape.getMatrix(), x, y);
+
+        for (int cell = 0; cell < shape.getCellCount(); cell++) {
+            int row = y + shape.getCellY(cell);
+            int col = x + shape.getCellX(cell);
+            rowFillCounts[row]++;
+            columnHeights[col] = Math.max(columnHeights[col], getHeight() - row);
+            rowPatterns[row] ^= BoardHash.columnKey(col);
+            boardHash ^= BoardHash.cellKey(row, col);
+        }
+        filledCellCount += shape.getCellCount();
+        lastMergeTopRow = Math.min(lastMergeTopRow, y + shape.getMinY());
+        lastMergeBottomRow = Math.max(lastMergeBottomRow, y + shape.getMaxY());
     }
 
     @Override
-    public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix, level);
-        currentGameMatrix = clearRow.getNewMatrix();
-
-        if (clearRow.getLinesRemoved() > 0) {
-            updateLevelProgress(clearRow.getLinesRemoved());
+    void clearCells() {
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, EMPTY_CELL);
         }
-
-        return clearRow;
+        Arrays.fill(rowFillCounts, 0);
+        Arrays.fill(columnHeights, 0);
+        Arrays.fill(rowPatterns, 0);
+        filledCellCount = 0;
+        boardHash = 0;
+        lastMergeTopRow = getHeight();
+        lastMergeBottomRow = -1;
     }
 
+    /**
+     * Also rebuilds the row fill counts, column heights and board hash.
+     */
     @Override
-    public Score getScore() {
-        return score;
-    }
+    public void loadBoard(int[][] matrix) {
+        if (matrix.length != getHeight() || matrix[0].length != getWidth()) {
+            throw new IllegalArgumentException("Matrix must be " + getHeight() + "x" + getWidth());
+        }
 
-    @Override
-    public void newGame() {
-        currentGameMatrix = new int[height][width];
-        score.reset();
-        level = 1;
-        linesUntilNextLevel = LINES_PER_LEVEL;
-        totalLinesCleared = 0;
-        currentBrick = null;
-        nextBrick = null;
-        createNewBrick();
+        Arrays.fill(columnHeights, 0);
+        filledCellCount = 0;
+        for (int row = 0; row < getHeight(); row++) {
+            System.arraycopy(matrix[row], 0, currentGameMatrix[row], 0, getWidth());
+            rowFillCounts[row] = 0;
+            rowPatterns[row] = 0;
+            for (int col = 0; col < getWidth(); col++) {
+                if (matrix[row][col] != EMPTY_CELL) {
+                    rowFillCounts[row]++;
+                    columnHeights[col] = Math.max(columnHeights[col], getHeight() - row);
+                    rowPatterns[row] ^= BoardHash.columnKey(col);
+                }
+            }
+            filledCellCount += rowFillCounts[row];
+        }
+        updateBoardHash();
+        lastMergeTopRow = 0;
+        lastMergeBottomRow = getHeight() - 1;
     }
 
     /**
-     * Gets the current game level.
+     * Gets the number of filled cells in a row.
      *
-     * @return the current level.
+     * @param row is the row index, 0 being the top row.
+     * @return the filled cell count of that row.
      */
-    public int getLevel() {
-        return level;
+    public int getRowFillCount(int row) {
+        return rowFillCounts[row];
     }
 
     /**
-     * Attempts to move the brick to a new position.
+     * Gets the height of a column, measured from the floor to its highest filled cell.
      *
-     * @param newPosition as the target position.
-     * @return true if the move was successful, false if blocked.
+     * @param col is the column index.
+     * @return the column height, or 0 if the column is empty.
      */
-    private boolean attemptMove(Point newPosition) {
-        boolean hasCollision = MatrixOperations.intersect(
-                currentGameMatrix,
-                brickRotator.getCurrentShape(),
-                (int) newPosition.getX(),
-                (int) newPosition.getY()
-        );
-
-        if (!hasCollision) {
-            currentOffset = newPosition;
-            return true;
-        }
-        return false;
+    public int getColumnHeight(int col) {
+        return columnHeights[col];
     }
 
-    /**
-     * Initializes the current and next bricks.
-     * On first call, generates both bricks. Subsequently, shifts next to current.
-     */
-    private void initializeBricks() {
-        if (currentBrick == null && nextBrick == null) {
-            currentBrick = brickGenerator.getBrick();
-            nextBrick = brickGenerator.getBrick();
-        } else {
-            currentBrick = nextBrick;
-            nextBrick = brickGenerator.getBrick();
-        }
+    @Override
+    public int getFilledCellCount() {
+        return filledCellCount;
     }
 
     /**
-     * Checks if the game is over due to new brick collision or danger zone breach.
+     * Gets the Zobrist-style hash of the filled cells, kept up to date by merge and clear.
      *
-     * @return true if game over, false otherwise.
+     * @return the board hash, equal to {@link BoardHash#hash(int[][])} of the board matrix.
      */
-    private boolean checkGameOver() {
-        boolean immediateCollision = MatrixOperations.intersect(
-                currentGameMatrix,
-                brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(),
-                (int) currentOffset.getY()
-        );
-
-        if (immediateCollision) {
-            return true;
-        }
+    public long getBoardHash() {
+        return boardHash;
+    }
 
-        if (!isBoardEmpty() && isDangerZoneBreached()) {
-            return true;
-        }
+    @Override
+    boolean intersects(BrickShape shape, int x, int y) {
+        return MatrixOperations.intersect(currentGameMatrix, shape.getMatrix(), x, y);
+    }
 
-        return false;
+    @Override
+    boolean isRowEmpty(int row) {
+        return rowFillCounts[row] == 0;
     }
 
     /**
-     * Checks if any blocks exist in the danger zone (top rows).
+     * Removes complete rows in place. Only rows touched by merges since the last clear
+     * can have become complete, so only those rows are checked.
      *
-     * @return true if danger zone is breached, false otherwise.
+     * @return a mask with bit n set if row n, counted before removal, was removed.
      */
-    private boolean isDangerZoneBreached() {
-        for (int row = 0; row < DANGER_ZONE_ROWS; row++) {
-            for (int col = 0; col < currentGameMatrix[0].length; col++) {
-                if (currentGameMatrix[row][col] != EMPTY_CELL) {
-                    return true;
-                }
+    @Override
+    long removeCompleteRows() {
+        int linesRemoved = 0;
+        long clearedRows = 0;
+        int top = lastMergeTopRow;
+        int row = lastMergeBottomRow;
+
+        while (row >= top) {
+            if (rowFillCounts[row] == getWidth()) {
+                MatrixOperations.removeRow(currentGameMatrix, row);
+                System.arraycopy(rowFillCounts, 0, rowFillCounts, 1, row);
+                System.arraycopy(rowPatterns, 0, rowPatterns, 1, row);
+                rowFillCounts[0] = 0;
+                rowPatterns[0] = 0;
+                clearedRows |= 1L << (row - linesRemoved);
+                linesRemoved++;
+                top++;
+            } else {
+                row--;
             }
         }
-        return false;
+
+        if (linesRemoved > 0) {
+            filledCellCount -= linesRemoved * getWidth();
+            updateColumnHeights();
+            updateBoardHash();
+        }
+        lastMergeTopRow = getHeight();
+        lastMergeBottomRow = -1;
+        return clearedRows;
     }
 
     /**
-     * Checks if the board is completely empty.
-     *
-     * @return true if board is empty, false otherwise.
+     * Recomputes column heights after rows were removed. Cells only ever move down,
+     * so each scan starts at the column's previous top cell.
      */
-    private boolean isBoardEmpty() {
-        for (int[] row : currentGameMatrix) {
-            for (int cell : row) {
-                if (cell != EMPTY_CELL) {
-                    return false;
-                }
+    private void updateColumnHeights() {
+        for (int col = 0; col < getWidth(); col++) {
+            int row = getHeight() - columnHeights[col];
+            while (row < getHeight() && currentGameMatrix[row][col] == EMPTY_CELL) {
+                row++;
             }
+            columnHeights[col] = getHeight() - row;
         }
-        return true;
     }
 
     /**
-     * Gets the matrix for the next piece to display.
-     *
-     * @return the next piece matrix or empty array if none exists.
+     * Rebuilds the board hash from the row patterns after rows have moved.
+     * Costs one rotate per row; the cells themselves are not rescanned.
      */
-    private int[][] getNextPieceMatrix() {
-        if (nextBrick != null) {
-            return nextBrick.getShapeMatrix().get(0);
+    private void updateBoardHash() {
+        long hash = 0;
+        for (int row = 0; row < getHeight(); row++) {
+            hash ^= BoardHash.rowKey(row, rowPatterns[row]);
         }
-        return new int[4][4];
+        boardHash = hash;
     }
 
     /**
-     * Updates level progress based on lines cleared.
+     * Calculates where the ghost piece (preview) should be positioned.
+     * Compares the brick's per-column bottom profile with the column heights, which is exact
+     * whenever the brick is above the surface of every column it covers. A brick slid under
+     * an overhang falls back to probing row by row.
      *
-     * @param linesCleared is the number of lines just cleared.
+     * @return the Y coordinate where the current brick would land.
      */
-    private void updateLevelProgress(int linesCleared) {
-        totalLinesCleared += linesCleared;
-        linesUntilNextLevel -= linesCleared;
+    @Override
+    int calculateGhostPosition() {
+        int x = getCurrentX();
+        int y = getCurrentY();
+        BrickShape shape = getCurrentShape();
+        int landingY = getHeight();
+
+        for (int col = shape.getMinX(); col <= shape.getMaxX(); col++) {
+            int bottom = shape.getColumnBottom(col);
+            if (bottom >= 0) {
+                int surfaceRow = getHeight() - columnHeights[x + col];
+                landingY = Math.min(landingY, surfaceRow - 1 - bottom);
+            }
+        }
 
-        if (linesUntilNextLevel <= 0) {
-            level++;
-            linesUntilNextLevel += LINES_PER_LEVEL;
+        if (landingY >= y) {
+            return landingY;
         }
+        return super.calculateGhostPosition();
     }
 
     /**
-     * Calculates where the ghost piece (preview) should be positioned.
+     * Checks whether every column of a brick placed at the given position is above
+     * the stack in that board column, which guarantees there is no collision.
      *
-     * @return the Y coordinate where the current brick would land.
+     * @param shape is the brick shape.
+     * @param x is the x-coordinate of the brick.
+     * @param y is the y-coordinate of the brick.
+     * @return true if the brick is clear of the stack in every column it covers.
      */
-    private int calculateGhostPosition() {
-        int ghostY = (int) currentOffset.getY();
-
-        while (ghostY < height) {
-            boolean collision = MatrixOperations.intersect(
-                    currentGameMatrix,
-                    brickRotator.getCurrentShape(),
-                    (int) currentOffset.getX(),
-                    ghostY + 1
-            );
-
-            if (collision) {
-                break;
+    private boolean isAboveSurface(BrickShape shape, int x, int y) {
+        for (int col = shape.getMinX(); col <= shape.getMaxX(); col++) {
+            int bottom = shape.getColumnBottom(col);
+            if (bottom >= 0 && y + bottom >= getHeight() - columnHeights[x + col]) {
+                return false;
             }
-            ghostY++;
         }
-
-        return ghostY;
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -5,4 +5,19 @@ import java.util.List;
 public interface Brick {
 
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Gets the precomputed, shared shape data for a rotation.
+     *
+     * @param rotation is the rotation index, from 0 to {@link #getRotationCount()} - 1.
+     * @return the read-only shape for that rotation.
+     */
+    BrickShape getShape(int rotation);
+
+    /**
+     * Gets the number of distinct rotations of this brick.
+     *
+     * @return the rotation count.
+     */
+    int getRotationCount();
 }
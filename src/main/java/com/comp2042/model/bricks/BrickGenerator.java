@@ -1,8 +1,19 @@
 package com.comp2042.model.bricks;
 
+import java.util.List;
+
 public interface BrickGenerator {
 
     Brick getBrick();
 
     Brick getNextBrick();
+
+    /**
+     * Gets the upcoming bricks without consuming them.
+     *
+     * @return the preview queue, next brick first.
+     */
+    default List<Brick> getPreview() {
+        return List.of(getNextBrick());
+    }
 }
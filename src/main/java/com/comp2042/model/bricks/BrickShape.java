@@ -0,0 +1,224 @@
+package com.comp2042.model.bricks;
+
+import com.comp2042.logic.movement.MatrixOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Precomputed, shared data for one rotation of a Tetromino brick.
+ * Holds the shape matrix together with its filled cell offsets, bounding box,
+ * per-row bitmasks and per-column bottom profile, so collision checks and
+ * rendering never need to rescan or copy the matrix.
+ * Instances are created once per brick type and shared by every game; the arrays
+ * returned by this class must be treated as read-only.
+ */
+public final class BrickShape {
+
+    private static final int EMPTY_CELL = 0;
+
+    private final int[][] matrix;
+    private final int[] cellX;
+    private final int[] cellY;
+    private final int[] rowBits;
+    private final int[] columnBottoms;
+    private final int minX;
+    private final int maxX;
+    private final int minY;
+    private final int maxY;
+
+    /**
+     * Creates a new BrickShape from a shape matrix.
+     *
+     * @param shape is the 2D array representing the brick shape, indexed [row][column].
+     * @throws IllegalArgumentException if the shape has no filled cells.
+     */
+    private BrickShape(int[][] shape) {
+        this.matrix = MatrixOperations.copy(shape);
+        this.rowBits = new int[shape.length];
+        this.columnBottoms = new int[shape.length == 0 ? 0 : shape[0].length];
+        Arrays.fill(columnBottoms, -1);
+
+        int cellCount = 0;
+        for (int[] row : shape) {
+            for (int cell : row) {
+                if (cell != EMPTY_CELL) {
+                    cellCount++;
+                }
+            }
+        }
+        if (cellCount == 0) {
+            throw new IllegalArgumentException("Shape must contain at least one filled cell");
+        }
+
+        this.cellX = new int[cellCount];
+        this.cellY = new int[cellCount];
+
+        int index = 0;
+        int left = Integer.MAX_VALUE, right = -1;
+        int top = Integer.MAX_VALUE, bottom = -1;
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != EMPTY_CELL) {
+                    cellX[index] = col;
+                    cellY[index] = row;
+                    rowBits[row] |= 1 << col;
+                    columnBottoms[col] = row;
+                    left = Math.min(left, col);
+                    right = Math.max(right, col);
+                    top = Math.min(top, row);
+                    bottom = Math.max(bottom, row);
+                    index++;
+                }
+            }
+        }
+
+        this.minX = left;
+        this.maxX = right;
+        this.minY = top;
+        this.maxY = bottom;
+    }
+
+    /**
+     * Builds the rotation table for a brick type.
+     *
+     * @param rotations are the shape matrices of each rotation, in rotation order.
+     * @return one BrickShape per rotation.
+     */
+    static BrickShape[] rotations(int[][]... rotations) {
+        BrickShape[] shapes = new BrickShape[rotations.length];
+        for (int i = 0; i < rotations.length; i++) {
+            shapes[i] = new BrickShape(Objects.requireNonNull(rotations[i], "Shape matrix cannot be null"));
+        }
+        return shapes;
+    }
+
+    /**
+     * Creates fresh copies of the shape matrices of a rotation table.
+     *
+     * @param shapes is the rotation table.
+     * @return a new list containing a copy of every rotation matrix.
+     */
+    static List<int[][]> copyMatrices(BrickShape[] shapes) {
+        List<int[][]> matrices = new ArrayList<>(shapes.length);
+        for (BrickShape shape : shapes) {
+            matrices.add(MatrixOperations.copy(shape.matrix));
+        }
+        return matrices;
+    }
+
+    /**
+     * Gets the shared shape matrix. The returned array must not be modified.
+     *
+     * @return the shape matrix, indexed [row][column].
+     */
+    public int[][] getMatrix() {
+        return matrix;
+    }
+
+    /**
+     * Gets the colour code used by the filled cells of this shape.
+     *
+     * @return the colour code.
+     */
+    public int getColor() {
+        return matrix[cellY[0]][cellX[0]];
+    }
+
+    /**
+     * Gets the number of filled cells.
+     *
+     * @return the filled cell count.
+     */
+    public int getCellCount() {
+        return cellX.length;
+    }
+
+    /**
+     * Gets the column offset of a filled cell within the shape matrix.
+     *
+     * @param index is the cell index, from 0 to {@link #getCellCount()} - 1.
+     * @return the column offset.
+     */
+    public int getCellX(int index) {
+        return cellX[index];
+    }
+
+    /**
+     * Gets the row offset of a filled cell within the shape matrix.
+     *
+     * @param index is the cell index, from 0 to {@link #getCellCount()} - 1.
+     * @return the row offset.
+     */
+    public int getCellY(int index) {
+        return cellY[index];
+    }
+
+    /**
+     * Gets the filled cells of a shape row as a bitmask, bit n being column n.
+     *
+     * @param row is the row within the shape matrix.
+     * @return the row bitmask, or 0 if the row is empty.
+     */
+    public int getRowBits(int row) {
+        return rowBits[row];
+    }
+
+    /**
+     * Gets the lowest filled row of a shape column, used to find where the shape
+     * rests on a column of known height.
+     *
+     * @param col is the column within the shape matrix.
+     * @return the row offset of the lowest filled cell, or -1 if the column is empty.
+     */
+    public int getColumnBottom(int col) {
+        return columnBottoms[col];
+    }
+
+    /**
+     * Gets the number of rows in the shape matrix.
+     *
+     * @return the shape matrix height.
+     */
+    public int getRowCount() {
+        return rowBits.length;
+    }
+
+    /**
+     * Gets the leftmost filled column, inclusive, as an offset from the shape matrix origin.
+     *
+     * @return the column offset.
+     */
+    public int getMinX() {
+        return minX;
+    }
+
+    /**
+     * Gets the rightmost filled column, inclusive, as an offset from the shape matrix origin.
+     *
+     * @return the column offset.
+     */
+    public int getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Gets the topmost filled row, inclusive, as an offset from the shape matrix origin.
+     *
+     * @return the row offset.
+     */
+    public int getMinY() {
+        return minY;
+    }
+
+    /**
+     * Gets the bottommost filled row, inclusive, as an offset from the shape matrix origin.
+     *
+     * @return the row offset.
+     */
+    public int getMaxY() {
+        return maxY;
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.model.bricks;
+
+import java.util.Locale;
+
+/**
+ * How a {@link SeededBrickGenerator} picks the next brick type.
+ */
+public enum RandomizerMode {
+
+    /** Every brick type is equally likely on every draw. */
+    UNIFORM,
+
+    /** Bricks are dealt from shuffled bags holding one of each type. */
+    SEVEN_BAG;
+
+    /**
+     * Parses a randomizer name, falling back to UNIFORM for unknown or missing names.
+     *
+     * @param name is the randomizer name, case-insensitive; may be null.
+     * @return the matching randomizer mode.
+     */
+    public static RandomizerMode fromName(String name) {
+        if (name != null) {
+            for (RandomizerMode mode : values()) {
+                if (mode.name().equals(name.trim().toUpperCase(Locale.ROOT))) {
+                    return mode;
+                }
+            }
+        }
+        return UNIFORM;
+    }
+}
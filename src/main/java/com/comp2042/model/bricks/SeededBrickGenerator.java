@@ -0,0 +1,142 @@
+package com.comp2042.model.bricks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a reproducible sequence of bricks from a seed.
+ * The same seed and mode always produce the same bricks, so games, benchmark
+ * playouts and replays can be repeated exactly. Keeps a preview queue of a
+ * configurable depth.
+ */
+public class SeededBrickGenerator implements BrickGenerator {
+
+    public static final int DEFAULT_PREVIEW_DEPTH = 2;
+
+    private static final Brick[] BRICK_TYPES = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    private final long seed;
+    private final RandomizerMode mode;
+    private final int previewDepth;
+    private final SplittableRandom random;
+    private final Deque<Brick> nextBricks;
+    private final int[] bag;
+    private int bagIndex;
+
+    /**
+     * Creates a new SeededBrickGenerator with the default two-brick preview.
+     *
+     * @param seed is the seed of the brick sequence.
+     * @param mode is the randomization mode.
+     */
+    public SeededBrickGenerator(long seed, RandomizerMode mode) {
+        this(seed, mode, DEFAULT_PREVIEW_DEPTH);
+    }
+
+    /**
+     * Creates a new SeededBrickGenerator.
+     *
+     * @param seed is the seed of the brick sequence.
+     * @param mode is the randomization mode.
+     * @param previewDepth is the number of upcoming bricks kept visible.
+     * @throws IllegalArgumentException if the preview depth is less than 1.
+     */
+    public SeededBrickGenerator(long seed, RandomizerMode mode, int previewDepth) {
+        if (previewDepth < 1) {
+            throw new IllegalArgumentException("Preview depth must be at least 1");
+        }
+
+        this.seed = seed;
+        this.mode = Objects.requireNonNull(mode, "Randomizer mode cannot be null");
+        this.previewDepth = previewDepth;
+        this.random = new SplittableRandom(seed);
+        this.nextBricks = new ArrayDeque<>(previewDepth + 1);
+        this.bag = new int[BRICK_TYPES.length];
+        this.bagIndex = bag.length;
+
+        for (int i = 0; i < previewDepth; i++) {
+            nextBricks.add(drawBrick());
+        }
+    }
+
+    @Override
+    public Brick getBrick() {
+        nextBricks.add(drawBrick());
+        return nextBricks.poll();
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return nextBricks.peek();
+    }
+
+    @Override
+    public List<Brick> getPreview() {
+        return new ArrayList<>(nextBricks);
+    }
+
+    /**
+     * Gets the seed the brick sequence was generated from.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets how the next brick type is picked.
+     *
+     * @return the randomization mode.
+     */
+    public RandomizerMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the number of upcoming bricks kept visible.
+     *
+     * @return the preview depth.
+     */
+    public int getPreviewDepth() {
+        return previewDepth;
+    }
+
+    /**
+     * Draws the next brick type from the random stream.
+     *
+     * @return the drawn brick.
+     */
+    private Brick drawBrick() {
+        if (mode == RandomizerMode.UNIFORM) {
+            return BRICK_TYPES[random.nextInt(BRICK_TYPES.length)];
+        }
+
+        if (bagIndex == bag.length) {
+            refillBag();
+        }
+        return BRICK_TYPES[bag[bagIndex++]];
+    }
+
+    /**
+     * Fills the bag with one of each brick type in a Fisher-Yates shuffled order.
+     */
+    private void refillBag() {
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = i;
+        }
+        for (int i = bag.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = bag[i];
+            bag[i] = bag[j];
+            bag[j] = swap;
+        }
+        bagIndex = 0;
+    }
+}
@@ -1,56 +1,103 @@
 package com.comp2042.model.score;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
- * Represents the game score with observable properties for UI binding.
- * Uses JavaFX properties to allow automatic UI updates when score changes.
+ * Represents the game score.
+ * Plain value holder with no UI dependencies; the game controller publishes
+ * changes to the view. Points are accumulated in a long so marathon sessions
+ * cannot overflow, and the combo and back-to-back streaks of the current game
+ * are tracked alongside them for scoring rules that reward them.
  */
 public final class Score {
 
     private static final int INITIAL_SCORE = 0;
+    private static final int NO_COMBO = -1;
 
-    private final IntegerProperty score;
+    private long total;
+    private int combo;
+    private boolean lastClearDifficult;
+    private boolean backToBack;
 
     /**
      * Creates a new Score initialized to zero.
      */
     public Score() {
-        this.score = new SimpleIntegerProperty(INITIAL_SCORE);
+        reset();
     }
 
     /**
-     * Gets the score property for UI binding.
+     * Adds points to the current score.
      *
-     * @return the observable score property.
+     * @param points the number of points to add.
      */
-    public IntegerProperty scoreProperty() {
-        return score;
+    public void add(int points) {
+        total += points;
     }
 
     /**
-     * Adds points to the current score.
+     * Records a locked brick and updates the combo and back-to-back streaks.
+     * A lock that clears no lines ends the combo but keeps the back-to-back streak;
+     * a clear that is not difficult ends the back-to-back streak.
      *
-     * @param points the number of points to add.
+     * @param linesCleared is the number of lines the lock cleared.
+     * @param difficult is true if the clear counts towards back-to-back, e.g. a Tetris.
      */
-    public void add(int points) {
-        score.setValue(score.getValue() + points);
+    public void recordLock(int linesCleared, boolean difficult) {
+        if (linesCleared <= 0) {
+            combo = NO_COMBO;
+            backToBack = false;
+            return;
+        }
+
+        combo++;
+        backToBack = difficult && lastClearDifficult;
+        lastClearDifficult = difficult;
     }
 
     /**
-     * Gets the current score value.
+     * Gets the current score value, saturated to the int range for callers that
+     * display or store it as an int.
      *
-     * @return the current score
+     * @return the current score, at most {@link Integer#MAX_VALUE}.
      */
     public int getValue() {
-        return score.get();
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, total));
+    }
+
+    /**
+     * Gets the exact accumulated score.
+     *
+     * @return the total score.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the combo count: 0 for the first of a run of consecutive clearing locks,
+     * 1 for the second and so on.
+     *
+     * @return the combo count, or -1 if the last lock cleared no lines.
+     */
+    public int getCombo() {
+        return combo;
+    }
+
+    /**
+     * Checks whether the last lock was a difficult clear directly following another one.
+     *
+     * @return true if the last lock continued a back-to-back streak.
+     */
+    public boolean isBackToBack() {
+        return backToBack;
     }
 
     /**
-     * Resets the score to zero.
+     * Resets the score and streaks.
      */
     public void reset() {
-        score.setValue(INITIAL_SCORE);
+        total = INITIAL_SCORE;
+        combo = NO_COMBO;
+        lastClearDifficult = false;
+        backToBack = false;
     }
-}
\ No newline at end of file
+}
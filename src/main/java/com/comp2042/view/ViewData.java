@@ -1,20 +1,22 @@
 package com.comp2042.view;
 
-import com.comp2042.logic.movement.MatrixOperations;
-
 import java.util.Objects;
 
 /**
- * Immutable data transfer object containing view information for rendering.
+ * Snapshot of the view information for rendering.
  * Holds the current brick, its position, the next brick preview, and ghost piece position.
+ * The brick matrices are the shared, precomputed shape matrices of the bricks and are
+ * never copied, so they must be treated as read-only. Boards reuse two snapshots in turn
+ * (see {@link com.comp2042.model.board.Board#getViewData()}); use {@link #copy()} to keep
+ * a snapshot for longer.
  */
 public final class ViewData {
 
-    private final int[][] brickData;
-    private final int xPosition;
-    private final int yPosition;
-    private final int[][] nextBrickData;
-    private final int ghostYPosition;
+    private int[][] brickData;
+    private int xPosition;
+    private int yPosition;
+    private int[][] nextBrickData;
+    private int ghostYPosition;
 
     /**
      * Creates a new ViewData instance.
@@ -26,23 +28,45 @@ public final class ViewData {
      * @param ghostYPosition as the y-coordinate where the ghost piece should appear.
      */
     public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int ghostYPosition) {
-        Objects.requireNonNull(brickData, "Brick data cannot be null");
-        Objects.requireNonNull(nextBrickData, "Next brick data cannot be null");
+        update(brickData, xPosition, yPosition, nextBrickData, ghostYPosition);
+    }
 
-        this.brickData = MatrixOperations.copy(brickData);
+    /**
+     * Overwrites this snapshot in place. Only the board that owns the snapshot calls this.
+     *
+     * @param brickData is the current brick matrix.
+     * @param xPosition is the x-coordinate of the brick.
+     * @param yPosition is the y-coordinate of the brick.
+     * @param nextBrickData as the next brick matrix for preview.
+     * @param ghostYPosition as the y-coordinate where the ghost piece should appear.
+     * @return this snapshot.
+     */
+    public ViewData update(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData,
+                           int ghostYPosition) {
+        this.brickData = Objects.requireNonNull(brickData, "Brick data cannot be null");
         this.xPosition = xPosition;
         this.yPosition = yPosition;
-        this.nextBrickData = MatrixOperations.copy(nextBrickData);
+        this.nextBrickData = Objects.requireNonNull(nextBrickData, "Next brick data cannot be null");
         this.ghostYPosition = ghostYPosition;
+        return this;
+    }
+
+    /**
+     * Creates a snapshot that is not reused by the board.
+     *
+     * @return a new ViewData with the same values.
+     */
+    public ViewData copy() {
+        return new ViewData(brickData, xPosition, yPosition, nextBrickData, ghostYPosition);
     }
 
     /**
-     * Gets a copy of the current brick matrix.
+     * Gets the current brick matrix. The returned array must not be modified.
      *
-     * @return a deep copy of the brick data.
+     * @return the brick data.
      */
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return brickData;
     }
 
     /**
@@ -64,12 +88,12 @@ public final class ViewData {
     }
 
     /**
-     * Gets a copy of the next brick matrix for preview.
+     * Gets the next brick matrix for preview. The returned array must not be modified.
      *
-     * @return a deep copy of the next brick data.
+     * @return the next brick data.
      */
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return nextBrickData;
     }
 
     /**
@@ -80,4 +104,4 @@ public final class ViewData {
     public int getGhostYPosition() {
         return ghostYPosition;
     }
-}
\ No newline at end of file
+}
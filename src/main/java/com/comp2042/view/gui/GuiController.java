@@ -1,19 +1,34 @@
 package com.comp2042.view.gui;
 
-import com.comp2042.logic.GameController;
+import com.comp2042.controller.GameView;
 import com.comp2042.controller.InputEventListener;
 import com.comp2042.event.EventSource;
 import com.comp2042.event.EventType;
+import com.comp2042.event.game.GameEventBus;
+import com.comp2042.jfr.RenderEvent;
 import com.comp2042.logic.clear.DownData;
+import com.comp2042.logic.clear.LockResult;
+import com.comp2042.logic.input.AutoShift;
+import com.comp2042.logic.input.InputQueue;
+import com.comp2042.logic.input.LatencyStats;
+import com.comp2042.logic.loop.GameClock;
+import com.comp2042.logic.loop.TickListener;
 import com.comp2042.logic.movement.MoveEvent;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickShape;
 import com.comp2042.view.ViewData;
 import com.comp2042.view.panel.GameOverPanel;
 import com.comp2042.view.panel.NotificationPanel;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.comp2042.view.render.BoardRenderer;
+import com.comp2042.view.render.CanvasBoardRenderer;
+import com.comp2042.view.render.RectangleBoardRenderer;
+import com.comp2042.view.render.RenderStyle;
+import com.comp2042.view.render.RendererType;
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleLongProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -24,32 +39,24 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
-import javafx.util.Duration;
 import javafx.scene.control.Label;
 
 import java.net.URL;
+import java.util.List;
 import java.util.ResourceBundle;
 
 /**
  * Main GUI controller for the Tetris game.
  * Handles all visual rendering, user input, and UI updates.
+ * Acts as the JavaFX adapter for the engine by implementing {@link GameView}.
  */
-public class GuiController implements Initializable {
-
-    private static final int BRICK_SIZE = 28;
-    private static final int BOARD_OFFSET_Y = -42;
-    private static final int HIDDEN_ROWS = 2;
-    private static final int MAX_BRICK_SIZE = 4;
-    private static final double NEXT_PIECE_SCALE = 0.7;
-    private static final double GHOST_OPACITY = 0.4;
-    private static final int INITIAL_SPEED_MS = 400;
-    private static final int BASE_SPEED_MS = 800;
-    private static final int SPEED_DECREASE_PER_LEVEL = 100;
-    private static final int MIN_SPEED_MS = 100;
+public class GuiController implements Initializable, GameView {
+
     private static final int LEVEL_UP_NOTIFICATION_OFFSET_Y = 60;
+    private static final int MAX_SHIFTS_PER_TICK = 10;
+    private static final double QUEUE_CELL_SIZE = RenderStyle.BRICK_SIZE * RenderStyle.NEXT_PIECE_SCALE;
 
     @FXML private GridPane gamePanel;
     @FXML private Group groupNotification;
@@ -59,25 +66,53 @@ public class GuiController implements Initializable {
     @FXML private Label linesLabel;
     @FXML private Label levelLabel;
     @FXML private GridPane nextBrickPanel;
+    @FXML private VBox previewQueuePanel;
     @FXML private VBox gameOverOverlay;
     @FXML private VBox pauseOverlay;
+    @FXML private Pane ghostPane;
 
-    private Rectangle[][] displayMatrix;
-    private Rectangle[][] rectangles;
-    private Rectangle[][] nextPieceRectangles;
-    private Rectangle[][] ghostRectangles;
+    private RendererType rendererType = RendererType.NODES;
+    private BoardRenderer renderer;
     private InputEventListener eventListener;
-    private Timeline timeLine;
+    private AnimationTimer frameTimer;
+    private LockResult pendingLock;
+    private GameEventBus eventBus;
 
     private final BooleanProperty isPause = new SimpleBooleanProperty(false);
     private final BooleanProperty isGameOver = new SimpleBooleanProperty(false);
+    private final LongProperty score = new SimpleLongProperty(0);
+    private long pendingScore;
+    private final InputQueue inputQueue = new InputQueue();
+    private final LatencyStats inputLatency = new LatencyStats();
+    private final AutoShift autoShift = new AutoShift();
+    private final GameClock gameClock = new GameClock(new TickListener() {
+        @Override
+        public void onTick() {
+            if (eventBus != null) {
+                eventBus.beginBatch();
+            }
+            inputQueue.drain(GuiController.this::dispatchInput);
+            applyAutoShift();
+        }
 
-    private int level = 1;
+        @Override
+        public void onGravity() {
+            moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+        }
+
+        @Override
+        public void onTickEnd() {
+            if (eventBus != null) {
+                eventBus.endBatch();
+            }
+        }
+    });
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         loadCustomFont();
         setupKeyboardControls();
+        bindScore(score);
         gameOverPanel.setVisible(false);
     }
 
@@ -87,11 +122,10 @@ public class GuiController implements Initializable {
      * @param boardMatrix is the game board state
      * @param brick is the initial brick data.
      */
+    @Override
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-        initializeDisplayMatrix(boardMatrix);
-        initializeBrickPanel(brick);
-        initializeNextPiecePreview();
-        initializeGhostPiece();
+        renderer = createRenderer();
+        renderer.initialize(boardMatrix, brick);
         startGameTimer();
     }
 
@@ -100,15 +134,15 @@ public class GuiController implements Initializable {
      *
      * @param brick the updated brick data.
      */
+    @Override
     public void refreshBrick(ViewData brick) {
         if (isPause.getValue()) {
             return;
         }
 
-        updateGhostPiece(brick);
-        updateBrickPosition(brick);
-        updateBrickAppearance(brick);
-        updateNextPiecePreview(brick);
+        RenderEvent event = startRenderEvent();
+        renderer.renderBrick(brick);
+        commitRenderEvent(event, RenderEvent.BRICK);
     }
 
     /**
@@ -116,17 +150,96 @@ public class GuiController implements Initializable {
      *
      * @param board the updated board state.
      */
+    @Override
     public void refreshGameBackground(int[][] board) {
-        for (int i = HIDDEN_ROWS; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+        RenderEvent event = startRenderEvent();
+        if (pendingLock != null) {
+            renderer.renderLock(board, pendingLock);
+            pendingLock = null;
+        } else {
+            renderer.renderBackground(board);
+        }
+        commitRenderEvent(event, RenderEvent.BACKGROUND);
+    }
+
+    /**
+     * Shows the bricks after the next one in the preview queue below the next piece
+     * panel. Only called on spawn, so the small grids are simply rebuilt.
+     *
+     * @param preview is the preview queue, next brick first.
+     */
+    @Override
+    public void updatePreview(List<Brick> preview) {
+        if (previewQueuePanel == null) {
+            return;
+        }
+
+        previewQueuePanel.getChildren().clear();
+        for (int i = 1; i < preview.size(); i++) {
+            BrickShape shape = preview.get(i).getShape(0);
+            int[][] matrix = shape.getMatrix();
+            GridPane grid = new GridPane();
+            grid.setHgap(1);
+            grid.setVgap(1);
+            for (int row = shape.getMinY(); row <= shape.getMaxY(); row++) {
+                for (int col = shape.getMinX(); col <= shape.getMaxX(); col++) {
+                    Rectangle cell = new Rectangle(QUEUE_CELL_SIZE, QUEUE_CELL_SIZE);
+                    int code = matrix[row][col];
+                    cell.setFill(code != 0 ? RenderStyle.getFillColor(code) : Color.TRANSPARENT);
+                    cell.setArcWidth(RenderStyle.PREVIEW_ARC);
+                    cell.setArcHeight(RenderStyle.PREVIEW_ARC);
+                    grid.add(cell, col - shape.getMinX(), row - shape.getMinY());
+                }
             }
+            previewQueuePanel.getChildren().add(grid);
+        }
+    }
+
+    /**
+     * Remembers a lock so the next background refresh repaints only what it changed.
+     *
+     * @param lockResult describes the lock.
+     */
+    @Override
+    public void onBrickLocked(LockResult lockResult) {
+        pendingLock = lockResult;
+    }
+
+    /**
+     * Starts timing a render pass, remembering the renderer's cell counter so the
+     * pass can report how many cells it touched.
+     *
+     * @return the started event.
+     */
+    private RenderEvent startRenderEvent() {
+        RenderEvent event = new RenderEvent();
+        if (event.isEnabled()) {
+            event.cellsTouched = renderer.getCellsTouched();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Ends a render pass started by {@link #startRenderEvent()} and records it.
+     *
+     * @param event is the started event.
+     * @param pass is {@link RenderEvent#BRICK} or {@link RenderEvent#BACKGROUND}.
+     */
+    private void commitRenderEvent(RenderEvent event, String pass) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.pass = pass;
+            event.renderer = rendererType.name();
+            event.cellsTouched = renderer.getCellsTouched() - event.cellsTouched;
+            event.commit();
         }
     }
 
     /**
      * Displays the game over screen.
      */
+    @Override
     public void gameOver() {
         stopGame();
         showGameOverScreen(false);
@@ -149,6 +262,7 @@ public class GuiController implements Initializable {
      *
      * @param scoreBonus which is the score bonus to display.
      */
+    @Override
     public void showScoreNotification(int scoreBonus) {
         if (scoreBonus > 0) {
             showNotification("+" + scoreBonus, 0);
@@ -160,10 +274,10 @@ public class GuiController implements Initializable {
      *
      * @param newLevel is the new level.
      */
+    @Override
     public void onLevelUp(int newLevel) {
-        this.level = newLevel;
         updateLevelDisplay(newLevel);
-        updateGameSpeed();
+        gameClock.setLevel(newLevel);
         showNotification("LEVEL " + newLevel, LEVEL_UP_NOTIFICATION_OFFSET_Y);
     }
 
@@ -172,32 +286,100 @@ public class GuiController implements Initializable {
      *
      * @param lines is the total lines cleared.
      */
+    @Override
     public void updateLinesDisplay(int lines) {
         if (linesLabel != null) {
             linesLabel.setText(String.valueOf(lines));
         }
     }
 
+    /**
+     * Records the score to display. The score property, and with it the label
+     * binding, is only updated once per frame by {@link #publishScore()}.
+     *
+     * @param newScore is the current score.
+     */
+    @Override
+    public void updateScore(long newScore) {
+        pendingScore = newScore;
+    }
+
+    /**
+     * Copies the latest score into the score property if it changed since the last frame.
+     */
+    private void publishScore() {
+        if (score.get() != pendingScore) {
+            score.set(pendingScore);
+        }
+    }
+
     /**
      * Binds the score property to the score label.
      *
-     * @param integerProperty is the score property.
+     * @param scoreProperty is the score property.
      */
-    public void bindScore(IntegerProperty integerProperty) {
+    private void bindScore(LongProperty scoreProperty) {
         if (scoreLabel != null) {
-            scoreLabel.textProperty().bind(integerProperty.asString("Score: %d"));
+            scoreLabel.textProperty().bind(scoreProperty.asString("Score: %d"));
         }
     }
 
+    /**
+     * Selects how the board is drawn. Must be called before the game view is initialized.
+     *
+     * @param rendererType is the renderer to use.
+     */
+    public void setRendererType(RendererType rendererType) {
+        this.rendererType = rendererType;
+    }
+
+    /**
+     * Sets the delayed auto shift and auto repeat rate used for sideways movement.
+     *
+     * @param dasMs is the delay before auto repeat starts, in milliseconds.
+     * @param arrMs is the delay between repeats, in milliseconds; 0 slides to the wall.
+     */
+    public void setAutoShiftTiming(int dasMs, int arrMs) {
+        autoShift.setTiming(dasMs, arrMs);
+    }
+
+    /**
+     * Gets the simulation clock, exposing tick rate and timing counters.
+     *
+     * @return the game clock.
+     */
+    public GameClock getGameClock() {
+        return gameClock;
+    }
+
+    /**
+     * Gets the input-to-display latency of processed key presses.
+     *
+     * @return the input latency statistics.
+     */
+    public LatencyStats getInputLatency() {
+        return inputLatency;
+    }
+
     /**
      * Sets the input event listener.
      *
      * @param eventListener as the event listener.
      */
+    @Override
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
     }
 
+    /**
+     * Sets the bus the game publishes on, so every simulation tick is dispatched as one batch.
+     *
+     * @param eventBus is the game's event bus.
+     */
+    public void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
     // ======================== Private Helper Methods ========================
 
     private void loadCustomFont() {
@@ -208,6 +390,16 @@ public class GuiController implements Initializable {
 
     private void setupKeyboardControls() {
         gamePanel.setOnKeyPressed(this::handleKeyPress);
+        gamePanel.setOnKeyReleased(this::handleKeyRelease);
+    }
+
+    private void handleKeyRelease(KeyEvent keyEvent) {
+        EventType type = toEventType(keyEvent.getCode());
+
+        if (type == EventType.LEFT || type == EventType.RIGHT) {
+            autoShift.release(type, System.nanoTime());
+            keyEvent.consume();
+        }
     }
 
     private void handleKeyPress(KeyEvent keyEvent) {
@@ -245,225 +437,109 @@ public class GuiController implements Initializable {
     }
 
     private void handleMovementKeys(KeyEvent keyEvent) {
-        KeyCode code = keyEvent.getCode();
+        EventType type = toEventType(keyEvent.getCode());
 
-        if (code == KeyCode.LEFT || code == KeyCode.A) {
-            refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-            keyEvent.consume();
-        } else if (code == KeyCode.RIGHT || code == KeyCode.D) {
-            refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-            keyEvent.consume();
-        } else if (code == KeyCode.UP || code == KeyCode.W) {
-            refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-            keyEvent.consume();
-        } else if (code == KeyCode.DOWN || code == KeyCode.S) {
-            moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+        if (type == EventType.LEFT || type == EventType.RIGHT) {
+            long now = System.nanoTime();
+            if (autoShift.press(type, now)) {
+                inputQueue.offer(new MoveEvent(type, EventSource.USER, now));
+            }
             keyEvent.consume();
-        } else if (code == KeyCode.SPACE) {
-            handleHardDrop();
+        } else if (type != null) {
+            inputQueue.offer(new MoveEvent(type, EventSource.USER));
             keyEvent.consume();
         }
     }
 
-    private void handleHardDrop() {
-        if (eventListener instanceof GameController) {
-            ((GameController) eventListener).onHardDropEvent();
-        }
-    }
-
-    private void initializeDisplayMatrix(int[][] boardMatrix) {
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-
-        for (int i = HIDDEN_ROWS; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - HIDDEN_ROWS);
-            }
-        }
-    }
-
-    private void initializeBrickPanel(ViewData brick) {
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-            }
-        }
-
-        updateBrickPosition(brick);
-    }
-
-    private void initializeNextPiecePreview() {
-        if (nextBrickPanel == null) return;
-
-        nextBrickPanel.getChildren().clear();
-        nextPieceRectangles = new Rectangle[MAX_BRICK_SIZE][MAX_BRICK_SIZE];
-
-        for (int i = 0; i < MAX_BRICK_SIZE; i++) {
-            for (int j = 0; j < MAX_BRICK_SIZE; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE * NEXT_PIECE_SCALE, BRICK_SIZE * NEXT_PIECE_SCALE);
-                rectangle.setFill(Color.TRANSPARENT);
-                nextPieceRectangles[i][j] = rectangle;
-                nextBrickPanel.add(rectangle, j, i);
-            }
-        }
-    }
-
-    private void initializeGhostPiece() {
-        ghostRectangles = new Rectangle[MAX_BRICK_SIZE][MAX_BRICK_SIZE];
-
-        for (int i = 0; i < MAX_BRICK_SIZE; i++) {
-            for (int j = 0; j < MAX_BRICK_SIZE; j++) {
-                Rectangle ghost = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                ghost.setFill(Color.WHITE);
-                ghost.setOpacity(GHOST_OPACITY);
-                ghost.setStroke(Color.WHITE);
-                ghost.setStrokeWidth(0.5);
-                ghost.setArcHeight(9);
-                ghost.setArcWidth(9);
-                ghostRectangles[i][j] = ghost;
-            }
-        }
-    }
-
-    private void startGameTimer() {
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(INITIAL_SPEED_MS),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
-
-        updateGameSpeed();
-    }
-
-    private void updateBrickPosition(ViewData brick) {
-        brickPanel.setLayoutX(
-                gamePanel.getLayoutX() +
-                        brick.getxPosition() * (brickPanel.getVgap() + BRICK_SIZE)
-        );
-        brickPanel.setLayoutY(
-                BOARD_OFFSET_Y + gamePanel.getLayoutY() +
-                        brick.getyPosition() * (brickPanel.getHgap() + BRICK_SIZE)
-        );
-    }
-
-    private void updateBrickAppearance(ViewData brick) {
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-            }
+    private EventType toEventType(KeyCode code) {
+        if (code == KeyCode.LEFT || code == KeyCode.A) {
+            return EventType.LEFT;
+        } else if (code == KeyCode.RIGHT || code == KeyCode.D) {
+            return EventType.RIGHT;
+        } else if (code == KeyCode.UP || code == KeyCode.W) {
+            return EventType.ROTATE;
+        } else if (code == KeyCode.DOWN || code == KeyCode.S) {
+            return EventType.DOWN;
+        } else if (code == KeyCode.SPACE) {
+            return EventType.HARD_DROP;
         }
+        return null;
     }
 
-    private void updateNextPiecePreview(ViewData viewData) {
-        if (nextPieceRectangles == null || viewData.getNextBrickData() == null) {
+    /**
+     * Applies one queued input event to the game. Called from the simulation tick.
+     *
+     * @param event is the input event.
+     */
+    private void dispatchInput(MoveEvent event) {
+        if (isGameOver.getValue()) {
             return;
         }
 
-        clearNextPiecePreview();
-        int[][] nextPiece = viewData.getNextBrickData();
-        BrickBounds bounds = calculateBrickBounds(nextPiece);
-        drawCenteredPiece(nextPiece, bounds);
-    }
-
-    private void clearNextPiecePreview() {
-        for (int i = 0; i < MAX_BRICK_SIZE; i++) {
-            for (int j = 0; j < MAX_BRICK_SIZE; j++) {
-                nextPieceRectangles[i][j].setFill(Color.TRANSPARENT);
-            }
-        }
+        switch (event.getEventType()) {
+            case LEFT:
+                refreshBrick(eventListener.onLeftEvent(event));
+                break;
+            case RIGHT:
+                refreshBrick(eventListener.onRightEvent(event));
+                break;
+            case ROTATE:
+                refreshBrick(eventListener.onRotateEvent(event));
+                break;
+            case DOWN:
+                moveDown(event);
+                break;
+            case HARD_DROP:
+                eventListener.onHardDropEvent();
+                break;
+            case LEFT_WALL:
+            case RIGHT_WALL:
+                refreshBrick(eventListener.onWallShiftEvent(event));
+                break;
+        }
+        inputLatency.record(event.getTimestampNanos(), System.nanoTime());
     }
 
-    private BrickBounds calculateBrickBounds(int[][] piece) {
-        int minRow = MAX_BRICK_SIZE, maxRow = -1;
-        int minCol = MAX_BRICK_SIZE, maxCol = -1;
-
-        for (int i = 0; i < piece.length; i++) {
-            for (int j = 0; j < piece[i].length; j++) {
-                if (piece[i][j] != 0) {
-                    minRow = Math.min(minRow, i);
-                    maxRow = Math.max(maxRow, i);
-                    minCol = Math.min(minCol, j);
-                    maxCol = Math.max(maxCol, j);
-                }
+    /**
+     * Applies the sideways shifts that auto repeat made due during this tick.
+     */
+    private void applyAutoShift() {
+        long now = System.nanoTime();
+        int shifts = autoShift.update(now);
+        EventType direction = autoShift.getActiveDirection();
+
+        if (shifts == AutoShift.TO_WALL) {
+            // Reported every tick while held; only dispatch, sample and record a slide that moves
+            if (eventListener.canShift(direction)) {
+                EventType wall = direction == EventType.LEFT ? EventType.LEFT_WALL : EventType.RIGHT_WALL;
+                dispatchInput(new MoveEvent(wall, EventSource.USER, now));
             }
-        }
-
-        return new BrickBounds(minRow, maxRow, minCol, maxCol);
-    }
-
-    private void drawCenteredPiece(int[][] piece, BrickBounds bounds) {
-        int pieceHeight = bounds.maxRow - bounds.minRow + 1;
-        int pieceWidth = bounds.maxCol - bounds.minCol + 1;
-        int offsetRow = (MAX_BRICK_SIZE - pieceHeight) / 2;
-        int offsetCol = (MAX_BRICK_SIZE - pieceWidth) / 2;
-
-        for (int i = bounds.minRow; i <= bounds.maxRow; i++) {
-            for (int j = bounds.minCol; j <= bounds.maxCol; j++) {
-                if (piece[i][j] != 0) {
-                    int displayRow = offsetRow + (i - bounds.minRow);
-                    int displayCol = offsetCol + (j - bounds.minCol);
-                    Rectangle rect = nextPieceRectangles[displayRow][displayCol];
-                    rect.setFill(getFillColor(piece[i][j]));
-                    rect.setArcHeight(7);
-                    rect.setArcWidth(7);
-                }
+        } else {
+            for (int i = 0; i < Math.min(shifts, MAX_SHIFTS_PER_TICK); i++) {
+                dispatchInput(new MoveEvent(direction, EventSource.USER, now));
             }
         }
     }
 
-    private void updateGhostPiece(ViewData brick) {
-        clearGhostPiece();
-        int[][] shape = brick.getBrickData();
-        int ghostY = brick.getGhostYPosition();
-
-        for (int i = 0; i < shape.length && i < MAX_BRICK_SIZE; i++) {
-            for (int j = 0; j < shape[i].length && j < MAX_BRICK_SIZE; j++) {
-                if (shape[i][j] != 0) {
-                    int gridRow = ghostY + i - HIDDEN_ROWS;
-                    if (gridRow >= 0) {
-                        Rectangle ghost = ghostRectangles[i][j];
-                        ghost.setVisible(true);
-                        gamePanel.add(ghost, brick.getxPosition() + j, gridRow);
-                    }
-                }
-            }
+    private BoardRenderer createRenderer() {
+        if (rendererType == RendererType.CANVAS) {
+            return new CanvasBoardRenderer(gamePanel, brickPanel, nextBrickPanel);
         }
+        return new RectangleBoardRenderer(gamePanel, brickPanel, nextBrickPanel, ghostPane);
     }
 
-    private void clearGhostPiece() {
-        for (int i = 0; i < MAX_BRICK_SIZE; i++) {
-            for (int j = 0; j < MAX_BRICK_SIZE; j++) {
-                gamePanel.getChildren().remove(ghostRectangles[i][j]);
+    private void startGameTimer() {
+        frameTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                gameClock.advance(now);
+                publishScore();
             }
-        }
-    }
-
-    private Paint getFillColor(int colorCode) {
-        switch (colorCode) {
-            case 0: return Color.TRANSPARENT;
-            case 1: return Color.AQUA;
-            case 2: return Color.BLUEVIOLET;
-            case 3: return Color.DARKGREEN;
-            case 4: return Color.YELLOW;
-            case 5: return Color.RED;
-            case 6: return Color.BEIGE;
-            case 7: return Color.BURLYWOOD;
-            default: return Color.WHITE;
-        }
-    }
-
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(getFillColor(color));
-        rectangle.setArcHeight(9);
-        rectangle.setArcWidth(9);
+        };
+        gameClock.setLevel(1);
+        gameClock.reset();
+        gameClock.start();
+        frameTimer.start();
     }
 
     private void moveDown(MoveEvent event) {
@@ -472,17 +548,10 @@ public class GuiController implements Initializable {
         }
 
         DownData downData = eventListener.onDownEvent(event);
-        handleRowClearNotification(downData);
         refreshBrick(downData.getViewData());
         gamePanel.requestFocus();
     }
 
-    private void handleRowClearNotification(DownData downData) {
-        if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-            showNotification("+" + downData.getClearRow().getScoreBonus(), 0);
-        }
-    }
-
     private void showNotification(String message, int yOffset) {
         NotificationPanel notification = new NotificationPanel(message);
         if (yOffset != 0) {
@@ -496,10 +565,11 @@ public class GuiController implements Initializable {
         isPause.setValue(!isPause.getValue());
 
         if (isPause.getValue()) {
-            timeLine.pause();
+            gameClock.stop();
+            autoShift.reset();
             showPauseOverlay();
         } else {
-            timeLine.play();
+            gameClock.start();
             hidePauseOverlay();
         }
 
@@ -519,8 +589,8 @@ public class GuiController implements Initializable {
     }
 
     private void stopGame() {
-        timeLine.stop();
-        brickPanel.setVisible(false);
+        gameClock.stop();
+        renderer.setBrickVisible(false);
     }
 
     private void showGameOverScreen(boolean forced) {
@@ -528,6 +598,7 @@ public class GuiController implements Initializable {
             gameOverOverlay.setVisible(true);
         }
 
+        publishScore();
         String currentScore = extractCurrentScore();
         if (gameOverPanel != null) {
             gameOverPanel.setFinalScore(currentScore, forced);
@@ -552,18 +623,22 @@ public class GuiController implements Initializable {
     }
 
     private void resetGameState() {
-        timeLine.stop();
-        level = 1;
+        gameClock.stop();
+        gameClock.setLevel(1);
+        gameClock.reset();
         isPause.setValue(false);
         isGameOver.setValue(false);
     }
 
     private void startNewGame() {
-        brickPanel.setVisible(true);
+        pendingLock = null;
+        inputQueue.clear();
+        autoShift.reset();
+        renderer.setBrickVisible(true);
         eventListener.createNewGame();
         updateDisplays();
         gamePanel.requestFocus();
-        timeLine.play();
+        gameClock.start();
     }
 
     private void updateDisplays() {
@@ -577,39 +652,8 @@ public class GuiController implements Initializable {
         }
     }
 
-    private void updateGameSpeed() {
-        int speed = Math.max(MIN_SPEED_MS, BASE_SPEED_MS - (level * SPEED_DECREASE_PER_LEVEL));
-
-        if (timeLine != null) {
-            timeLine.stop();
-        }
-
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(speed),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
-    }
-
     private void forceGameOver() {
         stopGame();
         showGameOverScreen(true);
     }
-
-    // ======================== Inner Classes ========================
-
-    /**
-     * Helper class to store brick bounding box coordinates.
-     */
-    private static class BrickBounds {
-        final int minRow, maxRow, minCol, maxCol;
-
-        BrickBounds(int minRow, int maxRow, int minCol, int maxCol) {
-            this.minRow = minRow;
-            this.maxRow = maxRow;
-            this.minCol = minCol;
-            this.maxCol = maxCol;
-        }
-    }
 }
\ No newline at end of file
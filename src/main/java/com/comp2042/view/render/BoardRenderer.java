@@ -0,0 +1,57 @@
+package com.comp2042.view.render;
+
+import com.comp2042.logic.clear.LockResult;
+import com.comp2042.view.ViewData;
+
+/**
+ * Draws the game board, falling brick, ghost piece and next piece preview.
+ * Implementations own all scene nodes used for drawing, so the GUI controller
+ * only forwards engine updates.
+ */
+public interface BoardRenderer {
+
+    /**
+     * Creates the drawing surfaces and draws the initial state.
+     *
+     * @param boardMatrix is the initial board state.
+     * @param brick is the initial brick data.
+     */
+    void initialize(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Draws the locked cells of the board.
+     *
+     * @param boardMatrix is the current board state.
+     */
+    void renderBackground(int[][] boardMatrix);
+
+    /**
+     * Draws the locked cells of the board after a lock, repainting only the cells the
+     * lock filled, or the rows that moved if it cleared any.
+     *
+     * @param boardMatrix is the board state after the lock.
+     * @param lockResult describes what the lock changed since the last render.
+     */
+    void renderLock(int[][] boardMatrix, LockResult lockResult);
+
+    /**
+     * Draws the falling brick, its ghost and the next piece preview.
+     *
+     * @param brick is the current brick data.
+     */
+    void renderBrick(ViewData brick);
+
+    /**
+     * Shows or hides the falling brick, e.g. when the game ends.
+     *
+     * @param visible true to show the brick, false to hide it.
+     */
+    void setBrickVisible(boolean visible);
+
+    /**
+     * Gets the number of board cells repainted by the last render call, for debugging.
+     *
+     * @return the cells touched by the last renderBackground or renderBrick call.
+     */
+    int getCellsTouched();
+}
@@ -0,0 +1,308 @@
+package com.comp2042.view.render;
+
+import com.comp2042.logic.clear.LockResult;
+import com.comp2042.view.ViewData;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+
+import static com.comp2042.view.render.RenderStyle.BRICK_SIZE;
+import static com.comp2042.view.render.RenderStyle.CELL_ARC;
+import static com.comp2042.view.render.RenderStyle.CELL_GAP;
+import static com.comp2042.view.render.RenderStyle.GHOST_OPACITY;
+import static com.comp2042.view.render.RenderStyle.HIDDEN_ROWS;
+import static com.comp2042.view.render.RenderStyle.MAX_BRICK_SIZE;
+import static com.comp2042.view.render.RenderStyle.NEXT_PIECE_SCALE;
+import static com.comp2042.view.render.RenderStyle.PREVIEW_ARC;
+import static com.comp2042.view.render.RenderStyle.getFillColor;
+
+/**
+ * Renders the board onto a single Canvas instead of one node per cell.
+ * Only cells whose picture changed are repainted: the background is diffed against
+ * a copy of the last drawn board, and the cells covered by the previous brick and
+ * ghost are restored before the new ones are drawn.
+ */
+public class CanvasBoardRenderer implements BoardRenderer {
+
+    private static final int CELL_STRIDE = BRICK_SIZE + CELL_GAP;
+    private static final double PREVIEW_CELL_SIZE = BRICK_SIZE * NEXT_PIECE_SCALE;
+    private static final double PREVIEW_STRIDE = PREVIEW_CELL_SIZE + CELL_GAP;
+    private static final int MAX_OVERLAY_CELLS = 2 * MAX_BRICK_SIZE * MAX_BRICK_SIZE;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final GridPane nextBrickPanel;
+
+    private GraphicsContext board;
+    private GraphicsContext preview;
+    private int[][] shownBackground;
+
+    private final int[] overlayCells = new int[MAX_OVERLAY_CELLS];
+    private int overlayCount;
+    private int[][] shownPreview;
+    private boolean brickVisible = true;
+    private int cellsTouched;
+
+    /**
+     * Creates a new CanvasBoardRenderer.
+     *
+     * @param gamePanel is the grid the board canvas is placed in.
+     * @param brickPanel is the node-based brick grid, hidden while this renderer is active.
+     * @param nextBrickPanel is the grid the preview canvas is placed in (may be null).
+     */
+    public CanvasBoardRenderer(GridPane gamePanel, GridPane brickPanel, GridPane nextBrickPanel) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.nextBrickPanel = nextBrickPanel;
+    }
+
+    @Override
+    public void initialize(int[][] boardMatrix, ViewData brick) {
+        int rows = boardMatrix.length;
+        int cols = boardMatrix[0].length;
+
+        Canvas boardCanvas = new Canvas(cols * CELL_STRIDE - CELL_GAP, (rows - HIDDEN_ROWS) * CELL_STRIDE - CELL_GAP);
+        gamePanel.getChildren().clear();
+        gamePanel.add(boardCanvas, 0, 0);
+        board = boardCanvas.getGraphicsContext2D();
+
+        if (nextBrickPanel != null) {
+            double previewSize = MAX_BRICK_SIZE * PREVIEW_STRIDE - CELL_GAP;
+            Canvas previewCanvas = new Canvas(previewSize, previewSize);
+            nextBrickPanel.getChildren().clear();
+            nextBrickPanel.add(previewCanvas, 0, 0);
+            preview = previewCanvas.getGraphicsContext2D();
+        }
+
+        brickPanel.setVisible(false);
+        shownBackground = new int[rows][cols];
+        overlayCount = 0;
+        shownPreview = null;
+
+        renderBackground(boardMatrix);
+        renderBrick(brick);
+    }
+
+    @Override
+    public void renderBackground(int[][] boardMatrix) {
+        cellsTouched = 0;
+        renderRows(boardMatrix, boardMatrix.length - 1);
+        repairOverlay();
+    }
+
+    @Override
+    public void renderLock(int[][] boardMatrix, LockResult lockResult) {
+        cellsTouched = 0;
+        if (lockResult.getLinesCleared() > 0) {
+            // Locked cells below the lowest cleared row did not move but are still new
+            int lowestRow = lockResult.getLowestClearedRow();
+            renderRows(boardMatrix, lowestRow >= 0
+                    ? Math.max(lowestRow, lockResult.getLowestLockedRow())
+                    : boardMatrix.length - 1);
+        } else {
+            for (int cell = 0; cell < lockResult.getLockedCellCount(); cell++) {
+                int row = lockResult.getLockedRow(cell);
+                if (row >= HIDDEN_ROWS) {
+                    renderCell(boardMatrix, row, lockResult.getLockedColumn(cell));
+                }
+            }
+        }
+        repairOverlay();
+    }
+
+    /**
+     * Repaints the changed cells of the visible rows down to the given row.
+     *
+     * @param boardMatrix is the current board state.
+     * @param lastRow is the lowest row to check.
+     */
+    private void renderRows(int[][] boardMatrix, int lastRow) {
+        for (int i = HIDDEN_ROWS; i <= lastRow; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                renderCell(boardMatrix, i, j);
+            }
+        }
+    }
+
+    private void renderCell(int[][] boardMatrix, int row, int col) {
+        int code = boardMatrix[row][col];
+        if (shownBackground[row][col] != code) {
+            shownBackground[row][col] = code;
+            drawBackgroundCell(row, col);
+            cellsTouched++;
+        }
+    }
+
+    /**
+     * Redraws the falling brick and ghost if background cells were painted over them.
+     */
+    private void repairOverlay() {
+        if (cellsTouched > 0 && brickVisible) {
+            redrawOverlay();
+        }
+    }
+
+    @Override
+    public void renderBrick(ViewData brick) {
+        cellsTouched = 0;
+        restoreOverlay();
+
+        int[][] shape = brick.getBrickData();
+        int x = brick.getxPosition();
+
+        collectOverlay(shape, x, brick.getGhostYPosition(), true);
+        collectOverlay(shape, x, brick.getyPosition(), false);
+
+        if (brickVisible) {
+            redrawOverlay();
+            cellsTouched += overlayCount;
+        }
+        renderPreview(brick.getNextBrickData());
+    }
+
+    @Override
+    public void setBrickVisible(boolean visible) {
+        if (brickVisible == visible) {
+            return;
+        }
+        brickVisible = visible;
+
+        if (visible) {
+            redrawOverlay();
+        } else {
+            restoreBackgroundUnderOverlay();
+        }
+    }
+
+    @Override
+    public int getCellsTouched() {
+        return cellsTouched;
+    }
+
+    /**
+     * Records the visible cells of a brick drawn at the given position.
+     * Each cell is packed as row, column, ghost flag and colour code.
+     */
+    private void collectOverlay(int[][] shape, int x, int y, boolean ghost) {
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                int row = y + i;
+                int col = x + j;
+                if (shape[i][j] != 0 && row >= HIDDEN_ROWS && row < shownBackground.length
+                        && col >= 0 && col < shownBackground[row].length && overlayCount < MAX_OVERLAY_CELLS) {
+                    overlayCells[overlayCount++] = pack(row, col, ghost, shape[i][j]);
+                }
+            }
+        }
+    }
+
+    private void restoreOverlay() {
+        restoreBackgroundUnderOverlay();
+        cellsTouched += overlayCount;
+        overlayCount = 0;
+    }
+
+    private void restoreBackgroundUnderOverlay() {
+        for (int k = 0; k < overlayCount; k++) {
+            drawBackgroundCell(unpackRow(overlayCells[k]), unpackCol(overlayCells[k]));
+        }
+    }
+
+    private void redrawOverlay() {
+        for (int k = 0; k < overlayCount; k++) {
+            int cell = overlayCells[k];
+            int row = unpackRow(cell);
+            int col = unpackCol(cell);
+            if (isGhost(cell)) {
+                drawGhostCell(row, col);
+            } else {
+                fillCell(board, col * CELL_STRIDE, (row - HIDDEN_ROWS) * CELL_STRIDE, BRICK_SIZE, CELL_ARC, unpackColor(cell));
+            }
+        }
+    }
+
+    private void drawBackgroundCell(int row, int col) {
+        double px = col * CELL_STRIDE;
+        double py = (row - HIDDEN_ROWS) * CELL_STRIDE;
+        board.clearRect(px, py, BRICK_SIZE, BRICK_SIZE);
+        fillCell(board, px, py, BRICK_SIZE, CELL_ARC, shownBackground[row][col]);
+    }
+
+    private void drawGhostCell(int row, int col) {
+        double px = col * CELL_STRIDE;
+        double py = (row - HIDDEN_ROWS) * CELL_STRIDE;
+        board.setGlobalAlpha(GHOST_OPACITY);
+        board.setFill(Color.WHITE);
+        board.fillRoundRect(px, py, BRICK_SIZE, BRICK_SIZE, CELL_ARC, CELL_ARC);
+        board.setStroke(Color.WHITE);
+        board.setLineWidth(0.5);
+        board.strokeRoundRect(px, py, BRICK_SIZE, BRICK_SIZE, CELL_ARC, CELL_ARC);
+        board.setGlobalAlpha(1.0);
+    }
+
+    private void renderPreview(int[][] nextPiece) {
+        if (preview == null || nextPiece == null || nextPiece == shownPreview) {
+            return;
+        }
+        shownPreview = nextPiece;
+
+        double size = MAX_BRICK_SIZE * PREVIEW_STRIDE;
+        preview.clearRect(0, 0, size, size);
+
+        int minRow = MAX_BRICK_SIZE, maxRow = -1;
+        int minCol = MAX_BRICK_SIZE, maxCol = -1;
+        for (int i = 0; i < nextPiece.length; i++) {
+            for (int j = 0; j < nextPiece[i].length; j++) {
+                if (nextPiece[i][j] != 0) {
+                    minRow = Math.min(minRow, i);
+                    maxRow = Math.max(maxRow, i);
+                    minCol = Math.min(minCol, j);
+                    maxCol = Math.max(maxCol, j);
+                }
+            }
+        }
+        if (maxRow < 0) {
+            return;
+        }
+
+        int offsetRow = (MAX_BRICK_SIZE - (maxRow - minRow + 1)) / 2;
+        int offsetCol = (MAX_BRICK_SIZE - (maxCol - minCol + 1)) / 2;
+        for (int i = minRow; i <= maxRow; i++) {
+            for (int j = minCol; j <= maxCol; j++) {
+                fillCell(preview,
+                        (offsetCol + j - minCol) * PREVIEW_STRIDE,
+                        (offsetRow + i - minRow) * PREVIEW_STRIDE,
+                        PREVIEW_CELL_SIZE, PREVIEW_ARC, nextPiece[i][j]);
+            }
+        }
+    }
+
+    private static void fillCell(GraphicsContext gc, double px, double py, double size, double arc, int color) {
+        if (color == 0) {
+            return;
+        }
+        gc.setFill(getFillColor(color));
+        gc.fillRoundRect(px, py, size, size, arc, arc);
+    }
+
+    private static int pack(int row, int col, boolean ghost, int color) {
+        return row << 16 | col << 8 | (ghost ? 0x80 : 0) | color;
+    }
+
+    private static int unpackRow(int cell) {
+        return cell >>> 16;
+    }
+
+    private static int unpackCol(int cell) {
+        return (cell >>> 8) & 0xFF;
+    }
+
+    private static boolean isGhost(int cell) {
+        return (cell & 0x80) != 0;
+    }
+
+    private static int unpackColor(int cell) {
+        return cell & 0x7F;
+    }
+}
@@ -0,0 +1,331 @@
+package com.comp2042.view.render;
+
+import com.comp2042.logic.clear.LockResult;
+import com.comp2042.view.ViewData;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import static com.comp2042.view.render.RenderStyle.BRICK_SIZE;
+import static com.comp2042.view.render.RenderStyle.CELL_ARC;
+import static com.comp2042.view.render.RenderStyle.CELL_GAP;
+import static com.comp2042.view.render.RenderStyle.GHOST_OPACITY;
+import static com.comp2042.view.render.RenderStyle.HIDDEN_ROWS;
+import static com.comp2042.view.render.RenderStyle.MAX_BRICK_SIZE;
+import static com.comp2042.view.render.RenderStyle.NEXT_PIECE_SCALE;
+import static com.comp2042.view.render.RenderStyle.PREVIEW_ARC;
+import static com.comp2042.view.render.RenderStyle.getFillColor;
+
+/**
+ * Renders the board with one JavaFX Rectangle node per cell.
+ * The board, falling brick and next piece preview each live in their own GridPane.
+ * Board cells remember the colour code they show, so a refresh only touches the
+ * cells that changed since the last one.
+ * The ghost piece lives in an overlay pane whose cells are created once, so moving
+ * the brick only translates the overlay and toggles cell visibility.
+ */
+public class RectangleBoardRenderer implements BoardRenderer {
+
+    private static final int BOARD_OFFSET_Y = -42;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final GridPane nextBrickPanel;
+    private final Pane ghostPane;
+
+    private Rectangle[][] displayMatrix;
+    private int[][] shownCodes;
+    private int[][] shownBrickCodes;
+    private int[][] shownNextPiece;
+    private int cellsTouched;
+    private Rectangle[][] rectangles;
+    private Rectangle[][] nextPieceRectangles;
+    private Rectangle[][] ghostRectangles;
+
+    /**
+     * Creates a new RectangleBoardRenderer.
+     *
+     * @param gamePanel is the grid holding the board cells.
+     * @param brickPanel is the grid holding the falling brick.
+     * @param nextBrickPanel is the grid holding the next piece preview (may be null).
+     * @param ghostPane is the overlay pane holding the ghost piece cells.
+     */
+    public RectangleBoardRenderer(GridPane gamePanel, GridPane brickPanel, GridPane nextBrickPanel, Pane ghostPane) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.nextBrickPanel = nextBrickPanel;
+        this.ghostPane = ghostPane;
+    }
+
+    @Override
+    public void initialize(int[][] boardMatrix, ViewData brick) {
+        initializeDisplayMatrix(boardMatrix);
+        initializeBrickPanel(brick);
+        initializeNextPiecePreview();
+        initializeGhostPiece();
+        shownNextPiece = null;
+    }
+
+    @Override
+    public void renderBackground(int[][] board) {
+        cellsTouched = 0;
+        renderRows(board, board.length - 1);
+    }
+
+    @Override
+    public void renderLock(int[][] board, LockResult lockResult) {
+        cellsTouched = 0;
+        if (lockResult.getLinesCleared() > 0) {
+            // Locked cells below the lowest cleared row did not move but are still new
+            int lowestRow = lockResult.getLowestClearedRow();
+            renderRows(board, lowestRow >= 0
+                    ? Math.max(lowestRow, lockResult.getLowestLockedRow())
+                    : board.length - 1);
+            return;
+        }
+
+        for (int cell = 0; cell < lockResult.getLockedCellCount(); cell++) {
+            int row = lockResult.getLockedRow(cell);
+            if (row >= HIDDEN_ROWS) {
+                renderCell(board, row, lockResult.getLockedColumn(cell));
+            }
+        }
+    }
+
+    /**
+     * Repaints the changed cells of the visible rows down to the given row.
+     *
+     * @param board is the current board state.
+     * @param lastRow is the lowest row to check.
+     */
+    private void renderRows(int[][] board, int lastRow) {
+        for (int i = HIDDEN_ROWS; i <= lastRow; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                renderCell(board, i, j);
+            }
+        }
+    }
+
+    private void renderCell(int[][] board, int row, int col) {
+        if (shownCodes[row][col] != board[row][col]) {
+            shownCodes[row][col] = board[row][col];
+            displayMatrix[row][col].setFill(getFillColor(board[row][col]));
+            cellsTouched++;
+        }
+    }
+
+    @Override
+    public void renderBrick(ViewData brick) {
+        cellsTouched = 0;
+        updateGhostPiece(brick);
+        updateBrickPosition(brick);
+        updateBrickAppearance(brick);
+        updateNextPiecePreview(brick);
+    }
+
+    @Override
+    public void setBrickVisible(boolean visible) {
+        brickPanel.setVisible(visible);
+        ghostPane.setVisible(visible);
+    }
+
+    @Override
+    public int getCellsTouched() {
+        return cellsTouched;
+    }
+
+    private void initializeDisplayMatrix(int[][] boardMatrix) {
+        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        shownCodes = new int[boardMatrix.length][boardMatrix[0].length];
+
+        for (int i = HIDDEN_ROWS; i < boardMatrix.length; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                Rectangle rectangle = createCell();
+                displayMatrix[i][j] = rectangle;
+                gamePanel.add(rectangle, j, i - HIDDEN_ROWS);
+            }
+        }
+    }
+
+    private void initializeBrickPanel(ViewData brick) {
+        int[][] shape = brick.getBrickData();
+        rectangles = new Rectangle[shape.length][shape[0].length];
+        shownBrickCodes = new int[shape.length][shape[0].length];
+
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                Rectangle rectangle = createCell();
+                rectangle.setFill(getFillColor(shape[i][j]));
+                shownBrickCodes[i][j] = shape[i][j];
+                rectangles[i][j] = rectangle;
+                brickPanel.add(rectangle, j, i);
+            }
+        }
+
+        updateBrickPosition(brick);
+    }
+
+    private void initializeNextPiecePreview() {
+        if (nextBrickPanel == null) return;
+
+        nextBrickPanel.getChildren().clear();
+        nextPieceRectangles = new Rectangle[MAX_BRICK_SIZE][MAX_BRICK_SIZE];
+
+        for (int i = 0; i < MAX_BRICK_SIZE; i++) {
+            for (int j = 0; j < MAX_BRICK_SIZE; j++) {
+                Rectangle rectangle = new Rectangle(BRICK_SIZE * NEXT_PIECE_SCALE, BRICK_SIZE * NEXT_PIECE_SCALE);
+                rectangle.setFill(Color.TRANSPARENT);
+                nextPieceRectangles[i][j] = rectangle;
+                nextBrickPanel.add(rectangle, j, i);
+            }
+        }
+    }
+
+    private void initializeGhostPiece() {
+        ghostPane.getChildren().clear();
+        ghostRectangles = new Rectangle[MAX_BRICK_SIZE][MAX_BRICK_SIZE];
+
+        for (int i = 0; i < MAX_BRICK_SIZE; i++) {
+            for (int j = 0; j < MAX_BRICK_SIZE; j++) {
+                Rectangle ghost = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                ghost.setFill(Color.WHITE);
+                ghost.setOpacity(GHOST_OPACITY);
+                ghost.setStroke(Color.WHITE);
+                ghost.setStrokeWidth(0.5);
+                ghost.setArcHeight(CELL_ARC);
+                ghost.setArcWidth(CELL_ARC);
+                ghost.setManaged(false);
+                ghost.setVisible(false);
+                ghost.relocate(j * (BRICK_SIZE + CELL_GAP), i * (BRICK_SIZE + CELL_GAP));
+                ghostRectangles[i][j] = ghost;
+                ghostPane.getChildren().add(ghost);
+            }
+        }
+    }
+
+    private void updateBrickPosition(ViewData brick) {
+        brickPanel.setLayoutX(
+                gamePanel.getLayoutX() +
+                        brick.getxPosition() * (brickPanel.getVgap() + BRICK_SIZE)
+        );
+        brickPanel.setLayoutY(
+                BOARD_OFFSET_Y + gamePanel.getLayoutY() +
+                        brick.getyPosition() * (brickPanel.getHgap() + BRICK_SIZE)
+        );
+    }
+
+    private void updateBrickAppearance(ViewData brick) {
+        int[][] shape = brick.getBrickData();
+        for (int i = 0; i < shape.length && i < rectangles.length; i++) {
+            for (int j = 0; j < shape[i].length && j < rectangles[i].length; j++) {
+                if (shownBrickCodes[i][j] != shape[i][j]) {
+                    shownBrickCodes[i][j] = shape[i][j];
+                    rectangles[i][j].setFill(getFillColor(shape[i][j]));
+                    cellsTouched++;
+                }
+            }
+        }
+    }
+
+    private void updateNextPiecePreview(ViewData viewData) {
+        int[][] nextPiece = viewData.getNextBrickData();
+        if (nextPieceRectangles == null || nextPiece == null || nextPiece == shownNextPiece) {
+            return;
+        }
+        shownNextPiece = nextPiece;
+
+        clearNextPiecePreview();
+        BrickBounds bounds = calculateBrickBounds(nextPiece);
+        drawCenteredPiece(nextPiece, bounds);
+    }
+
+    private void clearNextPiecePreview() {
+        for (int i = 0; i < MAX_BRICK_SIZE; i++) {
+            for (int j = 0; j < MAX_BRICK_SIZE; j++) {
+                nextPieceRectangles[i][j].setFill(Color.TRANSPARENT);
+            }
+        }
+    }
+
+    private BrickBounds calculateBrickBounds(int[][] piece) {
+        int minRow = MAX_BRICK_SIZE, maxRow = -1;
+        int minCol = MAX_BRICK_SIZE, maxCol = -1;
+
+        for (int i = 0; i < piece.length; i++) {
+            for (int j = 0; j < piece[i].length; j++) {
+                if (piece[i][j] != 0) {
+                    minRow = Math.min(minRow, i);
+                    maxRow = Math.max(maxRow, i);
+                    minCol = Math.min(minCol, j);
+                    maxCol = Math.max(maxCol, j);
+                }
+            }
+        }
+
+        return new BrickBounds(minRow, maxRow, minCol, maxCol);
+    }
+
+    private void drawCenteredPiece(int[][] piece, BrickBounds bounds) {
+        int pieceHeight = bounds.maxRow - bounds.minRow + 1;
+        int pieceWidth = bounds.maxCol - bounds.minCol + 1;
+        int offsetRow = (MAX_BRICK_SIZE - pieceHeight) / 2;
+        int offsetCol = (MAX_BRICK_SIZE - pieceWidth) / 2;
+
+        for (int i = bounds.minRow; i <= bounds.maxRow; i++) {
+            for (int j = bounds.minCol; j <= bounds.maxCol; j++) {
+                if (piece[i][j] != 0) {
+                    int displayRow = offsetRow + (i - bounds.minRow);
+                    int displayCol = offsetCol + (j - bounds.minCol);
+                    Rectangle rect = nextPieceRectangles[displayRow][displayCol];
+                    rect.setFill(getFillColor(piece[i][j]));
+                    rect.setArcHeight(PREVIEW_ARC);
+                    rect.setArcWidth(PREVIEW_ARC);
+                }
+            }
+        }
+    }
+
+    private void updateGhostPiece(ViewData brick) {
+        int[][] shape = brick.getBrickData();
+        int ghostY = brick.getGhostYPosition();
+
+        ghostPane.setTranslateX(gamePanel.getLayoutX() + brick.getxPosition() * (BRICK_SIZE + CELL_GAP));
+        ghostPane.setTranslateY(BOARD_OFFSET_Y + gamePanel.getLayoutY() + ghostY * (BRICK_SIZE + CELL_GAP));
+
+        for (int i = 0; i < MAX_BRICK_SIZE; i++) {
+            for (int j = 0; j < MAX_BRICK_SIZE; j++) {
+                boolean filled = i < shape.length && j < shape[i].length && shape[i][j] != 0;
+                ghostRectangles[i][j].setVisible(filled && ghostY + i >= HIDDEN_ROWS);
+            }
+        }
+    }
+
+    /**
+     * Creates an empty board or brick cell. The corner arc is set once here
+     * so later refreshes only change the fill.
+     *
+     * @return a transparent rounded cell.
+     */
+    private Rectangle createCell() {
+        Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+        rectangle.setFill(Color.TRANSPARENT);
+        rectangle.setArcHeight(CELL_ARC);
+        rectangle.setArcWidth(CELL_ARC);
+        return rectangle;
+    }
+
+    /**
+     * Helper class to store brick bounding box coordinates.
+     */
+    private static class BrickBounds {
+        final int minRow, maxRow, minCol, maxCol;
+
+        BrickBounds(int minRow, int maxRow, int minCol, int maxCol) {
+            this.minRow = minRow;
+            this.maxRow = maxRow;
+            this.minCol = minCol;
+            this.maxCol = maxCol;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.comp2042.view.render;
+
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * Dimensions and colours shared by all board renderers.
+ */
+public final class RenderStyle {
+
+    public static final int BRICK_SIZE = 28;
+    public static final int CELL_GAP = 1;
+    public static final int HIDDEN_ROWS = 2;
+    public static final int MAX_BRICK_SIZE = 4;
+    public static final double NEXT_PIECE_SCALE = 0.7;
+    public static final double GHOST_OPACITY = 0.4;
+    public static final double CELL_ARC = 9;
+    public static final double PREVIEW_ARC = 7;
+
+    /**
+     * Maps a board colour code to its fill colour.
+     *
+     * @param colorCode is the cell value, 0 meaning empty.
+     * @return the fill colour for that cell.
+     */
+    public static Paint getFillColor(int colorCode) {
+        switch (colorCode) {
+            case 0: return Color.TRANSPARENT;
+            case 1: return Color.AQUA;
+            case 2: return Color.BLUEVIOLET;
+            case 3: return Color.DARKGREEN;
+            case 4: return Color.YELLOW;
+            case 5: return Color.RED;
+            case 6: return Color.BEIGE;
+            case 7: return Color.BURLYWOOD;
+            default: return Color.WHITE;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.view.render;
+
+import java.util.Locale;
+
+/**
+ * Available board renderers, selectable at startup.
+ */
+public enum RendererType {
+
+    /** One JavaFX Rectangle node per cell. */
+    NODES,
+
+    /** A single Canvas repainted cell by cell where the picture changed. */
+    CANVAS;
+
+    /**
+     * Parses a renderer name, falling back to NODES for unknown or missing names.
+     *
+     * @param name is the renderer name, case-insensitive; may be null.
+     * @return the matching renderer type.
+     */
+    public static RendererType fromName(String name) {
+        if (name != null) {
+            for (RendererType type : values()) {
+                if (type.name().equals(name.trim().toUpperCase(Locale.ROOT))) {
+                    return type;
+                }
+            }
+        }
+        return NODES;
+    }
+}
@@ -0,0 +1,201 @@
+package com.comp2042.event.game;
+
+import com.comp2042.controller.GameViewEventListener;
+import com.comp2042.controller.HeadlessGameView;
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.clear.ClearRow;
+import com.comp2042.logic.clear.LockResult;
+import com.comp2042.model.bricks.BrickFixtures;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class GameEventBusTest {
+
+    @Test
+    @DisplayName("Should dispatch immediately outside a batch")
+    void testDispatchesWithoutBatch() {
+        GameEventBus bus = new GameEventBus();
+        List<List<GameEvent>> batches = recordBatches(bus);
+
+        bus.publish(GameEvent.of(GameEventType.LEVEL_UP, 2));
+
+        assertEquals(1, batches.size(), "Event outside a batch should be dispatched at once");
+        assertEquals(GameEventType.LEVEL_UP, batches.get(0).get(0).getType(), "Event type should be kept");
+    }
+
+    @Test
+    @DisplayName("Should hold events until the outermost batch ends")
+    void testNestedBatchesDispatchOnce() {
+        GameEventBus bus = new GameEventBus();
+        List<List<GameEvent>> batches = recordBatches(bus);
+
+        bus.beginBatch();
+        bus.publish(GameEvent.of(GameEventType.MOVE, 3, 4, 1));
+        bus.beginBatch();
+        bus.publish(GameEvent.of(GameEventType.ROTATE, 3, 4, 1));
+        bus.endBatch();
+        assertTrue(batches.isEmpty(), "Inner batch should not dispatch");
+        assertEquals(2, bus.getPendingCount(), "Both events should be pending");
+        bus.endBatch();
+
+        assertEquals(1, batches.size(), "Outer batch should dispatch once");
+        assertEquals(2, batches.get(0).size(), "Batch should contain both events");
+        assertEquals(GameEventType.MOVE, batches.get(0).get(0).getType(), "Events should keep publish order");
+        assertEquals(1, bus.getBatchesDispatched(), "One batch should be counted");
+    }
+
+    @Test
+    @DisplayName("Should reject ending a batch that was never started")
+    void testUnbalancedEndThrows() {
+        assertThrows(IllegalStateException.class, () -> new GameEventBus().endBatch());
+    }
+
+    @Test
+    @DisplayName("Should deliver events published by a listener in the next batch")
+    void testPublishFromListener() {
+        GameEventBus bus = new GameEventBus();
+        bus.subscribe(events -> {
+            if (events.get(0).getType() == GameEventType.LOCK) {
+                bus.publish(GameEvent.of(GameEventType.GAME_OVER, 0));
+            }
+        });
+        List<List<GameEvent>> batches = recordBatches(bus);
+
+        bus.publish(GameEvent.of(GameEventType.LOCK, 0));
+
+        assertEquals(2, batches.size(), "Listener event should be dispatched as its own batch");
+        assertEquals(GameEventType.GAME_OVER, batches.get(1).get(0).getType(), "Second batch should hold game over");
+    }
+
+    @Test
+    @DisplayName("Should keep delivering after an empty batch")
+    void testAsyncListenerSurvivesEmptyBatch() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(2);
+        AsyncGameEventListener async = new AsyncGameEventListener(events -> delivered.countDown(), 8);
+
+        async.onEvents(List.of());
+        async.onEvents(List.of(GameEvent.of(GameEventType.MOVE, 0, 0, 1)));
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS), "Empty batch should not stop the delivery thread");
+        async.close();
+        assertTrue(async.awaitTermination(5_000), "Delivery thread should stop after close");
+    }
+
+    @Test
+    @DisplayName("Should deliver batches to an async listener on another thread")
+    void testAsyncListener() throws InterruptedException {
+        GameEventBus bus = new GameEventBus();
+        CountDownLatch delivered = new CountDownLatch(3);
+        List<Thread> threads = new ArrayList<>();
+        AsyncGameEventListener async = bus.subscribeAsync(events -> {
+            threads.add(Thread.currentThread());
+            delivered.countDown();
+        }, 8);
+
+        for (int i = 0; i < 3; i++) {
+            bus.publish(GameEvent.of(GameEventType.MOVE, i, 0, 1));
+        }
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS), "All batches should be delivered");
+        assertNotSame(Thread.currentThread(), threads.get(0), "Delivery should happen off the publishing thread");
+        assertTrue(bus.unsubscribe(async), "Async listener should be removed");
+        assertTrue(async.awaitTermination(5_000), "Delivery thread should stop after unsubscribe");
+        assertEquals(0, async.getDroppedBatches(), "No batch should be dropped");
+    }
+
+    @Test
+    @DisplayName("Should drop batches instead of blocking when the async queue is full")
+    void testAsyncListenerDropsWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncGameEventListener async = new AsyncGameEventListener(events -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 2);
+        List<GameEvent> batch = List.of(GameEvent.of(GameEventType.MOVE, 0, 0, 1));
+
+        for (int i = 0; i < 10; i++) {
+            async.onEvents(batch);
+        }
+        release.countDown();
+        async.close();
+
+        assertTrue(async.awaitTermination(5_000), "Delivery thread should stop after close");
+        assertTrue(async.getDroppedBatches() >= 7, "Batches beyond the capacity should be dropped");
+        assertEquals(10, async.getDroppedBatches() + async.getDeliveredBatches(),
+                "Every batch should be delivered or dropped");
+    }
+
+    @Test
+    @DisplayName("Should publish lock and spawn of a hard drop in one batch")
+    void testGameControllerBatchesHardDrop() {
+        GameController game = new GameController(new HeadlessGameView());
+        List<List<GameEvent>> batches = recordBatches(game.getEventBus());
+
+        game.onHardDropEvent();
+
+        assertEquals(1, batches.size(), "Hard drop should dispatch a single batch");
+        List<GameEventType> types = new ArrayList<>();
+        for (GameEvent event : batches.get(0)) {
+            types.add(event.getType());
+        }
+        assertEquals(List.of(GameEventType.MOVE, GameEventType.LOCK, GameEventType.SPAWN), types,
+                "Hard drop should move, lock and spawn");
+        GameEvent lock = batches.get(0).get(1);
+        assertNotNull(lock.getLockResult(), "Lock event should carry the lock result");
+        assertEquals(lock.getLockResult().getScoreDelta(), lock.getValue(), "Lock value should be the score gained");
+    }
+
+    @Test
+    @DisplayName("Should show only the clear score in the line clear pop-up")
+    void testLineClearPopupLeavesOutDropPoints() {
+        List<Integer> notifications = new ArrayList<>();
+        GameViewEventListener listener = new GameViewEventListener(new HeadlessGameView() {
+            @Override
+            public void showScoreNotification(int scoreBonus) {
+                notifications.add(scoreBonus);
+            }
+        });
+        ClearRow clearRow = new ClearRow(1, new int[25][10], 100, 1L << 24);
+        LockResult lock = LockResult.of(BrickFixtures.oBrick().getShape(0), 4, 23, clearRow, 140, 100, 1, 1);
+
+        listener.onEvents(List.of(GameEvent.lineClear(lock, 1)));
+
+        assertEquals(List.of(100), notifications, "Pop-up should leave out the hard drop points");
+    }
+
+    @Test
+    @DisplayName("Should ignore input once the game is over")
+    void testNoEventsAfterGameOver() {
+        GameController game = new GameController(new HeadlessGameView());
+        List<List<GameEvent>> batches = recordBatches(game.getEventBus());
+        for (int i = 0; i < 500 && !game.isGameOver(); i++) {
+            game.onHardDropEvent();
+        }
+        assertTrue(game.isGameOver(), "Stacking bricks should end the game");
+        List<GameEvent> last = batches.get(batches.size() - 1);
+        assertEquals(GameEventType.GAME_OVER, last.get(last.size() - 1).getType(), "Last event should be game over");
+
+        int batchCount = batches.size();
+        game.onHardDropEvent();
+        game.onLeftEvent(null);
+
+        assertEquals(batchCount, batches.size(), "No events should follow game over");
+    }
+
+    private static List<List<GameEvent>> recordBatches(GameEventBus bus) {
+        List<List<GameEvent>> batches = new ArrayList<>();
+        bus.subscribe(events -> batches.add(List.copyOf(events)));
+        return batches;
+    }
+}
@@ -0,0 +1,109 @@
+package com.comp2042.jfr;
+
+import com.comp2042.logic.ai.AiMovePolicy;
+import com.comp2042.logic.ai.HeuristicWeights;
+import com.comp2042.logic.loop.GameClock;
+import com.comp2042.logic.loop.TickListener;
+import com.comp2042.logic.sim.GameResult;
+import com.comp2042.logic.sim.SimulationRunner;
+import com.comp2042.model.bricks.RandomizerMode;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class GameEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should record spawn, lock, clear and level-up events of a game")
+    void testBoardEvents() throws IOException {
+        SimulationRunner runner = new SimulationRunner(3, RandomizerMode.SEVEN_BAG,
+                seed -> new AiMovePolicy(HeuristicWeights.DEFAULT), 40);
+
+        GameResult result;
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(BrickSpawnEvent.class);
+            recording.enable(BrickLockEvent.class);
+            recording.enable(LineClearEvent.class);
+            recording.enable(LevelUpEvent.class);
+            recording.start();
+            result = runner.playGame(0);
+            recording.stop();
+
+            Path file = tempDir.resolve("game.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        int locks = count(events, "com.comp2042.BrickLock");
+        assertEquals(result.getPieces(), locks, "Every piece should lock once");
+        assertEquals(locks, count(events, "com.comp2042.LineClear"), "Every lock should check for lines");
+        assertTrue(count(events, "com.comp2042.BrickSpawn") > locks, "Every lock should spawn the next brick");
+        assertEquals(result.getLevel() - 1, count(events, "com.comp2042.LevelUp"), "Every level-up should be recorded");
+
+        int lines = 0;
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("com.comp2042.LineClear")) {
+                lines += event.getInt("lines");
+            }
+        }
+        assertEquals(result.getLines(), lines, "Cleared line counts should add up");
+    }
+
+    @Test
+    @DisplayName("Should record one gravity event per gravity step")
+    void testGravityEvents() throws IOException {
+        int[] steps = {0};
+        GameClock clock = new GameClock(new TickListener() {
+            @Override
+            public void onTick() {
+            }
+
+            @Override
+            public void onGravity() {
+                steps[0]++;
+            }
+        });
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(GravityTickEvent.class);
+            recording.start();
+            clock.start();
+            for (int frame = 0; frame <= 300; frame++) {
+                clock.advance(frame * GameClock.TICK_NANOS);
+            }
+            recording.stop();
+
+            Path file = tempDir.resolve("clock.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertTrue(steps[0] > 0, "Clock should have applied gravity");
+        assertEquals(steps[0], count(events, "com.comp2042.GravityTick"), "Each gravity step should be recorded");
+    }
+
+    private static int count(List<RecordedEvent> events, String name) {
+        int count = 0;
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -271,5 +271,12 @@ class GameControllerTest {
         verify(mockGuiController, atLeastOnce()).refreshGameBackground(any());
     }
 
+    @Test
+    @DisplayName("Should publish score changes to the view")
+    void testScorePublishedToView() {
+        gameController.onHardDropEvent();
 
-}
\ No newline at end of file
+        int score = gameController.getBoard().getScore().getValue();
+        verify(mockGuiController, atLeastOnce()).updateScore(score);
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042.logic;
+
+import com.comp2042.controller.HeadlessGameView;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class HeadlessGameTest {
+
+    private static final Path SOURCE_ROOT = Paths.get("src", "main", "java", "com", "comp2042");
+    private static final String[] ENGINE_PACKAGES = {"controller", "event", "logic", "model"};
+
+    @Test
+    @DisplayName("Should play a full game without a GUI")
+    void testHeadlessGameRunsToGameOver() {
+        GameController gameController = new GameController(new HeadlessGameView());
+
+        for (int i = 0; i < 500 && !gameController.isGameOver(); i++) {
+            gameController.onHardDropEvent();
+        }
+
+        assertTrue(gameController.isGameOver(), "Stacking bricks in the middle should end the game");
+        assertTrue(gameController.getBoard().getScore().getValue() > 0, "Hard drops should score points");
+    }
+
+    @Test
+    @DisplayName("Should replay the same game from the same seed")
+    void testSeededGamesAreReproducible() {
+        assertEquals(playSeededGame(99), playSeededGame(99), "Same seed should give the same final score");
+    }
+
+    @Test
+    @DisplayName("Engine packages should not depend on JavaFX")
+    void testEngineHasNoJavaFxImports() throws IOException {
+        for (String enginePackage : ENGINE_PACKAGES) {
+            try (Stream<Path> files = Files.walk(SOURCE_ROOT.resolve(enginePackage))) {
+                List<Path> sources = files.filter(path -> path.toString().endsWith(".java"))
+                        .collect(Collectors.toList());
+
+                for (Path source : sources) {
+                    assertFalse(Files.readString(source).contains("import javafx."),
+                            source + " should not import JavaFX");
+                }
+            }
+        }
+        assertFalse(Files.readString(SOURCE_ROOT.resolve("view").resolve("ViewData.java")).contains("import javafx."),
+                "ViewData should not import JavaFX");
+    }
+
+    private int playSeededGame(long seed) {
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(seed, RandomizerMode.SEVEN_BAG));
+        GameController gameController = new GameController(new HeadlessGameView(), board);
+
+        for (int i = 0; i < 500 && !gameController.isGameOver(); i++) {
+            gameController.onHardDropEvent();
+        }
+        return gameController.getBoard().getScore().getValue();
+    }
+}
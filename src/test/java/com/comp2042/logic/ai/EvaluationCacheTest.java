@@ -0,0 +1,116 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.movement.MatrixOperations;
+import com.comp2042.model.board.BoardHash;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class EvaluationCacheTest {
+
+    @Test
+    @DisplayName("Should return stored scores and report misses")
+    void testPutAndGet() {
+        EvaluationCache cache = new EvaluationCache(16);
+
+        assertEquals(-1.0, cache.get(42, -1.0), "Empty cache should miss");
+        cache.put(42, 3.5);
+        cache.put(0, 7.0);
+
+        assertEquals(3.5, cache.get(42, -1.0), "Stored score should be returned");
+        assertEquals(7.0, cache.get(0, -1.0), "Key 0 should be cacheable");
+        assertEquals(2, cache.getHits(), "Two lookups should hit");
+        assertEquals(1, cache.getMisses(), "One lookup should miss");
+    }
+
+    @Test
+    @DisplayName("Should stay within capacity and evict old entries")
+    void testBoundedSize() {
+        EvaluationCache cache = new EvaluationCache(64);
+
+        for (long key = 1; key <= 1000; key++) {
+            cache.put(key * 0x9E3779B97F4A7C15L, key);
+            cache.nextGeneration();
+        }
+
+        assertEquals(64, cache.getCapacity(), "Capacity should not grow");
+        assertTrue(cache.getEvictions() >= 1000 - 64, "Old entries should be evicted");
+        assertEquals(1000.0, cache.get(1000 * 0x9E3779B97F4A7C15L, -1.0), "Newest entry should survive");
+    }
+
+    @Test
+    @DisplayName("Should keep recently used entries over newer unused ones")
+    void testEvictsLeastRecentlyUsed() {
+        EvaluationCache cache = new EvaluationCache(2);
+
+        cache.put(1, 1.0);
+        cache.nextGeneration();
+        cache.put(2, 2.0);
+        cache.nextGeneration();
+        cache.get(1, -1.0);
+        cache.nextGeneration();
+        cache.put(3, 3.0);
+
+        assertEquals(1.0, cache.get(1, -1.0), "Recently read entry should survive");
+        assertEquals(-1.0, cache.get(2, -1.0), "Least recently used entry should be evicted");
+    }
+
+    @Test
+    @DisplayName("Should choose the same placement with and without the cache")
+    void testCachedSearchMatchesUncached() {
+        BoardEvaluator evaluator = new BoardEvaluator(HeuristicWeights.DEFAULT);
+        EvaluationCache cache = new EvaluationCache(1 << 12);
+        PlacementSearch cached = new PlacementSearch(evaluator, false, cache);
+        PlacementSearch uncached = new PlacementSearch(evaluator, false);
+
+        int[][] board = new int[GameController.BOARD_HEIGHT][GameController.BOARD_WIDTH];
+        SeededBrickGenerator generator = new SeededBrickGenerator(5, RandomizerMode.SEVEN_BAG);
+        Brick brick = generator.getBrick();
+
+        for (int piece = 0; piece < 30; piece++) {
+            Brick next = generator.getBrick();
+            Placement expected = uncached.findBest(board, brick, 0, 4, 0, next);
+            Placement actual = cached.findBest(board, BoardHash.hash(board), brick, 0, 4, 0, next);
+
+            assertEquals(expected.getRotation(), actual.getRotation(), "Rotation should match at piece " + piece);
+            assertEquals(expected.getX(), actual.getX(), "Column should match at piece " + piece);
+            assertEquals(expected.getScore(), actual.getScore(), 1e-9, "Score should match at piece " + piece);
+
+            board = drop(board, brick.getShape(actual.getRotation()).getMatrix(), actual.getX());
+            brick = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should reuse scores of boards reached by swapping two identical bricks")
+    void testTranspositionsHitCache() {
+        EvaluationCache cache = new EvaluationCache(1 << 12);
+        PlacementSearch search = new PlacementSearch(new BoardEvaluator(HeuristicWeights.DEFAULT), false, cache);
+        int[][] board = new int[GameController.BOARD_HEIGHT][GameController.BOARD_WIDTH];
+        Brick brick = new SeededBrickGenerator(5, RandomizerMode.SEVEN_BAG).getBrick();
+
+        search.findBest(board, brick, 0, 4, 0, brick);
+        long firstHits = cache.getHits();
+        search.findBest(board, brick, 0, 4, 0, brick);
+
+        assertTrue(firstHits > 0, "Swapped placements should reach cached boards, " + cache);
+        assertTrue(cache.getHits() > firstHits, "A repeated search should be answered from the cache");
+        assertTrue(cache.getMisses() > 0, "The first search should have scored new boards");
+    }
+
+    private static int[][] drop(int[][] board, int[][] shape, int x) {
+        int y = 0;
+        while (!MatrixOperations.intersect(board, shape, x, y + 1)) {
+            y++;
+        }
+        int[][] result = MatrixOperations.merge(board, shape, x, y);
+        MatrixOperations.removeCompleteRows(result);
+        return result;
+    }
+}
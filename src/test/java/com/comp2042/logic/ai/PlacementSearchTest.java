@@ -0,0 +1,91 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.sim.GameResult;
+import com.comp2042.logic.sim.SimulationRunner;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickFixtures;
+import com.comp2042.model.bricks.RandomizerMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class PlacementSearchTest {
+
+    private static final int BOARD_HEIGHT = GameController.BOARD_HEIGHT;
+    private static final int BOARD_WIDTH = GameController.BOARD_WIDTH;
+
+    @Test
+    @DisplayName("Should count holes, height and bumpiness")
+    void testEvaluatorFeatures() {
+        int[][] board = new int[4][3];
+        board[1][0] = 1;
+        board[3][1] = 1;
+
+        BoardEvaluator holes = new BoardEvaluator(new HeuristicWeights(0, 0, 1, 0));
+        BoardEvaluator height = new BoardEvaluator(new HeuristicWeights(1, 0, 0, 0));
+        BoardEvaluator bumpiness = new BoardEvaluator(new HeuristicWeights(0, 0, 0, 1));
+
+        assertEquals(2, holes.evaluate(board, 0), "Column 0 should have two holes");
+        assertEquals(4, height.evaluate(board, 0), "Heights 3 + 1 + 0 should sum to 4");
+        assertEquals(3, bumpiness.evaluate(board, 0), "Height steps 2 and 1 should sum to 3");
+    }
+
+    @Test
+    @DisplayName("Should drop a vertical I brick into a four-deep well")
+    void testFillsWell() {
+        int[][] board = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        for (int row = BOARD_HEIGHT - 4; row < BOARD_HEIGHT; row++) {
+            for (int col = 0; col < BOARD_WIDTH - 1; col++) {
+                board[row][col] = 2;
+            }
+        }
+
+        PlacementSearch search = new PlacementSearch(new BoardEvaluator(HeuristicWeights.DEFAULT), false);
+        Brick brick = BrickFixtures.iBrick();
+        Placement placement = search.findBest(board, brick, 0, 4, 0, null);
+
+        int[][] shape = brick.getShape(placement.getRotation()).getMatrix();
+        int filledColumn = -1;
+        for (int[] row : shape) {
+            for (int col = 0; col < row.length; col++) {
+                if (row[col] != 0) {
+                    assertTrue(filledColumn == -1 || filledColumn == col, "Brick should be vertical");
+                    filledColumn = col;
+                }
+            }
+        }
+        assertEquals(BOARD_WIDTH - 1, placement.getX() + filledColumn, "Brick should go into the well");
+    }
+
+    @Test
+    @DisplayName("Should give the same placement with and without parallel search")
+    void testParallelMatchesSequential() {
+        int[][] board = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        for (int col = 0; col < BOARD_WIDTH; col += 2) {
+            board[BOARD_HEIGHT - 1][col] = 3;
+        }
+
+        BoardEvaluator evaluator = new BoardEvaluator(HeuristicWeights.DEFAULT);
+        Placement sequential = new PlacementSearch(evaluator, false).findBest(board, BrickFixtures.oBrick(), 0, 4, 0, BrickFixtures.iBrick());
+        Placement parallel = new PlacementSearch(evaluator, true).findBest(board, BrickFixtures.oBrick(), 0, 4, 0, BrickFixtures.iBrick());
+
+        assertEquals(sequential.getRotation(), parallel.getRotation(), "Rotation should match");
+        assertEquals(sequential.getX(), parallel.getX(), "Column should match");
+        assertEquals(sequential.getScore(), parallel.getScore(), 1e-9, "Score should match");
+    }
+
+    @Test
+    @DisplayName("Should clear lines steadily when playing a game")
+    void testBotClearsLines() {
+        SimulationRunner runner = new SimulationRunner(11, RandomizerMode.SEVEN_BAG,
+                seed -> new AiMovePolicy(HeuristicWeights.DEFAULT), 300);
+
+        GameResult result = runner.playGame(0);
+
+        assertEquals(300, result.getPieces(), "Bot should survive 300 bricks");
+        assertTrue(result.getLines() >= 100, "Bot should clear most of its bricks as lines, cleared " + result.getLines());
+    }
+}
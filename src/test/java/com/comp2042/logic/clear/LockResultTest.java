@@ -0,0 +1,98 @@
+package com.comp2042.logic.clear;
+
+import com.comp2042.controller.HeadlessGameView;
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.movement.MatrixOperations;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class LockResultTest {
+
+    private static final int BOARD_HEIGHT = GameController.BOARD_HEIGHT;
+    private static final int BOARD_WIDTH = GameController.BOARD_WIDTH;
+
+    @Test
+    @DisplayName("Should report which rows were cleared")
+    void testClearedRowMask() {
+        int[][] matrix = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        for (int col = 0; col < BOARD_WIDTH; col++) {
+            matrix[BOARD_HEIGHT - 1][col] = 1;
+            matrix[BOARD_HEIGHT - 3][col] = 2;
+        }
+        matrix[BOARD_HEIGHT - 2][0] = 3;
+        long expected = 1L << (BOARD_HEIGHT - 1) | 1L << (BOARD_HEIGHT - 3);
+
+        SimpleBoard board = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH);
+        board.loadBoard(matrix);
+
+        assertEquals(expected, board.clearRows().getClearedRows(), "Board should report the removed rows");
+        assertEquals(expected, MatrixOperations.checkRemoving(matrix, 1).getClearedRows(),
+                "checkRemoving should report the removed rows");
+    }
+
+    @Test
+    @DisplayName("Should describe every lock of a game exactly")
+    void testLocksMatchBoard() {
+        List<LockResult> locks = new ArrayList<>();
+        SimpleBoard board = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH,
+                new SeededBrickGenerator(8, RandomizerMode.SEVEN_BAG));
+        GameController game = new GameController(new HeadlessGameView() {
+            @Override
+            public void onBrickLocked(LockResult lockResult) {
+                locks.add(lockResult);
+            }
+        }, board);
+
+        for (int piece = 0; piece < 20 && !game.isGameOver(); piece++) {
+            int scoreBefore = board.getScore().getValue();
+            int colour = board.getCurrentBrick().getShape(board.getCurrentRotation()).getColor();
+
+            game.onHardDropEvent();
+
+            LockResult lock = locks.get(locks.size() - 1);
+            assertEquals(piece + 1, locks.size(), "Every hard drop should lock once");
+            assertEquals(4, lock.getLockedCellCount(), "A tetromino should lock four cells");
+            assertEquals(colour, lock.getColour(), "Locked colour should match the brick");
+            assertEquals(board.getScore().getValue() - scoreBefore, lock.getScoreDelta(), "Score delta should match");
+            if (lock.getLinesCleared() == 0) {
+                assertEquals(0, lock.getClearScore(), "A lock without a clear should earn no clear score");
+                for (int cell = 0; cell < lock.getLockedCellCount(); cell++) {
+                    assertEquals(colour, board.getBoardMatrix()[lock.getLockedRow(cell)][lock.getLockedColumn(cell)],
+                            "Locked cell should be filled on the board");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should report a level change")
+    void testLevelChange() {
+        int[][] matrix = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        for (int row = BOARD_HEIGHT - 3; row < BOARD_HEIGHT; row++) {
+            for (int col = 0; col < BOARD_WIDTH; col++) {
+                matrix[row][col] = 1;
+            }
+        }
+        SimpleBoard board = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH);
+        board.loadBoard(matrix);
+        board.createNewBrick();
+        ClearRow clearRow = board.clearRows();
+
+        LockResult lock = LockResult.of(board.getCurrentBrick().getShape(0), 4, 0, clearRow,
+                clearRow.getScoreBonus(), clearRow.getScoreBonus(), 1, board.getLevel());
+
+        assertEquals(3, lock.getLinesCleared(), "Three rows should clear");
+        assertEquals(BOARD_HEIGHT - 1, lock.getLowestClearedRow(), "Lowest cleared row should be the floor");
+        assertEquals(1, lock.getLevelChange(), "Three lines should gain a level");
+        assertEquals(2, lock.getLevel(), "Level should be 2");
+    }
+}
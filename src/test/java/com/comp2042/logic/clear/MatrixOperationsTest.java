@@ -83,4 +83,23 @@ class MatrixOperationsTest {
         assertEquals(1, result[1][5], "Brick should be placed");
         assertEquals(1, result[1][6], "Brick should be placed");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should merge brick into the same board when merging in place")
+    void testMergeInPlace() {
+        int[][] board = new int[5][5];
+        int[] firstRow = board[1];
+        int[][] brick = {
+                {3, 3},
+                {0, 3}
+        };
+
+        MatrixOperations.mergeInPlace(board, brick, 1, 1);
+
+        assertSame(firstRow, board[1], "Row arrays should not be replaced");
+        assertEquals(3, board[1][1], "Position should be filled");
+        assertEquals(3, board[1][2], "Position should be filled");
+        assertEquals(0, board[2][1], "Empty brick cell should not be written");
+        assertEquals(3, board[2][2], "Position should be filled");
+    }
+}
@@ -1,9 +1,14 @@
 package com.comp2042.logic.clear;
 
 import com.comp2042.logic.movement.MatrixOperations;
+import com.comp2042.model.board.Board;
+import com.comp2042.model.board.BoardFactory;
+import com.comp2042.model.bricks.BrickShape;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -145,4 +150,147 @@ class RowClearingTest {
         assertEquals(2, newMatrix[6][0], "Block should drop to row 6");
         assertEquals(3, newMatrix[6][5], "Block should drop to row 6");
     }
+
+    @Test
+    @DisplayName("Should clear rows in place and reuse the removed row arrays")
+    void testRemoveCompleteRowsInPlace() {
+        testMatrix[0][5] = 7;
+        testMatrix[ROWS - 3][2] = 4;
+        for (int col = 0; col < COLS; col++) {
+            testMatrix[ROWS - 1][col] = 1;
+            testMatrix[ROWS - 2][col] = 1;
+        }
+        int[] clearedRow = testMatrix[ROWS - 1];
+        int[] survivingRow = testMatrix[ROWS - 3];
+
+        int cleared = MatrixOperations.removeCompleteRows(testMatrix);
+
+        assertEquals(2, cleared, "Should clear 2 lines");
+        assertSame(survivingRow, testMatrix[ROWS - 1], "Surviving row should be moved, not copied");
+        assertEquals(4, testMatrix[ROWS - 1][2], "Surviving block should drop two rows");
+        assertEquals(7, testMatrix[2][5], "Top block should drop two rows");
+        assertTrue(testMatrix[0] == clearedRow || testMatrix[1] == clearedRow,
+                "Removed row array should be reused at the top");
+        for (int col = 0; col < COLS; col++) {
+            assertEquals(0, testMatrix[0][col], "Reused top row should be empty");
+            assertEquals(0, testMatrix[1][col], "Reused top row should be empty");
+        }
+    }
+
+    @Test
+    @DisplayName("Should clear non-adjacent rows in place")
+    void testRemoveSplitRowsInPlace() {
+        for (int col = 0; col < COLS; col++) {
+            testMatrix[ROWS - 1][col] = 1;
+            testMatrix[ROWS - 3][col] = 1;
+        }
+        testMatrix[ROWS - 2][0] = 2;
+
+        int cleared = MatrixOperations.removeCompleteRows(testMatrix);
+
+        assertEquals(2, cleared, "Should clear 2 lines");
+        assertEquals(2, testMatrix[ROWS - 1][0], "Row between cleared rows should drop to the bottom");
+        assertEquals(0, testMatrix[ROWS - 2][0], "Row above should be empty");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
+    @DisplayName("Board should clear a complete row and drop the rows above")
+    void testBoardClearSingleRow(BoardFactory factory) {
+        Board board = factory.create(ROWS, COLS);
+        testMatrix[0][5] = 7;
+        fillRow(ROWS - 1);
+        board.loadBoard(testMatrix);
+
+        ClearRow result = board.clearRows();
+
+        assertEquals(1, result.getLinesRemoved(), "Should clear 1 line");
+        assertEquals(100, result.getScoreBonus(), "Should award 100 points (level 1)");
+        assertEquals(1L << (ROWS - 1), result.getClearedRows(), "Mask should mark the bottom row");
+        assertEquals(7, board.getBoardMatrix()[1][5], "Block should drop one row");
+        assertEquals(0, board.getBoardMatrix()[ROWS - 1][0], "Bottom row should be empty after clearing");
+        assertEquals(1, board.getFilledCellCount(), "Only the dropped block should remain");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
+    @DisplayName("Board should clear non-adjacent rows")
+    void testBoardClearSplitRows(BoardFactory factory) {
+        Board board = factory.create(ROWS, COLS);
+        fillRow(ROWS - 1);
+        fillRow(ROWS - 3);
+        testMatrix[ROWS - 2][0] = 2;
+        board.loadBoard(testMatrix);
+
+        ClearRow result = board.clearRows();
+
+        assertEquals(2, result.getLinesRemoved(), "Should clear 2 lines");
+        assertEquals(300, result.getScoreBonus(), "Should award 300 points for a double (level 1)");
+        assertEquals(2, board.getBoardMatrix()[ROWS - 1][0], "Row between cleared rows should drop to the bottom");
+        assertEquals(0, board.getBoardMatrix()[ROWS - 2][0], "Row above should be empty");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
+    @DisplayName("Board should not clear incomplete rows")
+    void testBoardNoIncompleteRowClearing(BoardFactory factory) {
+        Board board = factory.create(ROWS, COLS);
+        fillRow(ROWS - 1);
+        testMatrix[ROWS - 1][COLS - 1] = 0;
+        board.loadBoard(testMatrix);
+
+        ClearRow result = board.clearRows();
+
+        assertEquals(0, result.getLinesRemoved(), "Should not clear incomplete row");
+        assertEquals(COLS - 1, board.getFilledCellCount(), "Incomplete row should stay on the board");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
+    @DisplayName("Board should level up after three cleared lines")
+    void testBoardLevelUp(BoardFactory factory) {
+        Board board = factory.create(ROWS, COLS);
+        for (int row = ROWS - 3; row < ROWS; row++) {
+            fillRow(row);
+        }
+        board.loadBoard(testMatrix);
+
+        board.clearRows();
+
+        assertEquals(2, board.getLevel(), "Three lines should reach level 2");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
+    @DisplayName("Board should clear a row completed by a merged brick")
+    void testBoardClearAfterMerge(BoardFactory factory) {
+        Board board = factory.create(ROWS, COLS);
+        board.createNewBrick();
+        BrickShape shape = board.getCurrentBrick().getShape(board.getCurrentRotation());
+
+        // Leave gaps exactly where the brick's bottom row will land
+        fillRow(ROWS - 1);
+        int gaps = 0;
+        for (int col = shape.getMinX(); col <= shape.getMaxX(); col++) {
+            if (shape.getColumnBottom(col) == shape.getMaxY()) {
+                testMatrix[ROWS - 1][board.getCurrentX() + col] = 0;
+                gaps++;
+            }
+        }
+        board.loadBoard(testMatrix);
+
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        ClearRow result = board.clearRows();
+
+        assertEquals(1, result.getLinesRemoved(), "Merged brick should complete the bottom row");
+        assertEquals(shape.getCellCount() - gaps, board.getFilledCellCount(),
+                "Only the brick cells above the cleared row should remain");
+    }
+
+    private void fillRow(int row) {
+        for (int col = 0; col < COLS; col++) {
+            testMatrix[row][col] = 1;
+        }
+    }
 }
@@ -0,0 +1,133 @@
+package com.comp2042.logic.input;
+
+import com.comp2042.controller.HeadlessGameView;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.movement.MoveEvent;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class AutoShiftTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("Should shift once on press and wait for DAS")
+    void testPressWaitsForDas() {
+        AutoShift autoShift = new AutoShift(100, 20);
+
+        assertTrue(autoShift.press(EventType.LEFT, 0), "First press should shift immediately");
+        assertEquals(0, autoShift.update(99 * MS), "Should not repeat before DAS");
+        assertEquals(1, autoShift.update(100 * MS), "Should repeat once DAS elapses");
+    }
+
+    @Test
+    @DisplayName("Should ignore OS key repeat while held")
+    void testIgnoresKeyRepeat() {
+        AutoShift autoShift = new AutoShift(100, 20);
+        autoShift.press(EventType.RIGHT, 0);
+
+        assertFalse(autoShift.press(EventType.RIGHT, 30 * MS), "Repeated press should be ignored");
+        assertEquals(1, autoShift.update(100 * MS), "DAS should count from the first press");
+    }
+
+    @Test
+    @DisplayName("Should repeat at ARR independent of tick timing")
+    void testRepeatRateCarriesRemainder() {
+        AutoShift autoShift = new AutoShift(100, 20);
+        autoShift.press(EventType.LEFT, 0);
+
+        int shifts = 0;
+        for (long t = 0; t <= 300 * MS; t += 16_666_667L) {
+            shifts += autoShift.update(t);
+        }
+
+        assertEquals(10, shifts, "Shifts at 100, 120 ... 280ms should all be counted");
+    }
+
+    @Test
+    @DisplayName("Should report several shifts in one tick when ARR is shorter than a tick")
+    void testMultipleShiftsPerTick() {
+        AutoShift autoShift = new AutoShift(0, 5);
+        autoShift.press(EventType.LEFT, 0);
+
+        assertEquals(4, autoShift.update(16 * MS), "Shifts at 0, 5, 10 and 15ms should be due");
+    }
+
+    @Test
+    @DisplayName("Should slide to the wall when ARR is zero")
+    void testZeroArrSlidesToWall() {
+        AutoShift autoShift = new AutoShift(50, 0);
+        autoShift.press(EventType.RIGHT, 0);
+
+        assertEquals(0, autoShift.update(49 * MS), "Should wait for DAS");
+        assertEquals(AutoShift.TO_WALL, autoShift.update(50 * MS), "Should slide to the wall");
+    }
+
+    @Test
+    @DisplayName("Should keep sliding to the wall while the key is held")
+    void testZeroArrKeepsSliding() {
+        AutoShift autoShift = new AutoShift(50, 0);
+        autoShift.press(EventType.RIGHT, 0);
+
+        assertEquals(AutoShift.TO_WALL, autoShift.update(50 * MS), "Should slide to the wall");
+        assertEquals(AutoShift.TO_WALL, autoShift.update(66 * MS), "Held key should keep sliding");
+        assertEquals(AutoShift.TO_WALL, autoShift.update(500 * MS), "Held key should keep sliding later");
+
+        autoShift.release(EventType.RIGHT, 510 * MS);
+        assertEquals(0, autoShift.update(520 * MS), "Released key should stop sliding");
+    }
+
+    @Test
+    @DisplayName("Should slide a newly spawned brick while the key stays held")
+    void testHeldKeySlidesNewSpawn() {
+        GameController game = new GameController(new HeadlessGameView(),
+                new SimpleBoard(25, 10, new SeededBrickGenerator(3, RandomizerMode.SEVEN_BAG)));
+        AutoShift autoShift = new AutoShift(50, 0);
+        autoShift.press(EventType.RIGHT, 0);
+
+        assertEquals(AutoShift.TO_WALL, autoShift.update(50 * MS), "Should slide to the wall");
+        assertTrue(game.canShift(EventType.RIGHT), "Spawned brick should have room to slide");
+        game.onWallShiftEvent(new MoveEvent(EventType.RIGHT_WALL, EventSource.USER));
+        assertFalse(game.canShift(EventType.RIGHT), "Brick against the wall should not slide again");
+
+        game.onHardDropEvent();
+
+        assertEquals(AutoShift.TO_WALL, autoShift.update(66 * MS), "Held key should still slide");
+        assertTrue(game.canShift(EventType.RIGHT), "New brick should have room to slide");
+        game.onWallShiftEvent(new MoveEvent(EventType.RIGHT_WALL, EventSource.USER));
+        assertFalse(game.canShift(EventType.RIGHT), "New brick should reach the wall");
+    }
+
+    @Test
+    @DisplayName("Should hand over to the opposite key when released")
+    void testOppositeKeyTakesOver() {
+        AutoShift autoShift = new AutoShift(100, 20);
+        autoShift.press(EventType.LEFT, 0);
+        autoShift.press(EventType.RIGHT, 10 * MS);
+        assertEquals(EventType.RIGHT, autoShift.getActiveDirection(), "Last pressed key should win");
+
+        autoShift.release(EventType.RIGHT, 50 * MS);
+        assertEquals(EventType.LEFT, autoShift.getActiveDirection(), "Held key should take over");
+        assertEquals(0, autoShift.update(149 * MS), "Should wait a fresh DAS");
+        assertEquals(1, autoShift.update(150 * MS), "Should repeat after the fresh DAS");
+
+        autoShift.release(EventType.LEFT, 160 * MS);
+        assertNull(autoShift.getActiveDirection(), "No key should be active");
+        assertEquals(0, autoShift.update(500 * MS), "Should not shift without a held key");
+    }
+
+    @Test
+    @DisplayName("Should reject negative timing")
+    void testRejectsNegativeTiming() {
+        assertThrows(IllegalArgumentException.class, () -> new AutoShift(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AutoShift(0, -1));
+    }
+}
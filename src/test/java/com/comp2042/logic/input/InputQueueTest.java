@@ -0,0 +1,121 @@
+package com.comp2042.logic.input;
+
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.logic.movement.MoveEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class InputQueueTest {
+
+    @Test
+    @DisplayName("Should drain events in arrival order")
+    void testFifoOrder() {
+        InputQueue queue = new InputQueue();
+        queue.offer(new MoveEvent(EventType.LEFT, EventSource.USER));
+        queue.offer(new MoveEvent(EventType.ROTATE, EventSource.USER));
+        queue.offer(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+
+        List<EventType> drained = new ArrayList<>();
+        int count = queue.drain(event -> drained.add(event.getEventType()));
+
+        assertEquals(3, count, "Should drain all three events");
+        assertEquals(List.of(EventType.LEFT, EventType.ROTATE, EventType.HARD_DROP), drained,
+                "Events should keep their order");
+        assertEquals(0, queue.size(), "Queue should be empty after draining");
+    }
+
+    @Test
+    @DisplayName("Should round capacity up to a power of two")
+    void testCapacityRounding() {
+        assertEquals(8, new InputQueue(5).capacity(), "Capacity 5 should round up to 8");
+        assertEquals(64, new InputQueue(64).capacity(), "Power of two should be kept");
+        assertThrows(IllegalArgumentException.class, () -> new InputQueue(0));
+    }
+
+    @Test
+    @DisplayName("Should drop and count events when full")
+    void testDropsWhenFull() {
+        InputQueue queue = new InputQueue(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(new MoveEvent(EventType.LEFT, EventSource.USER)), "Should accept while not full");
+        }
+
+        assertFalse(queue.offer(new MoveEvent(EventType.RIGHT, EventSource.USER)), "Should reject when full");
+        assertEquals(1, queue.getDroppedEvents(), "Should count the dropped event");
+    }
+
+    @Test
+    @DisplayName("Should reuse ring slots after wrapping around")
+    void testWrapAround() {
+        InputQueue queue = new InputQueue(4);
+        int[] drained = new int[1];
+
+        for (int round = 0; round < 10; round++) {
+            queue.offer(new MoveEvent(EventType.LEFT, EventSource.USER));
+            queue.offer(new MoveEvent(EventType.RIGHT, EventSource.USER));
+            queue.offer(new MoveEvent(EventType.DOWN, EventSource.USER));
+            drained[0] += queue.drain(event -> { });
+        }
+
+        assertEquals(30, drained[0], "Every event should be drained across wraps");
+        assertEquals(0, queue.getDroppedEvents(), "Nothing should be dropped");
+    }
+
+    @Test
+    @DisplayName("Should leave events offered during a drain for the next drain")
+    void testOfferDuringDrain() {
+        InputQueue queue = new InputQueue();
+        queue.offer(new MoveEvent(EventType.LEFT, EventSource.USER));
+
+        int count = queue.drain(event -> queue.offer(new MoveEvent(EventType.RIGHT, EventSource.USER)));
+
+        assertEquals(1, count, "Only the event present at the start should drain");
+        assertEquals(1, queue.size(), "The new event should wait for the next tick");
+    }
+
+    @Test
+    @DisplayName("Should deliver every event across producer and consumer threads")
+    @Timeout(value = 10, unit = TimeUnit.SECONDS, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void testConcurrentProducer() throws InterruptedException {
+        InputQueue queue = new InputQueue(16);
+        int total = 10_000;
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                while (!queue.offer(new MoveEvent(EventType.DOWN, EventSource.USER, i))) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.setDaemon(true);
+        producer.start();
+
+        long[] expected = {0};
+        boolean[] ordered = {true};
+        while (expected[0] < total) {
+            int drained = queue.drain(event -> {
+                if (event.getTimestampNanos() != expected[0]) {
+                    ordered[0] = false;
+                }
+                expected[0]++;
+            });
+            if (drained == 0) {
+                // Give the producer the CPU on single-core runners instead of spinning out the time slice
+                Thread.onSpinWait();
+                Thread.yield();
+            }
+        }
+        producer.join();
+
+        assertTrue(ordered[0], "Events should arrive complete and in order");
+    }
+}
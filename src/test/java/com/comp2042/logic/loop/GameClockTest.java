@@ -0,0 +1,178 @@
+package com.comp2042.logic.loop;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class GameClockTest {
+
+    private static final long FRAME = GameClock.TICK_NANOS;
+
+    private int ticks;
+    private int gravitySteps;
+    private GameClock clock;
+
+    @BeforeEach
+    void setUp() {
+        ticks = 0;
+        gravitySteps = 0;
+        clock = new GameClock(new TickListener() {
+            @Override
+            public void onTick() {
+                ticks++;
+            }
+
+            @Override
+            public void onGravity() {
+                gravitySteps++;
+            }
+        });
+        clock.start();
+        clock.advance(0);
+    }
+
+    @Test
+    @DisplayName("Should convert level 1 gravity into 42 ticks per row")
+    void testLevelOneGravity() {
+        assertEquals(42, GameClock.framesPerRow(1), "700ms at 60Hz should be 42 ticks");
+        assertEquals(6, GameClock.framesPerRow(20), "Gravity should stop speeding up at 100ms");
+    }
+
+    @Test
+    @DisplayName("Should run one tick per frame at the tick rate")
+    void testOneTickPerFrame() {
+        for (int frame = 1; frame <= 42; frame++) {
+            assertEquals(1, clock.advance(frame * FRAME), "Each frame should run exactly one tick");
+        }
+
+        assertEquals(42, ticks, "Should run 42 ticks");
+        assertEquals(1, gravitySteps, "Gravity should fall once after 42 ticks");
+        assertEquals(0, clock.getLateTicks(), "No tick should be late");
+    }
+
+    @Test
+    @DisplayName("Should accumulate time across frames faster than the tick rate")
+    void testFastFramesAccumulate() {
+        long halfFrame = FRAME / 2;
+        for (int frame = 1; frame <= 20; frame++) {
+            clock.advance(frame * halfFrame);
+        }
+
+        assertEquals(10, ticks, "Twenty half frames should run ten ticks");
+    }
+
+    @Test
+    @DisplayName("Should catch up missed ticks and count them as late")
+    void testCatchUpCountsLateTicks() {
+        int run = clock.advance(3 * FRAME);
+
+        assertEquals(3, run, "A frame three ticks long should run three ticks");
+        assertEquals(2, clock.getLateTicks(), "Two of the ticks ran late");
+    }
+
+    @Test
+    @DisplayName("Should cap the backlog after a long stall")
+    void testLongStallIsCapped() {
+        int run = clock.advance(10 * FRAME * GameClock.TICKS_PER_SECOND);
+
+        assertTrue(run <= 5, "Stall should not fast-forward the game");
+    }
+
+    @Test
+    @DisplayName("Should not replay time spent stopped")
+    void testStoppedTimeNotReplayed() {
+        clock.stop();
+        assertEquals(0, clock.advance(100 * FRAME), "Stopped clock should not tick");
+
+        clock.start();
+        clock.advance(200 * FRAME);
+        assertEquals(1, clock.advance(201 * FRAME), "Resumed clock should continue from the new frame");
+        assertEquals(1, ticks, "Only the frame after resuming should tick");
+    }
+
+    @Test
+    @DisplayName("Should keep gravity progress across a level change")
+    void testLevelChangeKeepsGravityProgress() {
+        for (int frame = 1; frame <= 30; frame++) {
+            clock.advance(frame * FRAME);
+        }
+        clock.setLevel(2);
+
+        clock.advance(31 * FRAME);
+        clock.advance(32 * FRAME);
+        clock.advance(33 * FRAME);
+        clock.advance(34 * FRAME);
+        clock.advance(35 * FRAME);
+        clock.advance(36 * FRAME);
+
+        assertEquals(36, GameClock.framesPerRow(2), "600ms at 60Hz should be 36 ticks");
+        assertEquals(1, gravitySteps, "Gravity should fall after 36 ticks without resetting");
+    }
+
+    @Test
+    @DisplayName("Should keep gravity progress across a pause and resume")
+    void testResumeKeepsGravityProgress() {
+        for (int frame = 1; frame <= 30; frame++) {
+            clock.advance(frame * FRAME);
+        }
+        clock.stop();
+        clock.start();
+        clock.advance(100 * FRAME);
+
+        for (int frame = 101; frame <= 111; frame++) {
+            clock.advance(frame * FRAME);
+        }
+        assertEquals(0, gravitySteps, "Gravity should not fall before the interval completes");
+
+        clock.advance(112 * FRAME);
+        assertEquals(1, gravitySteps, "Ticks from before the pause should count towards gravity");
+    }
+
+    @Test
+    @DisplayName("Should keep gravity falling when paused and resumed repeatedly")
+    void testRepeatedPauseStillFalls() {
+        long frame = 0;
+        for (int pause = 0; pause < 10; pause++) {
+            clock.start();
+            clock.advance(++frame * FRAME);
+            for (int tick = 0; tick < 10; tick++) {
+                clock.advance(++frame * FRAME);
+            }
+            clock.stop();
+        }
+        assertEquals(2, gravitySteps, "100 ticks split by pauses should give two gravity steps");
+    }
+
+    @Test
+    @DisplayName("Should restart gravity progress when reset for a new game")
+    void testResetRestartsGravityProgress() {
+        for (int frame = 1; frame <= 30; frame++) {
+            clock.advance(frame * FRAME);
+        }
+        clock.stop();
+        clock.reset();
+        clock.start();
+        clock.advance(100 * FRAME);
+
+        for (int frame = 101; frame <= 141; frame++) {
+            clock.advance(frame * FRAME);
+        }
+        assertEquals(0, gravitySteps, "Progress from before the reset should not count");
+
+        clock.advance(142 * FRAME);
+        assertEquals(1, gravitySteps, "Gravity should fall a full interval after the reset");
+    }
+
+    @Test
+    @DisplayName("Should measure ticks per second")
+    void testTicksPerSecond() {
+        for (int frame = 1; frame <= GameClock.TICKS_PER_SECOND + 1; frame++) {
+            clock.advance(frame * FRAME);
+        }
+
+        assertEquals(GameClock.TICKS_PER_SECOND, clock.getTicksPerSecond(), 1.0, "Should measure about 60 ticks per second");
+    }
+}
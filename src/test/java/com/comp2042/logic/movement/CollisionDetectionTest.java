@@ -1,13 +1,18 @@
 package com.comp2042.logic.movement;
 
+import com.comp2042.model.board.Board;
+import com.comp2042.model.board.BoardFactory;
+import com.comp2042.model.bricks.BrickShape;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Unit tests for collision detection logic.
+ * Unit tests for collision detection logic, on the raw matrix and through each board implementation.
  */
 class CollisionDetectionTest {
 
@@ -124,4 +129,78 @@ class CollisionDetectionTest {
         assertTrue(MatrixOperations.intersect(emptyBoard, square, 5, BOARD_HEIGHT - 1),
                 "Square brick should collide at bottom");
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
+    @DisplayName("Board should stop the brick flush against the left and right walls")
+    void testBoardWallCollision(BoardFactory factory) {
+        Board board = createBoard(factory);
+
+        while (board.moveBrickLeft()) {
+            // Keep moving until it hits the wall
+        }
+        assertEquals(0, board.getCurrentX() + currentShape(board).getMinX(),
+                "Brick should rest against the left wall");
+
+        while (board.moveBrickRight()) {
+            // Keep moving until it hits the wall
+        }
+        assertEquals(BOARD_WIDTH - 1, board.getCurrentX() + currentShape(board).getMaxX(),
+                "Brick should rest against the right wall");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
+    @DisplayName("Board should stop the brick on the floor")
+    void testBoardFloorCollision(BoardFactory factory) {
+        Board board = createBoard(factory);
+
+        while (board.moveBrickDown()) {
+            // Keep moving until it lands
+        }
+
+        assertEquals(BOARD_HEIGHT - 1, board.getCurrentY() + currentShape(board).getMaxY(),
+                "Brick should rest on the floor");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
+    @DisplayName("Board should stop the brick on existing blocks")
+    void testBoardBlockCollision(BoardFactory factory) {
+        Board board = createBoard(factory);
+        board.loadBoard(partiallyFilledBoard);
+
+        while (board.moveBrickDown()) {
+            // Keep moving until it lands
+        }
+
+        assertEquals(BOARD_HEIGHT - 2, board.getCurrentY() + currentShape(board).getMaxY(),
+                "Brick should rest on the filled bottom row");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
+    @DisplayName("Board should report game over when the spawn position is blocked")
+    void testBoardSpawnCollision(BoardFactory factory) {
+        Board board = factory.create(BOARD_HEIGHT, BOARD_WIDTH);
+        int[][] blockedTop = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < BOARD_WIDTH; col++) {
+                blockedTop[row][col] = 1;
+            }
+        }
+        board.loadBoard(blockedTop);
+
+        assertTrue(board.createNewBrick(), "Spawning into filled cells should end the game");
+    }
+
+    private static Board createBoard(BoardFactory factory) {
+        Board board = factory.create(BOARD_HEIGHT, BOARD_WIDTH);
+        board.createNewBrick();
+        return board;
+    }
+
+    private static BrickShape currentShape(Board board) {
+        return board.getCurrentBrick().getShape(board.getCurrentRotation());
+    }
+}
@@ -0,0 +1,127 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.controller.HeadlessGameView;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.movement.MoveEvent;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ReplayTest {
+
+    private static final long SEED = 2042;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should reproduce a recorded game exactly on playback")
+    void testPlaybackMatchesRecording() throws IOException {
+        Path file = tempDir.resolve("game.replay");
+        SimpleBoard board = new SimpleBoard(GameController.BOARD_HEIGHT, GameController.BOARD_WIDTH,
+                new SeededBrickGenerator(SEED, RandomizerMode.SEVEN_BAG));
+        GameController recorded = new GameController(new HeadlessGameView(), board);
+
+        long[] tick = {0};
+        try (ReplayWriter writer = new ReplayWriter(file, SEED, RandomizerMode.SEVEN_BAG)) {
+            RecordingInputListener listener = new RecordingInputListener(recorded, writer, () -> tick[0]);
+            playRandomGame(listener, recorded, tick);
+        }
+
+        GameController replayed = ReplayPlayer.play(Replay.read(file));
+
+        assertEquals(recorded.getBoard().getScore().getValue(), replayed.getBoard().getScore().getValue(),
+                "Replayed score should match");
+        assertArrayEquals(recorded.getBoard().getBoardMatrix(), replayed.getBoard().getBoardMatrix(),
+                "Replayed board should match");
+        assertEquals(recorded.isGameOver(), replayed.isGameOver(), "Game over state should match");
+    }
+
+    @Test
+    @DisplayName("Should round-trip header, ticks and events")
+    void testRoundTrip() throws IOException {
+        Path file = tempDir.resolve("events.replay");
+        try (ReplayWriter writer = new ReplayWriter(file, -7L, RandomizerMode.UNIFORM)) {
+            writer.write(0, new MoveEvent(EventType.LEFT, EventSource.USER));
+            writer.write(5, new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            writer.writeNewGame(300);
+            writer.write(1L << 40, new MoveEvent(EventType.RIGHT_WALL, EventSource.USER));
+        }
+
+        Replay replay = Replay.read(file);
+
+        assertEquals(-7L, replay.getSeed(), "Seed should round-trip");
+        assertEquals(RandomizerMode.UNIFORM, replay.getMode(), "Mode should round-trip");
+        assertEquals(4, replay.size(), "Should read four records");
+        assertEquals(EventType.LEFT, replay.getEventType(0), "First event type");
+        assertEquals(EventSource.THREAD, replay.getEventSource(1), "Second event source");
+        assertEquals(5, replay.getTick(1), "Second event tick");
+        assertTrue(replay.isNewGame(2), "Third record should be a new game marker");
+        assertEquals(1L << 40, replay.getTick(3), "Large tick delta should round-trip");
+        assertEquals(EventType.RIGHT_WALL, replay.getEventType(3), "Last event type");
+    }
+
+    @Test
+    @DisplayName("Should store gravity-tick records in two bytes")
+    void testCompactRecords() throws IOException {
+        Path file = tempDir.resolve("compact.replay");
+        try (ReplayWriter writer = new ReplayWriter(file, SEED, RandomizerMode.SEVEN_BAG)) {
+            for (int i = 0; i < 10_000; i++) {
+                writer.write(i * 42L, new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            }
+        }
+
+        assertEquals(ReplayFormat.HEADER_SIZE + 2 * 10_000, Files.size(file), "Each record should take two bytes");
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not replays")
+    void testRejectsInvalidFile() throws IOException {
+        Path file = tempDir.resolve("bad.replay");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14});
+
+        assertThrows(IOException.class, () -> Replay.read(file));
+    }
+
+    private void playRandomGame(RecordingInputListener listener, GameController game, long[] tick) {
+        Random random = new Random(SEED);
+
+        for (int step = 0; step < 5_000 && !game.isGameOver(); step++) {
+            tick[0] += random.nextInt(3);
+            switch (random.nextInt(6)) {
+                case 0:
+                    listener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+                    break;
+                case 1:
+                    listener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+                    break;
+                case 2:
+                    listener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+                    break;
+                case 3:
+                    listener.onWallShiftEvent(new MoveEvent(
+                            random.nextBoolean() ? EventType.LEFT_WALL : EventType.RIGHT_WALL, EventSource.USER));
+                    break;
+                case 4:
+                    listener.onHardDropEvent();
+                    break;
+                default:
+                    listener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+                    break;
+            }
+        }
+    }
+}
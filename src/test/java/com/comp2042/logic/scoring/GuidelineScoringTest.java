@@ -0,0 +1,119 @@
+package com.comp2042.logic.scoring;
+
+import com.comp2042.controller.HeadlessGameView;
+import com.comp2042.logic.GameController;
+import com.comp2042.logic.clear.ClearRow;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
+import com.comp2042.model.score.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class GuidelineScoringTest {
+
+    private GuidelineScoring scoring;
+    private Score score;
+
+    @BeforeEach
+    void setUp() {
+        scoring = new GuidelineScoring();
+        score = new Score();
+    }
+
+    @Test
+    @DisplayName("Should award the line table times level")
+    void testLineTable() {
+        assertEquals(100, lock(1, 1, TSpin.NONE, false), "Single at level 1");
+        score.reset();
+        assertEquals(900, lock(2, 3, TSpin.NONE, false), "Double at level 3");
+        score.reset();
+        assertEquals(800, lock(4, 1, TSpin.NONE, false), "Tetris at level 1");
+    }
+
+    @Test
+    @DisplayName("Should award T-spins, including ones that clear no lines")
+    void testTSpinTable() {
+        assertEquals(400, lock(0, 1, TSpin.FULL, false), "T-spin without lines");
+        assertEquals(100, lock(0, 1, TSpin.MINI, false), "Mini T-spin without lines");
+        score.reset();
+        assertEquals(1200, lock(2, 1, TSpin.FULL, false), "T-spin double");
+    }
+
+    @Test
+    @DisplayName("Should add half again for back-to-back difficult clears")
+    void testBackToBack() {
+        lock(4, 1, TSpin.NONE, false);
+        lock(0, 1, TSpin.NONE, false);
+
+        assertEquals(1200, lock(4, 1, TSpin.NONE, false), "Back-to-back Tetris should be 1.5 times 800");
+        lock(0, 1, TSpin.NONE, false);
+        assertEquals(1800, lock(2, 1, TSpin.FULL, false), "T-spin double should continue the streak");
+        lock(0, 1, TSpin.NONE, false);
+        assertEquals(100, lock(1, 1, TSpin.NONE, false), "A single should get no bonus");
+    }
+
+    @Test
+    @DisplayName("Should add 50 points per combo step")
+    void testCombo() {
+        assertEquals(100, lock(1, 1, TSpin.NONE, false), "First clear has no combo");
+        assertEquals(100 + 50, lock(1, 1, TSpin.NONE, false), "Second clear is combo 1");
+        assertEquals(300 + 100, lock(2, 1, TSpin.NONE, false), "Third clear is combo 2");
+        assertEquals(0, lock(0, 1, TSpin.NONE, false), "A lock without lines ends the combo");
+        assertEquals(100, lock(1, 1, TSpin.NONE, false), "Combo should restart");
+    }
+
+    @Test
+    @DisplayName("Should add the perfect clear bonus")
+    void testPerfectClear() {
+        assertEquals(100 + 800, lock(1, 1, TSpin.NONE, true), "Perfect clear single");
+        score.reset();
+        lock(4, 1, TSpin.NONE, false);
+        lock(0, 1, TSpin.NONE, false);
+        assertEquals(1200 + 3200, lock(4, 1, TSpin.NONE, true), "Back-to-back Tetris perfect clear");
+    }
+
+    @Test
+    @DisplayName("Should match the board table with classic scoring")
+    void testClassicUsesBoardBonus() {
+        ClassicScoring classic = new ClassicScoring();
+        ClearRow clearRow = new ClearRow(3, new int[0][0], 1500);
+
+        assertEquals(1500, classic.scoreLock(clearRow, 3, TSpin.FULL, true, score),
+                "Classic scoring should use the board's line bonus");
+        assertTrue(classic.isDifficult(4, TSpin.NONE), "Tetris should be difficult");
+        assertFalse(classic.isDifficult(2, TSpin.FULL), "Classic scoring ignores T-spins");
+    }
+
+    @Test
+    @DisplayName("Should play a full game with guideline scoring")
+    void testGameWithGuidelineScoring() {
+        SimpleBoard board = new SimpleBoard(GameController.BOARD_HEIGHT, GameController.BOARD_WIDTH,
+                new SeededBrickGenerator(3, RandomizerMode.SEVEN_BAG));
+        GameController game = new GameController(new HeadlessGameView(), board, ScoringType.GUIDELINE.create());
+
+        for (int i = 0; i < 500 && !game.isGameOver(); i++) {
+            game.onHardDropEvent();
+        }
+
+        assertTrue(game.isGameOver(), "Stacking bricks should end the game");
+        assertTrue(board.getScore().getTotal() > 0, "Hard drops should score");
+    }
+
+    @Test
+    @DisplayName("Should parse scoring names")
+    void testScoringType() {
+        assertEquals(ScoringType.GUIDELINE, ScoringType.fromName(" Guideline "), "Name should be case-insensitive");
+        assertEquals(ScoringType.CLASSIC, ScoringType.fromName(null), "Missing name should fall back to classic");
+        assertInstanceOf(GuidelineScoring.class, ScoringType.GUIDELINE.create(), "Should create guideline scoring");
+    }
+
+    private int lock(int lines, int level, TSpin spin, boolean perfectClear) {
+        score.recordLock(lines, scoring.isDifficult(lines, spin));
+        return scoring.scoreLock(new ClearRow(lines, new int[0][0], 0), level, spin, perfectClear, score);
+    }
+}
@@ -0,0 +1,98 @@
+package com.comp2042.logic.scoring;
+
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickFixtures;
+import com.comp2042.model.bricks.BrickShape;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class TSpinDetectorTest {
+
+    private static final int ROWS = 6;
+    private static final int COLS = 5;
+    private static final int FILLED = 1;
+
+    /** Rotation with the stem pointing down. */
+    private static final int STEM_DOWN = 0;
+
+    /** Rotation with the stem pointing right. */
+    private static final int STEM_RIGHT = 1;
+
+    @Test
+    @DisplayName("Should detect a full T-spin when both front corners are blocked")
+    void testFullTSpin() {
+        int[][] board = boardWithCells(4, 0, 4, 2, 2, 0);
+
+        assertEquals(TSpin.FULL, TSpinDetector.detect(board, tShape(STEM_DOWN), 0, 2),
+                "Three corners with both front ones blocked should be a full T-spin");
+    }
+
+    @Test
+    @DisplayName("Should detect a mini T-spin when only one front corner is blocked")
+    void testMiniTSpin() {
+        int[][] board = boardWithCells(2, 0, 2, 2, 4, 0);
+
+        assertEquals(TSpin.MINI, TSpinDetector.detect(board, tShape(STEM_DOWN), 0, 2),
+                "Three corners with one front corner blocked should be a mini T-spin");
+    }
+
+    @Test
+    @DisplayName("Should not detect a T-spin with only two corners blocked")
+    void testTwoCornersIsNotTSpin() {
+        int[][] board = boardWithCells(4, 0, 4, 2);
+
+        assertEquals(TSpin.NONE, TSpinDetector.detect(board, tShape(STEM_DOWN), 0, 2),
+                "Two blocked corners should not be a T-spin");
+    }
+
+    @Test
+    @DisplayName("Should count the wall as blocked corners")
+    void testWallCountsAsBlocked() {
+        int[][] oneFront = boardWithCells(4, 1);
+        int[][] bothFront = boardWithCells(2, 1, 4, 1);
+
+        assertEquals(TSpin.MINI, TSpinDetector.detect(oneFront, tShape(STEM_RIGHT), -1, 2),
+                "Wall corners plus one front corner should be a mini T-spin");
+        assertEquals(TSpin.FULL, TSpinDetector.detect(bothFront, tShape(STEM_RIGHT), -1, 2),
+                "Wall corners plus both front corners should be a full T-spin");
+    }
+
+    @Test
+    @DisplayName("Should not count the open space above the board as blocked")
+    void testCeilingIsOpen() {
+        int[][] board = boardWithCells(1, 0);
+
+        assertEquals(TSpin.NONE, TSpinDetector.detect(board, tShape(STEM_DOWN), 0, -1),
+                "Corners above the top row should be open");
+    }
+
+    @Test
+    @DisplayName("Should ignore bricks other than the T")
+    void testOtherBricksNeverSpin() {
+        int[][] board = boardWithCells(2, 0, 2, 2, 4, 0, 4, 2);
+
+        Brick[] bricks = {BrickFixtures.iBrick(), BrickFixtures.oBrick(), BrickFixtures.sBrick(),
+                BrickFixtures.zBrick(), BrickFixtures.jBrick(), BrickFixtures.lBrick()};
+        for (Brick brick : bricks) {
+            for (int rotation = 0; rotation < brick.getRotationCount(); rotation++) {
+                assertEquals(TSpin.NONE, TSpinDetector.detect(board, brick.getShape(rotation), 0, 2),
+                        brick.getClass().getSimpleName() + " should never be a T-spin");
+            }
+        }
+    }
+
+    private static int[][] boardWithCells(int... rowColPairs) {
+        int[][] board = new int[ROWS][COLS];
+        for (int i = 0; i < rowColPairs.length; i += 2) {
+            board[rowColPairs[i]][rowColPairs[i + 1]] = FILLED;
+        }
+        return board;
+    }
+
+    private static BrickShape tShape(int rotation) {
+        return BrickFixtures.tBrick().getShape(rotation);
+    }
+}
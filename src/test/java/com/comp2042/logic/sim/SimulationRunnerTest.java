@@ -0,0 +1,67 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.model.bricks.RandomizerMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class SimulationRunnerTest {
+
+    private static final int GAMES = 40;
+
+    @Test
+    @DisplayName("Should play every game to completion")
+    void testPlaysAllGames() {
+        SimulationRunner runner = new SimulationRunner(1, RandomizerMode.SEVEN_BAG, RandomMovePolicy::new, 500);
+
+        SimulationStats stats = runner.run(GAMES);
+
+        assertEquals(GAMES, stats.getGames(), "Should report every game");
+        assertTrue(stats.getTotalPieces() >= GAMES, "Every game should place at least one brick");
+        assertTrue(stats.getPiecesPerSecond() > 0, "Throughput should be measured");
+    }
+
+    @Test
+    @DisplayName("Should give the same totals regardless of thread count")
+    void testDeterministicAcrossThreadCounts() {
+        SimulationRunner runner = new SimulationRunner(7, RandomizerMode.UNIFORM, RandomMovePolicy::new, 500);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            SimulationStats sequential = runner.run(GAMES, single);
+            SimulationStats parallel = runner.run(GAMES, many);
+
+            assertEquals(sequential.getTotalScore(), parallel.getTotalScore(), "Scores should match");
+            assertEquals(sequential.getTotalLines(), parallel.getTotalLines(), "Lines should match");
+            assertEquals(sequential.getTotalPieces(), parallel.getTotalPieces(), "Pieces should match");
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop games at the piece limit")
+    void testPieceLimit() {
+        MovePolicy idle = game -> game.onHardDropEvent();
+        SimulationRunner runner = new SimulationRunner(3, RandomizerMode.SEVEN_BAG, seed -> idle, 5);
+
+        GameResult result = runner.playGame(0);
+
+        assertEquals(5, result.getPieces(), "Game should stop after five bricks");
+    }
+
+    @Test
+    @DisplayName("Should derive distinct seeds per game")
+    void testDistinctSeeds() {
+        SimulationRunner runner = new SimulationRunner(0, RandomizerMode.SEVEN_BAG, RandomMovePolicy::new, 1);
+
+        assertNotEquals(runner.gameSeed(0), runner.gameSeed(1), "Games should get different seeds");
+        assertEquals(runner.gameSeed(5), runner.gameSeed(5), "Seeds should be stable");
+    }
+}
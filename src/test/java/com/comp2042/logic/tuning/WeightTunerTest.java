@@ -0,0 +1,120 @@
+package com.comp2042.logic.tuning;
+
+import com.comp2042.logic.ai.HeuristicWeights;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class WeightTunerTest {
+
+    private static final PrintStream NO_OUTPUT = new PrintStream(OutputStream.nullOutputStream());
+
+    private static ForkJoinPool pool;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(2);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should restore a saved population exactly")
+    void testCheckpointRoundTrip() throws IOException {
+        Population population = Population.random(5, 1);
+        double[] fitness = {1.5, Double.NaN, 0, 42.25, Double.NaN};
+        population = population.withFitness(fitness);
+
+        Path checkpoint = tempDir.resolve("weights.checkpoint");
+        population.save(checkpoint);
+        Population loaded = Population.load(checkpoint);
+
+        assertEquals(population.getGeneration(), loaded.getGeneration(), "Generation should match");
+        assertEquals(population.size(), loaded.size(), "Size should match");
+        for (int i = 0; i < population.size(); i++) {
+            assertArrayEquals(population.getWeights(i).toArray(), loaded.getWeights(i).toArray(),
+                    "Weights should match at " + i);
+            assertEquals(population.getFitness(i), loaded.getFitness(i), "Fitness should match at " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not checkpoints")
+    void testRejectsBadCheckpoint() throws IOException {
+        Path file = tempDir.resolve("bad.checkpoint");
+        Files.writeString(file, "hello\n");
+
+        assertThrows(IOException.class, () -> Population.load(file));
+    }
+
+    @Test
+    @DisplayName("Should replace the least fit vectors with unit-length offspring")
+    void testBreedReplacesWorst() {
+        double[] fitness = new double[10];
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = i;
+        }
+        Population population = Population.random(10, 7).withFitness(fitness);
+
+        Population next = new WeightTuner(3, 1, 1, pool).breed(population);
+
+        assertEquals(1, next.getGeneration(), "Generation should advance");
+        assertEquals(10, next.size(), "Population size should be kept");
+        for (int i = 0; i < 3; i++) {
+            assertTrue(Double.isNaN(next.getFitness(i)), "Least fit vector " + i + " should be replaced");
+            assertEquals(1.0, length(next.getWeights(i)), 1e-9, "Offspring should have unit length");
+        }
+        for (int i = 3; i < 10; i++) {
+            assertEquals(i, next.getFitness(i), "Fitter vector " + i + " should survive");
+        }
+    }
+
+    @Test
+    @DisplayName("Should give the same result when resumed from a checkpoint")
+    void testResumeMatchesUninterruptedRun() throws IOException {
+        Path checkpoint = tempDir.resolve("run.checkpoint");
+
+        Population uninterrupted = new WeightTuner(9, 2, 30, pool)
+                .run(Population.random(4, 9), 2, null, NO_OUTPUT);
+
+        WeightTuner first = new WeightTuner(9, 2, 30, pool);
+        first.run(Population.random(4, 9), 1, checkpoint, NO_OUTPUT);
+        Population resumed = new WeightTuner(9, 2, 30, pool)
+                .run(Population.load(checkpoint), 2, checkpoint, NO_OUTPUT);
+
+        assertEquals(2, resumed.getGeneration(), "Run should stop after generation 2");
+        for (int i = 0; i < uninterrupted.size(); i++) {
+            assertArrayEquals(uninterrupted.getWeights(i).toArray(), resumed.getWeights(i).toArray(),
+                    "Weights should match at " + i);
+            assertEquals(uninterrupted.getFitness(i), resumed.getFitness(i), "Fitness should match at " + i);
+        }
+        assertTrue(first.getGamesPlayed() >= 8, "First run should play two games per vector");
+        assertTrue(first.getGamesPerSecond() > 0, "Throughput should be reported");
+    }
+
+    private static double length(HeuristicWeights weights) {
+        double sum = 0;
+        for (double value : weights.toArray()) {
+            sum += value * value;
+        }
+        return Math.sqrt(sum);
+    }
+}
@@ -0,0 +1,145 @@
+package com.comp2042.model.board;
+
+import com.comp2042.logic.clear.ClearRow;
+import com.comp2042.view.ViewData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class BitBoardTest {
+
+    private BitBoard board;
+    private static final int BOARD_HEIGHT = 25;
+    private static final int BOARD_WIDTH = 10;
+
+    @BeforeEach
+    void setUp() {
+        board = new BitBoard(BOARD_HEIGHT, BOARD_WIDTH);
+        board.createNewBrick();
+    }
+
+    @Test
+    @DisplayName("Should stop at left and right walls")
+    void testWallCollision() {
+        while (board.moveBrickLeft()) {
+            // Keep moving until it hits the wall
+        }
+        int leftX = board.getViewData().getxPosition();
+        assertFalse(board.moveBrickLeft(), "Brick should not move past left wall");
+        assertEquals(leftX, board.getViewData().getxPosition(), "X position should not change");
+
+        while (board.moveBrickRight()) {
+            // Keep moving until it hits the wall
+        }
+        int rightX = board.getViewData().getxPosition();
+        assertFalse(board.moveBrickRight(), "Brick should not move past right wall");
+        assertTrue(rightX > leftX, "Right wall position should be right of left wall position");
+    }
+
+    @Test
+    @DisplayName("Should land on the floor where the ghost predicts")
+    void testLandsOnGhostPosition() {
+        int ghostY = board.getViewData().getGhostYPosition();
+
+        while (board.moveBrickDown()) {
+            // Keep moving until it lands
+        }
+
+        assertEquals(ghostY, board.getViewData().getyPosition(), "Brick should land on ghost position");
+    }
+
+    @Test
+    @DisplayName("Should write merged brick into the colour matrix")
+    void testMergeWritesColourMatrix() {
+        while (board.moveBrickDown()) {
+            // Keep moving until it lands
+        }
+        board.mergeBrickToBackground();
+
+        int filledCells = 0;
+        for (int[] row : board.getBoardMatrix()) {
+            for (int cell : row) {
+                if (cell != 0) filledCells++;
+            }
+        }
+        assertEquals(4, filledCells, "A merged tetromino should fill four cells");
+    }
+
+    @Test
+    @DisplayName("Should stack bricks instead of overlapping them")
+    void testBricksStack() {
+        while (board.moveBrickDown()) {
+            // Keep moving until it lands
+        }
+        int firstLandingY = board.getViewData().getyPosition();
+        board.mergeBrickToBackground();
+
+        board.createNewBrick();
+        ViewData second = board.getViewData();
+
+        assertTrue(second.getGhostYPosition() < firstLandingY,
+                "Second brick should land on top of the first one");
+    }
+
+    @Test
+    @DisplayName("Should not clear incomplete rows")
+    void testNoClearOnIncompleteRows() {
+        while (board.moveBrickDown()) {
+            // Keep moving until it lands
+        }
+        board.mergeBrickToBackground();
+
+        ClearRow result = board.clearRows();
+
+        assertEquals(0, result.getLinesRemoved(), "Should not clear incomplete rows");
+        assertEquals(0, result.getScoreBonus(), "Should award 0 points");
+    }
+
+    @Test
+    @DisplayName("Should reset board on new game")
+    void testNewGameReset() {
+        while (board.moveBrickDown()) {
+            // Keep moving until it lands
+        }
+        board.mergeBrickToBackground();
+
+        board.newGame();
+
+        for (int[] row : board.getBoardMatrix()) {
+            for (int cell : row) {
+                assertEquals(0, cell, "All cells should be empty after reset");
+            }
+        }
+        assertEquals(1, board.getLevel(), "Level should reset to 1");
+    }
+
+    @Test
+    @DisplayName("Should reject boards too wide for a bitmask row")
+    void testRejectsWideBoard() {
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(BOARD_HEIGHT, 30));
+    }
+
+    @Test
+    @DisplayName("Should keep the filled cell count in step with the colour matrix")
+    void testFilledCellCount() {
+        for (int piece = 0; piece < 40; piece++) {
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+
+            int filledCells = 0;
+            for (int[] row : board.getBoardMatrix()) {
+                for (int cell : row) {
+                    if (cell != 0) filledCells++;
+                }
+            }
+            assertEquals(filledCells, board.getFilledCellCount(), "Counter should match the matrix");
+            if (board.createNewBrick()) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.comp2042.model.board;
+
+import org.junit.jupiter.api.Named;
+
+import java.util.stream.Stream;
+
+/**
+ * Creates an empty board, so a suite can run unchanged against every {@link Board} implementation.
+ */
+@FunctionalInterface
+public interface BoardFactory {
+
+    /**
+     * Method source name for parameterized tests in any package.
+     */
+    String ALL = "com.comp2042.model.board.BoardFactory#all";
+
+    Board create(int rows, int cols);
+
+    static Stream<Named<BoardFactory>> all() {
+        return Stream.of(
+                Named.of("SimpleBoard", SimpleBoard::new),
+                Named.of("BitBoard", BitBoard::new)
+        );
+    }
+}
@@ -1,29 +1,37 @@
 package com.comp2042.model.board;
 
 import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.RandomizerMode;
+import com.comp2042.model.bricks.SeededBrickGenerator;
 import com.comp2042.model.score.Score;
 import com.comp2042.view.ViewData;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class BoardMovementTest {
 
-    private SimpleBoard board;
+    private Board board;
     private static final int BOARD_HEIGHT = 25;
     private static final int BOARD_WIDTH = 10;
 
-    @BeforeEach
-    void setUp() {
-        board = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH);
+    private void setUp(BoardFactory factory) {
+        board = factory.create(BOARD_HEIGHT, BOARD_WIDTH);
         board.createNewBrick();
     }
 
-    @Test
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
     @DisplayName("Should move brick down successfully")
-    void testMoveBrickDown() {
+    void testMoveBrickDown(BoardFactory factory) {
+        setUp(factory);
+
         ViewData initialData = board.getViewData();
         int initialY = initialData.getyPosition();
 
@@ -34,9 +42,12 @@ public class BoardMovementTest {
         assertEquals(initialY + 1, newData.getyPosition(), "Y position should increase by 1");
     }
 
-    @Test
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
     @DisplayName("Should not move brick down when at bottom")
-    void testMoveBrickDownAtBottom() {
+    void testMoveBrickDownAtBottom(BoardFactory factory) {
+        setUp(factory);
+
         // Move brick all the way down
         while (board.moveBrickDown()) {
             // Keep moving until it can't move anymore
@@ -54,9 +65,12 @@ public class BoardMovementTest {
         assertEquals(finalY, newData.getyPosition(), "Y position should not change");
     }
 
-    @Test
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
     @DisplayName("Should move brick left successfully")
-    void testMoveBrickLeft() {
+    void testMoveBrickLeft(BoardFactory factory) {
+        setUp(factory);
+
         ViewData initialData = board.getViewData();
         int initialX = initialData.getxPosition();
 
@@ -67,9 +81,12 @@ public class BoardMovementTest {
         assertEquals(initialX - 1, newData.getxPosition(), "X position should decrease by 1");
     }
 
-    @Test
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
     @DisplayName("Should not move brick left when at left wall")
-    void testMoveBrickLeftAtWall() {
+    void testMoveBrickLeftAtWall(BoardFactory factory) {
+        setUp(factory);
+
         // Move brick all the way left
         while (board.moveBrickLeft()) {
             // Keep moving until it hits the wall
@@ -87,9 +104,12 @@ public class BoardMovementTest {
         assertEquals(finalX, newData.getxPosition(), "X position should not change");
     }
 
-    @Test
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
     @DisplayName("Should move brick right successfully")
-    void testMoveBrickRight() {
+    void testMoveBrickRight(BoardFactory factory) {
+        setUp(factory);
+
         ViewData initialData = board.getViewData();
         int initialX = initialData.getxPosition();
 
@@ -100,9 +120,12 @@ public class BoardMovementTest {
         assertEquals(initialX + 1, newData.getxPosition(), "X position should increase by 1");
     }
 
-    @Test
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
     @DisplayName("Should not move brick right when at right wall")
-    void testMoveBrickRightAtWall() {
+    void testMoveBrickRightAtWall(BoardFactory factory) {
+        setUp(factory);
+
         // Move brick all the way right
         while (board.moveBrickRight()) {
             // Keep moving until it hits the wall
@@ -120,9 +143,12 @@ public class BoardMovementTest {
         assertEquals(finalX, newData.getxPosition(), "X position should not change");
     }
 
-    @Test
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
     @DisplayName("Should move brick in multiple directions")
-    void testMultipleDirectionMovement() {
+    void testMultipleDirectionMovement(BoardFactory factory) {
+        setUp(factory);
+
         ViewData initialData = board.getViewData();
         int initialX = initialData.getxPosition();
         int initialY = initialData.getyPosition();
@@ -141,9 +167,12 @@ public class BoardMovementTest {
         assertEquals(initialY + 1, finalData.getyPosition(), "Y position should increase by 1");
     }
 
-    @Test
+    @ParameterizedTest(name = "{0}")
+    @MethodSource(BoardFactory.ALL)
     @DisplayName("Should rotate brick successfully")
-    void testRotateBrick() {
+    void testRotateBrick(BoardFactory factory) {
+        setUp(factory);
+
         int[][] initialShape = board.getViewData().getBrickData();
 
         boolean rotated = board.rotateLeftBrick();
@@ -157,4 +186,22 @@ public class BoardMovementTest {
         assertNotNull(newShape, "New shape should not be null");
     }
 
+    @Test
+    @DisplayName("Should preview the bricks that spawn next, as deep as the generator")
+    void testPreviewMatchesSpawnOrder() {
+        SimpleBoard seeded = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH,
+                new SeededBrickGenerator(11, RandomizerMode.SEVEN_BAG, 3));
+        seeded.createNewBrick();
+
+        List<Brick> preview = seeded.getPreview();
+        assertEquals(3, preview.size(), "Preview should be as deep as the generator's");
+        assertSame(seeded.getNextBrick(), preview.get(0), "Preview should start with the next brick");
+
+        List<Brick> spawned = new ArrayList<>();
+        for (int i = 0; i < preview.size(); i++) {
+            seeded.createNewBrick();
+            spawned.add(seeded.getCurrentBrick());
+        }
+        assertEquals(preview, spawned, "Bricks should spawn in preview order");
+    }
 }
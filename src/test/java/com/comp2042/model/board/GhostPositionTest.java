@@ -0,0 +1,84 @@
+package com.comp2042.model.board;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class GhostPositionTest {
+
+    private SimpleBoard board;
+    private static final int BOARD_HEIGHT = 25;
+    private static final int BOARD_WIDTH = 10;
+
+    @BeforeEach
+    void setUp() {
+        board = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH);
+        board.createNewBrick();
+    }
+
+    @Test
+    @DisplayName("Ghost position should match where the brick actually lands")
+    void testGhostMatchesLanding() {
+        Random random = new Random(42);
+        boolean gameOver = false;
+        int locks = 0;
+
+        while (!gameOver && locks < 300) {
+            // Wander down and sideways so bricks sometimes slide under overhangs
+            for (int step = 0; step < 12; step++) {
+                switch (random.nextInt(4)) {
+                    case 0: board.moveBrickLeft(); break;
+                    case 1: board.moveBrickRight(); break;
+                    case 2: board.rotateLeftBrick(); break;
+                    default: board.moveBrickDown(); break;
+                }
+                assertGhostMatchesLanding();
+            }
+
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            gameOver = board.createNewBrick();
+            locks++;
+        }
+    }
+
+    @Test
+    @DisplayName("Hard drop should report the distance travelled")
+    void testHardDropDistance() {
+        int startY = board.getViewData().getyPosition();
+        int ghostY = board.getViewData().getGhostYPosition();
+
+        int distance = board.hardDropBrick();
+
+        assertEquals(ghostY - startY, distance, "Drop distance should reach the ghost row");
+        assertEquals(ghostY, board.getViewData().getyPosition(), "Brick should rest on the ghost row");
+        assertFalse(board.moveBrickDown(), "Brick should not be able to move further down");
+    }
+
+    private void assertGhostMatchesLanding() {
+        int ghostY = board.getViewData().getGhostYPosition();
+        int startY = board.getViewData().getyPosition();
+
+        int fallen = 0;
+        while (board.moveBrickDown()) {
+            fallen++;
+        }
+        int landingY = board.getViewData().getyPosition();
+        assertEquals(landingY, ghostY, "Ghost should predict the landing row");
+
+        // Put the brick back where it was so the wandering continues from the same spot
+        assertEquals(startY + fallen, landingY);
+        restoreY(startY);
+    }
+
+    private void restoreY(int y) {
+        // Boards cannot move bricks up, so reset the position directly
+        board.setPosition(board.getCurrentX(), y);
+    }
+}
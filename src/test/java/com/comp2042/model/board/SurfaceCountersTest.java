@@ -0,0 +1,130 @@
+package com.comp2042.model.board;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class SurfaceCountersTest {
+
+    private SimpleBoard board;
+    private static final int BOARD_HEIGHT = 25;
+    private static final int BOARD_WIDTH = 10;
+
+    @BeforeEach
+    void setUp() {
+        board = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH);
+        board.createNewBrick();
+    }
+
+    @Test
+    @DisplayName("Should start with empty counters")
+    void testInitialCounters() {
+        assertEquals(0, board.getFilledCellCount(), "Board should start empty");
+        for (int col = 0; col < BOARD_WIDTH; col++) {
+            assertEquals(0, board.getColumnHeight(col), "Columns should start empty");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject boards too wide to hash")
+    void testRejectsBoardsTooWideToHash() {
+        int tooWide = BoardHash.MAX_COLUMNS + 1;
+        assertThrows(IllegalArgumentException.class, () -> new SimpleBoard(BOARD_HEIGHT, tooWide),
+                "Board should not share column keys");
+        assertThrows(IllegalArgumentException.class, () -> BoardHash.hash(new int[1][tooWide]),
+                "Hashing should not share column keys");
+    }
+
+    @Test
+    @DisplayName("Should match a full rescan after every lock until game over")
+    void testCountersMatchRescan() {
+        boolean gameOver = false;
+        int locks = 0;
+
+        while (!gameOver && locks < 200) {
+            dropIntoDeepestColumn();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            assertCountersMatch();
+
+            gameOver = board.createNewBrick();
+            locks++;
+        }
+    }
+
+    @Test
+    @DisplayName("Should reset counters on new game")
+    void testNewGameResetsCounters() {
+        while (board.moveBrickDown()) {
+            // Keep moving until it lands
+        }
+        board.mergeBrickToBackground();
+        assertEquals(4, board.getFilledCellCount(), "Merged tetromino should add four cells");
+
+        board.newGame();
+
+        assertEquals(0, board.getFilledCellCount(), "Filled cells should reset");
+        assertCountersMatch();
+    }
+
+    /**
+     * Drops the current brick in the column where it lands lowest, so rows fill up and clear.
+     */
+    private void dropIntoDeepestColumn() {
+        while (board.moveBrickLeft()) {
+            // Move to the left wall
+        }
+
+        int bestSteps = 0;
+        int bestGhostY = -1;
+        int steps = 0;
+        do {
+            int ghostY = board.getViewData().getGhostYPosition();
+            if (ghostY > bestGhostY) {
+                bestGhostY = ghostY;
+                bestSteps = steps;
+            }
+            steps++;
+        } while (board.moveBrickRight());
+
+        while (board.moveBrickLeft()) {
+            // Move back to the left wall
+        }
+        for (int i = 0; i < bestSteps; i++) {
+            board.moveBrickRight();
+        }
+        while (board.moveBrickDown()) {
+            // Keep moving until it lands
+        }
+    }
+
+    private void assertCountersMatch() {
+        int[][] matrix = board.getBoardMatrix();
+        int filled = 0;
+
+        for (int row = 0; row < BOARD_HEIGHT; row++) {
+            int rowFill = 0;
+            for (int col = 0; col < BOARD_WIDTH; col++) {
+                if (matrix[row][col] != 0) rowFill++;
+            }
+            assertEquals(rowFill, board.getRowFillCount(row), "Row fill count mismatch at row " + row);
+            filled += rowFill;
+        }
+        assertEquals(filled, board.getFilledCellCount(), "Filled cell count mismatch");
+
+        for (int col = 0; col < BOARD_WIDTH; col++) {
+            int height = 0;
+            for (int row = 0; row < BOARD_HEIGHT; row++) {
+                if (matrix[row][col] != 0) {
+                    height = BOARD_HEIGHT - row;
+                    break;
+                }
+            }
+            assertEquals(height, board.getColumnHeight(col), "Column height mismatch at column " + col);
+        }
+        assertEquals(BoardHash.hash(matrix), board.getBoardHash(), "Board hash mismatch");
+    }
+}
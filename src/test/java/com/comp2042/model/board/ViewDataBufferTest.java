@@ -0,0 +1,64 @@
+package com.comp2042.model.board;
+
+import com.comp2042.view.ViewData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ViewDataBufferTest {
+
+    private static final int BOARD_HEIGHT = 25;
+    private static final int BOARD_WIDTH = 10;
+
+    @Test
+    @DisplayName("Should alternate between two reused snapshots")
+    void testAlternatesSnapshots() {
+        for (Board board : new Board[]{new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH), new BitBoard(BOARD_HEIGHT, BOARD_WIDTH)}) {
+            board.createNewBrick();
+
+            ViewData first = board.getViewData();
+            board.moveBrickDown();
+            ViewData second = board.getViewData();
+
+            assertNotSame(first, second, "Consecutive snapshots should be different objects");
+            assertEquals(first.getyPosition() + 1, second.getyPosition(), "Previous snapshot should stay intact");
+
+            ViewData third = board.getViewData();
+            assertSame(first, third, "Third snapshot should reuse the first buffer");
+            assertEquals(second.getyPosition(), third.getyPosition(), "Reused snapshot should hold the new state");
+        }
+    }
+
+    @Test
+    @DisplayName("Should share brick matrices instead of copying them")
+    void testSharesBrickMatrices() {
+        SimpleBoard board = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH);
+        board.createNewBrick();
+
+        ViewData view = board.getViewData();
+
+        assertSame(board.getCurrentBrick().getShape(board.getCurrentRotation()).getMatrix(), view.getBrickData(),
+                "Brick data should be the shared shape matrix");
+        assertSame(view.getBrickData(), view.getBrickData(), "Getters should not copy");
+        assertSame(board.getNextBrick().getShape(0).getMatrix(), view.getNextBrickData(),
+                "Preview should be the shared shape matrix");
+    }
+
+    @Test
+    @DisplayName("Should keep a copied snapshot when the buffers are reused")
+    void testCopyIsStable() {
+        SimpleBoard board = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH);
+        board.createNewBrick();
+
+        ViewData kept = board.getViewData().copy();
+        int keptY = kept.getyPosition();
+        for (int i = 0; i < 3; i++) {
+            board.moveBrickDown();
+            board.getViewData();
+        }
+
+        assertEquals(keptY, kept.getyPosition(), "Copied snapshot should not change");
+    }
+}
@@ -0,0 +1,90 @@
+package com.comp2042.model.board;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class WallShiftTest {
+
+    private static final int BOARD_HEIGHT = 25;
+    private static final int BOARD_WIDTH = 10;
+
+    @Test
+    @DisplayName("Should slide to the left and right walls on an empty board")
+    void testEmptyBoardWalls() {
+        SimpleBoard board = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH);
+        board.createNewBrick();
+
+        int startX = board.getViewData().getxPosition();
+        int moved = board.moveBrickToWall(-1);
+
+        assertEquals(startX - board.getViewData().getxPosition(), moved, "Should report the columns moved");
+        assertFalse(board.moveBrickLeft(), "Brick should be against the left wall");
+
+        board.moveBrickToWall(1);
+        assertFalse(board.moveBrickRight(), "Brick should be against the right wall");
+    }
+
+    @Test
+    @DisplayName("Should stop where repeated single moves stop on random boards")
+    void testMatchesRepeatedMoves() {
+        Random random = new Random(2042);
+
+        for (int trial = 0; trial < 200; trial++) {
+            SimpleBoard simple = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH);
+            simple.loadBoard(randomStack(random));
+            simple.createNewBrick();
+            for (int drop = random.nextInt(20); drop > 0 && simple.moveBrickDown(); drop--) {
+                // Lower the brick into the stack, sometimes under an overhang
+            }
+
+            assertWallMatchesSteps(simple, -1);
+            assertWallMatchesSteps(simple, 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should slide bit board bricks to the walls")
+    void testBitBoardWalls() {
+        BitBoard board = new BitBoard(BOARD_HEIGHT, BOARD_WIDTH);
+        board.createNewBrick();
+
+        board.moveBrickToWall(-1);
+        assertFalse(board.moveBrickLeft(), "Brick should be against the left wall");
+
+        board.moveBrickToWall(1);
+        assertFalse(board.moveBrickRight(), "Brick should be against the right wall");
+    }
+
+    /**
+     * Slides to a wall, then walks back to it one column at a time from the other
+     * side; both must stop at the same column.
+     */
+    private void assertWallMatchesSteps(SimpleBoard board, int direction) {
+        board.moveBrickToWall(direction);
+        int wallX = board.getViewData().getxPosition();
+
+        board.moveBrickToWall(-direction);
+        while (direction < 0 ? board.moveBrickLeft() : board.moveBrickRight()) {
+            // Step back towards the wall
+        }
+
+        assertEquals(wallX, board.getViewData().getxPosition(), "Wall shift should stop where single moves stop");
+    }
+
+    private int[][] randomStack(Random random) {
+        int[][] matrix = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        for (int row = 8; row < BOARD_HEIGHT; row++) {
+            for (int col = 0; col < BOARD_WIDTH; col++) {
+                if (random.nextInt(3) == 0) {
+                    matrix[row][col] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return matrix;
+    }
+}
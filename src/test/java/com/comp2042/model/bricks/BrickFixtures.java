@@ -0,0 +1,38 @@
+package com.comp2042.model.bricks;
+
+/**
+ * Gives tests in other packages direct access to the package-private brick types.
+ */
+public final class BrickFixtures {
+
+    private BrickFixtures() {
+    }
+
+    public static Brick iBrick() {
+        return new IBrick();
+    }
+
+    public static Brick jBrick() {
+        return new JBrick();
+    }
+
+    public static Brick lBrick() {
+        return new LBrick();
+    }
+
+    public static Brick oBrick() {
+        return new OBrick();
+    }
+
+    public static Brick sBrick() {
+        return new SBrick();
+    }
+
+    public static Brick tBrick() {
+        return new TBrick();
+    }
+
+    public static Brick zBrick() {
+        return new ZBrick();
+    }
+}
@@ -0,0 +1,71 @@
+package com.comp2042.model.bricks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class BrickShapeTest {
+
+    private static final Brick[] ALL_BRICKS = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(),
+            new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    @Test
+    @DisplayName("Should share one rotation table across brick instances")
+    void testShapesAreShared() {
+        assertSame(new TBrick().getShape(0), new TBrick().getShape(0),
+                "Every TBrick should read the same precomputed shape");
+        assertSame(new TBrick().getShape(0).getMatrix(), new TBrick().getShape(0).getMatrix(),
+                "Shape matrix should not be copied on access");
+    }
+
+    @Test
+    @DisplayName("Should describe four cells matching the shape matrix for every rotation")
+    void testCellsMatchMatrix() {
+        for (Brick brick : ALL_BRICKS) {
+            List<int[][]> matrices = brick.getShapeMatrix();
+            assertEquals(matrices.size(), brick.getRotationCount(), "Rotation count should match matrix list");
+
+            for (int rotation = 0; rotation < brick.getRotationCount(); rotation++) {
+                BrickShape shape = brick.getShape(rotation);
+                int[][] matrix = matrices.get(rotation);
+
+                assertEquals(4, shape.getCellCount(), "Every tetromino has four cells");
+                for (int cell = 0; cell < shape.getCellCount(); cell++) {
+                    int x = shape.getCellX(cell);
+                    int y = shape.getCellY(cell);
+                    assertNotEquals(0, matrix[y][x], "Cell offset should point at a filled matrix cell");
+                    assertTrue(x >= shape.getMinX() && x <= shape.getMaxX(), "Cell should be inside bounds");
+                    assertTrue(y >= shape.getMinY() && y <= shape.getMaxY(), "Cell should be inside bounds");
+                    assertNotEquals(0, shape.getRowBits(y) & (1 << x), "Row bitmask should contain the cell");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep returning defensive copies from getShapeMatrix")
+    void testShapeMatrixIsCopied() {
+        Brick brick = new IBrick();
+        brick.getShapeMatrix().get(0)[1][0] = 0;
+
+        assertEquals(1, brick.getShape(0).getMatrix()[1][0], "Shared table should not be modified");
+        assertEquals(1, brick.getShapeMatrix().get(0)[1][0], "Fresh copy should be unaffected");
+    }
+
+    @Test
+    @DisplayName("Should compute bounding box of the I brick")
+    void testBounds() {
+        BrickShape horizontal = new IBrick().getShape(0);
+
+        assertEquals(0, horizontal.getMinX());
+        assertEquals(3, horizontal.getMaxX());
+        assertEquals(1, horizontal.getMinY());
+        assertEquals(1, horizontal.getMaxY());
+    }
+}
@@ -0,0 +1,93 @@
+package com.comp2042.model.bricks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class SeededBrickGeneratorTest {
+
+    private static final int BRICK_TYPES = 7;
+
+    @Test
+    @DisplayName("Should produce the same sequence for the same seed")
+    void testSameSeedSameSequence() {
+        for (RandomizerMode mode : RandomizerMode.values()) {
+            SeededBrickGenerator first = new SeededBrickGenerator(42, mode);
+            SeededBrickGenerator second = new SeededBrickGenerator(42, mode);
+
+            for (int i = 0; i < 500; i++) {
+                assertSame(first.getBrick(), second.getBrick(), "Sequences should match in " + mode + " mode");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should produce different sequences for different seeds")
+    void testDifferentSeeds() {
+        SeededBrickGenerator first = new SeededBrickGenerator(1, RandomizerMode.UNIFORM);
+        SeededBrickGenerator second = new SeededBrickGenerator(2, RandomizerMode.UNIFORM);
+
+        boolean differs = false;
+        for (int i = 0; i < 100 && !differs; i++) {
+            differs = first.getBrick() != second.getBrick();
+        }
+        assertTrue(differs, "Different seeds should give different sequences");
+    }
+
+    @Test
+    @DisplayName("Should deal one of each brick type per bag")
+    void testSevenBagContainsEveryType() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(7, RandomizerMode.SEVEN_BAG);
+
+        for (int bag = 0; bag < 50; bag++) {
+            Set<Class<?>> types = new HashSet<>();
+            for (int i = 0; i < BRICK_TYPES; i++) {
+                types.add(generator.getBrick().getClass());
+            }
+            assertEquals(BRICK_TYPES, types.size(), "Each bag should hold all seven types");
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep a preview queue of the configured depth")
+    void testPreviewDepth() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(3, RandomizerMode.SEVEN_BAG, 5);
+        assertEquals(5, generator.getPreview().size(), "Preview should hold five bricks");
+
+        Brick next = generator.getNextBrick();
+        Brick secondPreview = generator.getPreview().get(1);
+
+        assertSame(next, generator.getBrick(), "getBrick should return the previewed brick");
+        assertSame(secondPreview, generator.getNextBrick(), "Preview should advance by one");
+        assertEquals(5, generator.getPreview().size(), "Preview should stay full");
+    }
+
+    @Test
+    @DisplayName("Should preview at least two bricks by default")
+    void testDefaultPreviewDepth() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(3, RandomizerMode.SEVEN_BAG);
+
+        assertEquals(2, generator.getPreviewDepth(), "Default depth should match the original generator");
+        assertEquals(2, generator.getPreview().size(), "Preview should hold two bricks");
+    }
+
+    @Test
+    @DisplayName("Should reject a preview depth below one")
+    void testRejectsEmptyPreview() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SeededBrickGenerator(0, RandomizerMode.UNIFORM, 0));
+    }
+
+    @Test
+    @DisplayName("Should parse randomizer names and fall back to uniform")
+    void testRandomizerFromName() {
+        assertEquals(RandomizerMode.SEVEN_BAG, RandomizerMode.fromName(" seven_bag "), "Names should be case-insensitive");
+        assertEquals(RandomizerMode.UNIFORM, RandomizerMode.fromName("unknown"), "Unknown names should be uniform");
+        assertEquals(RandomizerMode.UNIFORM, RandomizerMode.fromName(null), "Missing names should be uniform");
+    }
+}
@@ -59,12 +59,55 @@ class ScoringSystemTest {
     }
 
     @Test
-    @DisplayName("Should bind to property correctly")
-    void testScoreProperty() {
-        assertNotNull(score.scoreProperty(), "Score property should not be null");
+    @DisplayName("Should keep exact totals past the int range and saturate the int value")
+    void testLongTotalSaturates() {
+        for (int i = 0; i < 3; i++) {
+            score.add(Integer.MAX_VALUE);
+        }
+
+        assertEquals(3L * Integer.MAX_VALUE, score.getTotal(), "Total should not overflow");
+        assertEquals(Integer.MAX_VALUE, score.getValue(), "Int value should saturate");
+    }
+
+    @Test
+    @DisplayName("Should count combos across consecutive clearing locks")
+    void testComboTracking() {
+        assertEquals(-1, score.getCombo(), "No combo before any clear");
+
+        score.recordLock(1, false);
+        assertEquals(0, score.getCombo(), "First clear should start the combo at 0");
+        score.recordLock(2, false);
+        assertEquals(1, score.getCombo(), "Second consecutive clear should be combo 1");
+
+        score.recordLock(0, false);
+        assertEquals(-1, score.getCombo(), "A lock without clears should end the combo");
+    }
+
+    @Test
+    @DisplayName("Should keep back-to-back across non-clearing locks and break it on easy clears")
+    void testBackToBackTracking() {
+        score.recordLock(4, true);
+        assertFalse(score.isBackToBack(), "First difficult clear is not back-to-back");
+
+        score.recordLock(0, false);
+        score.recordLock(4, true);
+        assertTrue(score.isBackToBack(), "Non-clearing locks should not break the streak");
+
+        score.recordLock(1, false);
+        assertFalse(score.isBackToBack(), "An easy clear should break the streak");
+        score.recordLock(4, true);
+        assertFalse(score.isBackToBack(), "Streak should restart after an easy clear");
+    }
+
+    @Test
+    @DisplayName("Should reset streaks with the score")
+    void testResetClearsStreaks() {
+        score.recordLock(4, true);
+        score.recordLock(4, true);
+        score.reset();
 
-        score.add(250);
-        assertEquals(250, score.scoreProperty().get(),
-                "Property should reflect score value");
+        assertEquals(0, score.getTotal(), "Total should reset");
+        assertEquals(-1, score.getCombo(), "Combo should reset");
+        assertFalse(score.isBackToBack(), "Back-to-back should reset");
     }
 }
@@ -0,0 +1,114 @@
+package com.comp2042.view.render;
+
+import com.comp2042.logic.clear.ClearRow;
+import com.comp2042.logic.clear.LockResult;
+import com.comp2042.model.board.SimpleBoard;
+import com.comp2042.model.bricks.BrickFixtures;
+import com.comp2042.model.bricks.BrickShape;
+import com.comp2042.view.ViewData;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class RectangleBoardRendererTest {
+
+    private static final int BOARD_HEIGHT = 25;
+    private static final int BOARD_WIDTH = 10;
+
+    private RectangleBoardRenderer renderer;
+    private int[][] board;
+
+    @BeforeEach
+    void setUp() {
+        board = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        int[][] brick = {{0, 0, 0, 0}, {1, 1, 1, 1}, {0, 0, 0, 0}, {0, 0, 0, 0}};
+        renderer = new RectangleBoardRenderer(new GridPane(), new GridPane(), new GridPane(), new Pane());
+        renderer.initialize(board, new ViewData(brick, 4, 0, brick, 20));
+    }
+
+    @Test
+    @DisplayName("Should only repaint cells changed by a lock")
+    void testOnlyChangedCellsRepainted() {
+        for (int col = 0; col < 4; col++) {
+            board[BOARD_HEIGHT - 1][col] = 1;
+        }
+
+        renderer.renderBackground(board);
+
+        assertEquals(4, renderer.getCellsTouched(), "Only the four locked cells should be repainted");
+    }
+
+    @Test
+    @DisplayName("Should not repaint an unchanged board")
+    void testUnchangedBoardNotRepainted() {
+        board[BOARD_HEIGHT - 1][0] = 3;
+        renderer.renderBackground(board);
+
+        renderer.renderBackground(board);
+
+        assertEquals(0, renderer.getCellsTouched(), "Unchanged board should touch no cells");
+    }
+
+    @Test
+    @DisplayName("Should repaint shifted rows after a clear")
+    void testClearedRowsRepainted() {
+        board[BOARD_HEIGHT - 2][0] = 2;
+        renderer.renderBackground(board);
+
+        board[BOARD_HEIGHT - 2][0] = 0;
+        board[BOARD_HEIGHT - 1][0] = 2;
+        renderer.renderBackground(board);
+
+        assertEquals(2, renderer.getCellsTouched(), "Shifted cell should repaint its old and new position");
+    }
+
+    @Test
+    @DisplayName("Should repaint only the locked cells reported by a lock result")
+    void testRenderLockTouchesLockedCells() {
+        SimpleBoard simpleBoard = new SimpleBoard(BOARD_HEIGHT, BOARD_WIDTH);
+        simpleBoard.createNewBrick();
+        simpleBoard.hardDropBrick();
+        ViewData view = simpleBoard.getViewData();
+        simpleBoard.mergeBrickToBackground();
+        ClearRow clearRow = simpleBoard.clearRows();
+        LockResult lock = LockResult.of(simpleBoard.getCurrentBrick().getShape(simpleBoard.getCurrentRotation()),
+                view.getxPosition(), view.getyPosition(), clearRow, 0, 0, 1, 1);
+
+        renderer.renderLock(simpleBoard.getBoardMatrix(), lock);
+
+        assertEquals(4, renderer.getCellsTouched(), "Only the four locked cells should be repainted");
+        renderer.renderBackground(simpleBoard.getBoardMatrix());
+        assertEquals(0, renderer.getCellsTouched(), "Lock repaint should leave nothing for a full diff");
+    }
+
+    @Test
+    @DisplayName("Should repaint locked cells below the lowest cleared row")
+    void testRenderLockPaintsCellsBelowClearedRow() {
+        int clearedRow = BOARD_HEIGHT - 4;
+        for (int col = 1; col < BOARD_WIDTH; col++) {
+            board[clearedRow][col] = 2;
+        }
+        renderer.renderBackground(board);
+
+        // A vertical I fills column 0 from the cleared row down; only its top cell is removed
+        BrickShape vertical = BrickFixtures.iBrick().getShape(1);
+        int[][] afterClear = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        for (int row = clearedRow + 1; row < BOARD_HEIGHT; row++) {
+            afterClear[row][0] = vertical.getColor();
+        }
+        ClearRow clearRow = new ClearRow(1, afterClear, 100, 1L << clearedRow);
+        LockResult lock = LockResult.of(vertical, -1, clearedRow, clearRow, 100, 100, 1, 1);
+
+        renderer.renderLock(afterClear, lock);
+
+        assertEquals(BOARD_WIDTH - 1 + 3, renderer.getCellsTouched(),
+                "Cleared row and the three surviving locked cells should be repainted");
+        renderer.renderBackground(afterClear);
+        assertEquals(0, renderer.getCellsTouched(), "Lock repaint should leave nothing for a full diff");
+    }
+}
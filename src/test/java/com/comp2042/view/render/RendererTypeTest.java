@@ -0,0 +1,25 @@
+package com.comp2042.view.render;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class RendererTypeTest {
+
+    @Test
+    @DisplayName("Should parse renderer names case-insensitively")
+    void testParseNames() {
+        assertEquals(RendererType.CANVAS, RendererType.fromName("canvas"), "Should parse lower case name");
+        assertEquals(RendererType.CANVAS, RendererType.fromName(" Canvas "), "Should ignore surrounding spaces");
+        assertEquals(RendererType.NODES, RendererType.fromName("NODES"), "Should parse upper case name");
+    }
+
+    @Test
+    @DisplayName("Should fall back to node renderer for unknown names")
+    void testFallback() {
+        assertEquals(RendererType.NODES, RendererType.fromName(null), "Missing name should use default");
+        assertEquals(RendererType.NODES, RendererType.fromName("webgl"), "Unknown name should use default");
+    }
+}